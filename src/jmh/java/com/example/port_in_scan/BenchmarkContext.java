@@ -0,0 +1,123 @@
+package com.example.port_in_scan;
+
+import com.example.port_in_scan.domain.member.entity.Role;
+import com.example.port_in_scan.domain.member.entity.User;
+import com.example.port_in_scan.domain.member.repository.UserRepository;
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioCreateRequestDto;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioCategory;
+import com.example.port_in_scan.domain.portfolio.service.PortfolioService;
+import com.example.port_in_scan.domain.search.service.RelatedKeywordService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/*
+ * 벤치마크용 애플리케이션 컨텍스트 (jmh 프로파일, H2 메모리 DB)
+ * 포크마다 한 번 띄우고 고정 시드로 사용자/포트폴리오/검색 히스토리를 생성해 둠
+ * 포트폴리오는 PortfolioService 로 생성하므로 커밋 후 이벤트로 검색 색인에도 반영됨
+ */
+public final class BenchmarkContext {
+
+    public static final int USER_COUNT = 50;
+    public static final int PORTFOLIO_COUNT = 2000;
+    public static final List<String> TECH_STACKS = List.of(
+            "Java", "Spring", "Kotlin", "React", "Vue", "TypeScript", "Python", "Django", "Go", "Rust",
+            "PostgreSQL", "Redis", "Kafka", "Docker", "Kubernetes", "AWS", "Flutter", "Swift", "Node.js", "Next.js");
+    public static final List<String> TAGS = List.of(
+            "사이드프로젝트", "팀프로젝트", "해커톤", "오픈소스", "졸업작품", "포트폴리오", "리팩토링", "성능개선",
+            "MSA", "실시간", "검색", "추천", "채팅", "결제", "커뮤니티");
+    public static final List<String> TITLE_WORDS = List.of(
+            "쇼핑몰", "블로그", "채팅", "게시판", "대시보드", "검색엔진", "스케줄러", "포트폴리오", "커뮤니티", "예약");
+
+    private static ConfigurableApplicationContext context;
+
+    private BenchmarkContext() {
+    }
+
+    public static synchronized ConfigurableApplicationContext get() {
+        if (context == null) {
+            context = new SpringApplicationBuilder(PortInScanApplication.class)
+                    .profiles("jmh")
+                    .run();
+            seed(context);
+        }
+        return context;
+    }
+
+    public static String userEmail(int index) {
+        return "bench" + index + "@example.com";
+    }
+
+    public static String username(int index) {
+        return "bench" + index;
+    }
+
+    private static void seed(ConfigurableApplicationContext context) {
+        Random random = new Random(42);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = userRepository.save(User.builder()
+                    .email(userEmail(i))
+                    .username(username(i))
+                    .password("password")
+                    .role(Role.USER)
+                    .build());
+            userIds.add(user.getIdx());
+        }
+
+        PortfolioService portfolioService = context.getBean(PortfolioService.class);
+        PortfolioCategory[] categories = PortfolioCategory.values();
+        for (int i = 0; i < PORTFOLIO_COUNT; i++) {
+            String word = pick(random, TITLE_WORDS);
+            portfolioService.createPortfolio(userEmail(random.nextInt(USER_COUNT)), PortfolioCreateRequestDto.builder()
+                    .title(word + " 프로젝트 " + i)
+                    .description(pick(random, TITLE_WORDS) + " 기능을 " + pick(random, TECH_STACKS) + " 로 구현한 " + word + " 서비스")
+                    .category(categories[random.nextInt(categories.length)])
+                    .techStacks(sample(random, TECH_STACKS, 1 + random.nextInt(4)))
+                    .tags(sample(random, TAGS, 1 + random.nextInt(3)))
+                    .build());
+        }
+
+        seedSearchHistories(context, random, userIds);
+        context.getBean(RelatedKeywordService.class).refresh();
+    }
+
+    // 사용자별로 짧은 간격의 검색을 이어서 넣어 연관 검색어 동시 출현이 생기도록 함
+    private static void seedSearchHistories(ConfigurableApplicationContext context, Random random, List<Long> userIds) {
+        NamedParameterJdbcTemplate jdbcTemplate = context.getBean(NamedParameterJdbcTemplate.class);
+        LocalDateTime start = LocalDateTime.now().minusHours(6);
+        List<MapSqlParameterSource> rows = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            rows.add(new MapSqlParameterSource()
+                    .addValue("keyword", pick(random, random.nextBoolean() ? TITLE_WORDS : TECH_STACKS))
+                    .addValue("searchType", "KEYWORD")
+                    .addValue("resultCount", (long) random.nextInt(100))
+                    .addValue("userIdx", userIds.get(i % userIds.size()))
+                    .addValue("searchedAt", Timestamp.valueOf(start.plusSeconds(i * 4L)))
+                    .addValue("ipAddress", "10.0.0." + (i % userIds.size())));
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO search_histories " +
+                        "(keyword, search_type, result_count, user_idx, searched_at, ip_address) " +
+                        "VALUES (:keyword, :searchType, :resultCount, :userIdx, :searchedAt, :ipAddress)",
+                rows.toArray(MapSqlParameterSource[]::new));
+    }
+
+    private static String pick(Random random, List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static List<String> sample(Random random, List<String> values, int count) {
+        List<String> shuffled = new ArrayList<>(values);
+        Collections.shuffle(shuffled, random);
+        return new ArrayList<>(shuffled.subList(0, count));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.port_in_scan.domain.portfolio.dto;
+
+import com.example.port_in_scan.domain.member.entity.Role;
+import com.example.port_in_scan.domain.member.entity.User;
+import com.example.port_in_scan.domain.portfolio.entity.Portfolio;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioCategory;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 엔티티 -> 응답 DTO 변환 (DB 없이 메모리 엔티티로 매핑 비용만 측정)
+ * from: 상세 조회용 (작성자/컬렉션을 엔티티에서 읽음), of: 목록 조회용 (미리 조회한 값 사용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PortfolioResponseDtoBenchmark {
+
+    @Param({"1", "20"})
+    private int listSize;
+
+    private Portfolio portfolio;
+    private List<Portfolio> portfolios;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        User user = User.builder()
+                .idx(1L)
+                .email("bench@example.com")
+                .username("bench")
+                .role(Role.USER)
+                .build();
+
+        portfolios = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            portfolios.add(Portfolio.builder()
+                    .portfolioId((long) i + 1)
+                    .title("검색엔진 프로젝트 " + i)
+                    .description("Spring Boot 와 Redis 로 구현한 검색 서비스 ".repeat(10))
+                    .githubUrl("https://github.com/example/project-" + i)
+                    .category(PortfolioCategory.BACKEND)
+                    .viewCount(1000L + i)
+                    .likeCount(10L + i)
+                    .techStacks(new ArrayList<>(List.of("Java", "Spring", "Redis", "PostgreSQL")))
+                    .tags(new ArrayList<>(List.of("검색", "성능개선")))
+                    .user(user)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        portfolio = portfolios.get(0);
+    }
+
+    @Benchmark
+    public PortfolioResponseDto from() {
+        return PortfolioResponseDto.from(portfolio);
+    }
+
+    @Benchmark
+    public List<PortfolioResponseDto> ofList() {
+        List<PortfolioResponseDto> result = new ArrayList<>(portfolios.size());
+        for (Portfolio each : portfolios) {
+            result.add(PortfolioResponseDto.of(each, "bench", "bench@example.com", each.getTechStacks(), each.getTags()));
+        }
+        return result;
+    }
+}
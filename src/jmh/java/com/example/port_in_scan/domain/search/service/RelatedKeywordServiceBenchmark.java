@@ -0,0 +1,32 @@
+package com.example.port_in_scan.domain.search.service;
+
+import com.example.port_in_scan.BenchmarkContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 검색 요청마다 호출되는 연관 검색어 조회 (미리 계산된 목록을 키워드 정규화 후 맵에서 조회)
+ * 시드 검색 히스토리로 refresh 를 한 번 실행한 상태에서 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RelatedKeywordServiceBenchmark {
+
+    @Param({"쇼핑몰", "  Spring ", "없는검색어"})
+    private String keyword;
+
+    private RelatedKeywordService relatedKeywordService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        relatedKeywordService = BenchmarkContext.get().getBean(RelatedKeywordService.class);
+    }
+
+    @Benchmark
+    public List<String> getRelatedKeywords() {
+        return relatedKeywordService.getRelatedKeywords(keyword);
+    }
+}
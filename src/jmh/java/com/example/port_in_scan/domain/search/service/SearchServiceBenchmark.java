@@ -0,0 +1,62 @@
+package com.example.port_in_scan.domain.search.service;
+
+import com.example.port_in_scan.BenchmarkContext;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioCategory;
+import com.example.port_in_scan.domain.search.dto.SearchRequestDto;
+import com.example.port_in_scan.domain.search.entity.SearchType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 검색 타입별 SearchService.executeSearch (검색 결과 캐시를 거치지 않는 검색 엔진 실행 + DTO 조립)
+ * search() 와 같이 읽기 트랜잭션 안에서 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SearchServiceBenchmark {
+
+    @Param({"KEYWORD", "TECH_STACK", "TAG", "CATEGORY", "AUTHOR", "COMPLEX"})
+    private SearchType searchType;
+
+    private SearchService searchService;
+    private TransactionTemplate transactionTemplate;
+    private SearchRequestDto requestDto;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ConfigurableApplicationContext context = BenchmarkContext.get();
+        searchService = context.getBean(SearchService.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+
+        requestDto = switch (searchType) {
+            case KEYWORD -> SearchRequestDto.builder().searchType(searchType).keyword("쇼핑몰").build();
+            case TECH_STACK -> SearchRequestDto.builder().searchType(searchType).keyword("Spring")
+                    .techStacks(List.of("Spring", "Redis")).build();
+            case TAG -> SearchRequestDto.builder().searchType(searchType).keyword("검색")
+                    .tags(List.of("검색", "실시간")).build();
+            case CATEGORY -> SearchRequestDto.builder().searchType(searchType).keyword("프로젝트")
+                    .category(PortfolioCategory.BACKEND).build();
+            case AUTHOR -> SearchRequestDto.builder().searchType(searchType).keyword(BenchmarkContext.username(7))
+                    .author(BenchmarkContext.username(7)).build();
+            case COMPLEX -> SearchRequestDto.builder().searchType(searchType).keyword("서비스")
+                    .category(PortfolioCategory.WEB).techStacks(List.of("React")).tags(List.of("팀프로젝트")).build();
+        };
+        pageable = PageRequest.of(requestDto.getPage(), requestDto.getSize(), Sort.by(requestDto.getSortBy()).descending());
+    }
+
+    @Benchmark
+    public SearchResultCache.Result executeSearch() {
+        return transactionTemplate.execute(status -> searchService.executeSearch(requestDto, pageable));
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.port_in_scan.global;
+
+import com.example.port_in_scan.domain.member.auth.token.InMemoryRefreshTokenStore;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 요청마다 실행되는 JWT 생성/검증 경로
+ * - isTokenValid/extractId 는 같은 토큰을 반복 검증하므로 검증 결과 캐시 적중 경로를 측정
+ * - isTokenValidUncached 는 캐시를 끈 서비스로 서명 검증/디코딩 비용을 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    private AnnotationConfigApplicationContext cachedContext;
+    private AnnotationConfigApplicationContext uncachedContext;
+    private JwtService jwtService;
+    private JwtService uncachedJwtService;
+    private String accessToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cachedContext = context(10000);
+        uncachedContext = context(0);
+        jwtService = cachedContext.getBean(JwtService.class);
+        uncachedJwtService = uncachedContext.getBean(JwtService.class);
+        accessToken = jwtService.createAccessToken("bench@example.com", "ROLE_USER");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cachedContext.close();
+        uncachedContext.close();
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtService.createAccessToken("bench@example.com", "ROLE_USER");
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(accessToken);
+    }
+
+    @Benchmark
+    public boolean isTokenValidUncached() {
+        return uncachedJwtService.isTokenValid(accessToken);
+    }
+
+    @Benchmark
+    public Optional<String> extractId() {
+        return jwtService.extractId(accessToken);
+    }
+
+    // JwtService 와 메모리 리프레시 토큰 저장소만 등록한 컨텍스트
+    private static AnnotationConfigApplicationContext context(int cacheSize) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("jmh", Map.of(
+                "jwt.secretKey", "jmhsecretkeyjmhsecretkeyjmhsecretkey",
+                "jwt.access.expiration", "1800000",
+                "jwt.access.header", "Authorization",
+                "jwt.access.cache-size", String.valueOf(cacheSize),
+                "jwt.refresh.expiration", "1209600000",
+                "jwt.refresh.header", "Authorization-refresh",
+                "jwt.refresh.store", "memory")));
+        context.register(InMemoryRefreshTokenStore.class, JwtService.class);
+        context.refresh();
+        return context;
+    }
+}
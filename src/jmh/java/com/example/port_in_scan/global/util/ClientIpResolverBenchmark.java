@@ -0,0 +1,38 @@
+package com.example.port_in_scan.global.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 검색 요청마다 실행되는 클라이언트 IP 추출
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClientIpResolverBenchmark {
+
+    @Param({"FORWARDED_CHAIN", "FORWARDED_SINGLE", "REAL_IP", "REMOTE_ADDR"})
+    private String source;
+
+    private String xForwardedFor;
+    private String xRealIp;
+    private String remoteAddr;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        remoteAddr = "10.0.0.12";
+        switch (source) {
+            case "FORWARDED_CHAIN" -> xForwardedFor = "203.0.113.7, 198.51.100.23, 10.0.0.3, 10.0.0.4";
+            case "FORWARDED_SINGLE" -> xForwardedFor = "203.0.113.7";
+            case "REAL_IP" -> xRealIp = "203.0.113.7";
+            default -> {
+            }
+        }
+    }
+
+    @Benchmark
+    public String resolve() {
+        return ClientIpResolver.resolve(xForwardedFor, xRealIp, remoteAddr);
+    }
+}
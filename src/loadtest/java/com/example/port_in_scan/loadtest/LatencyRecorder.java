@@ -0,0 +1,68 @@
+package com.example.port_in_scan.loadtest;
+
+import java.util.Arrays;
+
+/*
+ * 작업 종류별 응답 시간(ns) 기록
+ * 워커 스레드마다 하나씩 두고 측정이 끝난 뒤 merge 로 합쳐서 백분위를 계산 (기록 중 동기화 없음)
+ */
+final class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int size;
+    private long errors;
+    private long authErrors;
+
+    void record(long latencyNanos) {
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+        latencies[size++] = latencyNanos;
+    }
+
+    void error() {
+        errors++;
+    }
+
+    // 401/403 은 오류에 포함하면서 따로도 집계
+    void authError() {
+        errors++;
+        authErrors++;
+    }
+
+    void merge(LatencyRecorder other) {
+        if (size + other.size > latencies.length) {
+            latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, size + other.size));
+        }
+        System.arraycopy(other.latencies, 0, latencies, size, other.size);
+        size += other.size;
+        errors += other.errors;
+        authErrors += other.authErrors;
+    }
+
+    int count() {
+        return size;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    // merge 가 끝난 뒤 한 번만 호출 (내부 배열을 정렬함)
+    Summary summarize() {
+        Arrays.sort(latencies, 0, size);
+        return new Summary(size, errors, authErrors, percentileMillis(0.50), percentileMillis(0.99),
+                size > 0 ? latencies[size - 1] / 1_000_000.0 : 0);
+    }
+
+    private double percentileMillis(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * size) - 1;
+        return latencies[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    record Summary(int count, long errors, long authErrors, double p50Millis, double p99Millis, double maxMillis) {
+    }
+}
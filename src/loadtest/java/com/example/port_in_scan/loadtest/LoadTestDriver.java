@@ -0,0 +1,272 @@
+package com.example.port_in_scan.loadtest;
+
+import com.example.port_in_scan.global.seed.SeedVocabulary;
+import com.example.port_in_scan.global.seed.ZipfSampler;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * 부하 테스트 드라이버 (시드 데이터가 있는 서버에 혼합 트래픽 재생)
+ * ./gradlew loadTest --args='--base-url=http://localhost:8080 --duration=60 --concurrency=32'
+ *
+ * 옵션 (괄호는 기본값)
+ * --base-url (http://localhost:8080), --duration 측정 초 (60), --warmup 워밍업 초 (10)
+ * --concurrency 동시 워커 수 (32), --mix 작업 비율 (search=60,detail=25,list=10,login=5)
+ * --users 로그인에 쓸 시드 사용자 수 (1000), --password (seed-password)
+ * --zipf-exponent (1.1), --random-seed 시드 데이터와 같은 값 (42)
+ *
+ * 워커는 시작할 때 시드 사용자로 한 번 로그인해서 받은 Access Token 으로 /v1 요청을 보냄 (로그인 실패 시 중단)
+ * 워커는 응답을 받으면 바로 다음 요청을 보내는 closed-loop 방식이고, 워밍업 구간은 집계하지 않음
+ * 검색어와 상세 조회 대상은 시드 데이터와 같은 Zipf 분포 (상세 조회는 최근 ID 일수록 자주 조회)
+ * 상세 조회의 404 는 시드 데이터의 삭제/임시저장 포트폴리오이므로 오류로 세지 않음
+ * 401/403 은 오류에 포함하고 인증 오류 열에 따로 표시 (토큰 만료 등으로 측정이 무의미해졌는지 확인용)
+ */
+public final class LoadTestDriver {
+
+    enum Operation {
+        SEARCH, DETAIL, LIST, LOGIN
+    }
+
+    private static final Pattern PORTFOLIO_ID = Pattern.compile("\"portfolioId\"\\s*:\\s*(\\d+)");
+    private static final String ACCESS_TOKEN_HEADER = "Authorization";
+    private static final String BEARER = "Bearer ";
+    private static final String[] LIST_PATHS = {"/v1/portfolios/popular", "/v1/portfolios/most-liked", "/v1/portfolios/latest"};
+
+    private final String baseUrl;
+    private final Duration duration;
+    private final Duration warmup;
+    private final int concurrency;
+    private final Map<Operation, Integer> mix;
+    private final int users;
+    private final String password;
+    private final long randomSeed;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final List<String> keywords;
+    private final ZipfSampler keywordSampler;
+    private final ZipfSampler portfolioSampler;
+    private final long maxPortfolioId;
+
+    private LoadTestDriver(Map<String, String> options) {
+        baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+        warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        concurrency = Integer.parseInt(options.getOrDefault("concurrency", "32"));
+        mix = parseMix(options.getOrDefault("mix", "search=60,detail=25,list=10,login=5"));
+        users = Integer.parseInt(options.getOrDefault("users", "1000"));
+        password = options.getOrDefault("password", "seed-password");
+        randomSeed = Long.parseLong(options.getOrDefault("random-seed", "42"));
+
+        double zipfExponent = Double.parseDouble(options.getOrDefault("zipf-exponent", "1.1"));
+        keywords = SeedVocabulary.keywords(randomSeed);
+        keywordSampler = new ZipfSampler(keywords.size(), zipfExponent);
+        maxPortfolioId = findMaxPortfolioId();
+        portfolioSampler = new ZipfSampler((int) Math.min(maxPortfolioId, Integer.MAX_VALUE), zipfExponent);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션은 --name=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        new LoadTestDriver(options).run();
+    }
+
+    private void run() throws Exception {
+        System.out.printf("대상 %s, 워커 %d, 워밍업 %ds, 측정 %ds, 비율 %s, 포트폴리오 최대 ID %d%n",
+                baseUrl, concurrency, warmup.toSeconds(), duration.toSeconds(), mix, maxPortfolioId);
+
+        long measureStart = System.nanoTime() + warmup.toNanos();
+        long end = measureStart + duration.toNanos();
+        List<Future<Map<Operation, LatencyRecorder>>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                SplittableRandom random = new SplittableRandom(randomSeed + i);
+                String email = SeedVocabulary.email(i % users);
+                workers.add(executor.submit(() -> work(login(email), random, measureStart, end)));
+            }
+        }
+
+        Map<Operation, LatencyRecorder> merged = newRecorders();
+        for (Future<Map<Operation, LatencyRecorder>> worker : workers) {
+            worker.get().forEach((operation, recorder) -> merged.get(operation).merge(recorder));
+        }
+        report(merged);
+    }
+
+    private Map<Operation, LatencyRecorder> work(String accessToken, SplittableRandom random, long measureStart, long end) {
+        Map<Operation, LatencyRecorder> recorders = newRecorders();
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            Operation operation = pick(random, totalWeight);
+            int status;
+            try {
+                status = client.send(request(operation, accessToken, random), HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                status = -1;
+            }
+            if (now < measureStart) {
+                continue;
+            }
+            LatencyRecorder recorder = recorders.get(operation);
+            if (status == 401 || status == 403) {
+                recorder.authError();
+            } else if ((status > 0 && status < 400) || (operation == Operation.DETAIL && status == 404)) {
+                recorder.record(System.nanoTime() - now);
+            } else {
+                recorder.error();
+            }
+        }
+        return recorders;
+    }
+
+    private HttpRequest request(Operation operation, String accessToken, SplittableRandom random) {
+        return switch (operation) {
+            case SEARCH -> get("/v1/search?keyword="
+                    + URLEncoder.encode(SeedVocabulary.pick(keywords, keywordSampler, random), StandardCharsets.UTF_8), accessToken);
+            case DETAIL -> get("/v1/portfolios/" + (maxPortfolioId - portfolioSampler.sample(random)), accessToken);
+            case LIST -> get(LIST_PATHS[random.nextInt(LIST_PATHS.length)] + "?page=" + random.nextInt(3), accessToken);
+            case LOGIN -> loginRequest(SeedVocabulary.email(random.nextInt(users)));
+        };
+    }
+
+    private HttpRequest get(String path, String accessToken) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header(ACCESS_TOKEN_HEADER, BEARER + accessToken)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest loginRequest(String email) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"))
+                .build();
+    }
+
+    // 로그인 응답 헤더의 Access Token (서버는 Bearer 접두어 없이 내려줌)
+    private String login(String email) {
+        HttpResponse<Void> response;
+        try {
+            response = client.send(loginRequest(email), HttpResponse.BodyHandlers.discarding());
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("로그인 요청 실패: " + baseUrl, e);
+        }
+        String token = response.headers().firstValue(ACCESS_TOKEN_HEADER).orElse("");
+        if (response.statusCode() >= 400 || token.isBlank()) {
+            throw new IllegalStateException("로그인 실패 (" + response.statusCode() + "): " + email
+                    + ". seed 프로파일의 사용자/비밀번호(--password)를 확인하세요");
+        }
+        return token.startsWith(BEARER) ? token.substring(BEARER.length()) : token;
+    }
+
+    private Operation pick(SplittableRandom random, int totalWeight) {
+        int roll = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("작업 비율 합계 오류");
+    }
+
+    private void report(Map<Operation, LatencyRecorder> recorders) {
+        double seconds = duration.toMillis() / 1000.0;
+        System.out.printf("%n%-8s %10s %8s %8s %10s %10s %10s %10s%n",
+                "작업", "요청", "오류", "인증오류", "처리량/s", "p50(ms)", "p99(ms)", "max(ms)");
+        LatencyRecorder total = new LatencyRecorder();
+        recorders.forEach((operation, recorder) -> {
+            if (!mix.containsKey(operation)) {
+                return;
+            }
+            total.merge(recorder);
+            print(operation.name(), recorder.summarize(), seconds);
+        });
+        LatencyRecorder.Summary summary = total.summarize();
+        print("TOTAL", summary, seconds);
+        if (summary.authErrors() > 0) {
+            System.out.printf("%n경고: 401/403 응답 %d 건 (토큰 만료 또는 권한 설정 확인 필요)%n", summary.authErrors());
+        }
+    }
+
+    private static void print(String name, LatencyRecorder.Summary summary, double seconds) {
+        System.out.printf(Locale.ROOT, "%-8s %10d %8d %8d %10.1f %10.2f %10.2f %10.2f%n", name, summary.count(), summary.errors(),
+                summary.authErrors(), summary.count() / seconds, summary.p50Millis(), summary.p99Millis(), summary.maxMillis());
+    }
+
+    // 최신 목록 첫 항목의 ID 를 상세 조회 범위의 최대값으로 사용
+    private long findMaxPortfolioId() {
+        String accessToken = login(SeedVocabulary.email(0));
+        try {
+            HttpResponse<String> response = client.send(get("/v1/portfolios/latest?size=1", accessToken),
+                    HttpResponse.BodyHandlers.ofString());
+            Matcher matcher = PORTFOLIO_ID.matcher(response.body());
+            if (response.statusCode() < 400 && matcher.find()) {
+                return Long.parseLong(matcher.group(1));
+            }
+            throw new IllegalStateException("포트폴리오가 없습니다. seed 프로파일로 서버를 먼저 실행하세요 (" + response.statusCode() + ")");
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("포트폴리오 ID 조회 실패: " + baseUrl, e);
+        }
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.split("=");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("작업 비율이 비어 있습니다: " + value);
+        }
+        return weights;
+    }
+
+    private static Map<Operation, LatencyRecorder> newRecorders() {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+        return recorders;
+    }
+}
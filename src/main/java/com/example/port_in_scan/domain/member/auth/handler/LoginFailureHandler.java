@@ -1,5 +1,7 @@
 package com.example.port_in_scan.domain.member.auth.handler;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -11,8 +13,18 @@ import java.io.IOException;
 @Slf4j
 public class LoginFailureHandler extends SimpleUrlAuthenticationFailureHandler {
 
+    private final Counter loginFailures;
+
+    public LoginFailureHandler(MeterRegistry meterRegistry) {
+        this.loginFailures = Counter.builder("auth.login.attempts")
+                .description("로그인 시도 수")
+                .tag("result", "failure")
+                .register(meterRegistry);
+    }
+
     @Override
     public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response, AuthenticationException exception) throws IOException {
+        loginFailures.increment();
         response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
         response.setCharacterEncoding("UTF-8");
         response.setContentType("text/plain;charset=UTF-8");
@@ -1,13 +1,14 @@
 package com.example.port_in_scan.domain.member.auth.handler;
 
 import com.example.port_in_scan.domain.member.entity.User;
-import com.example.port_in_scan.domain.member.repository.UserRepository;
+import com.example.port_in_scan.domain.member.service.UserCache;
 import com.example.port_in_scan.exception.AppException;
 import com.example.port_in_scan.exception.ErrorCode;
 import com.example.port_in_scan.global.JwtService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -15,11 +16,20 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 
 @Slf4j
-@RequiredArgsConstructor
 public class LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final JwtService jwtService;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final Counter loginSuccesses;
+
+    public LoginSuccessHandler(JwtService jwtService, UserCache userCache, MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.userCache = userCache;
+        this.loginSuccesses = Counter.builder("auth.login.attempts")
+                .description("로그인 시도 수")
+                .tag("result", "success")
+                .register(meterRegistry);
+    }
 
     @Value("${jwt.access.expiration}")
     private String accessTokenExpiration;
@@ -28,7 +38,8 @@ public class LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
                                         Authentication authentication) {
         String email = extractUsername(authentication); // 인증 정보에서 Username(id) 추출
-        User user = userRepository.findByEmail(email).orElseThrow(
+        // 로그인 인증(CustomUserDetailService)에서 방금 캐시한 사용자를 재사용
+        User user = userCache.findByEmail(email).orElseThrow(
                 () -> new AppException(ErrorCode.USER_EMAIL_NOT_FOUND.getMessage(), ErrorCode.USER_EMAIL_NOT_FOUND)
         );
 
@@ -37,8 +48,8 @@ public class LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
         jwtService.sendAccessAndRefreshToken(response, accessToken); // 응답 헤더에 AccessToken, RefreshToken 실어서 응답
 
-        user.initRefreshToken(refreshToken);
-        userRepository.saveAndFlush(user);
+        jwtService.updateRefreshToken(email, refreshToken); // users 행은 갱신하지 않고 리프레시 토큰 저장소에만 저장
+        loginSuccesses.increment();
 
         log.info("로그인에 성공하였습니다. email : {}", email);
         log.info("로그인에 성공하였습니다. AccessToken : {}", accessToken);
@@ -1,8 +1,10 @@
 package com.example.port_in_scan.domain.member.auth.handler;
 
+import com.example.port_in_scan.global.JwtService;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.logout.LogoutSuccessHandler;
@@ -12,10 +14,15 @@ import java.io.IOException;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class LogoutSuccessCustomHandler implements LogoutSuccessHandler {
 
+    private final JwtService jwtService;
+
     @Override
     public void onLogoutSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException {
+        // 요청에 담긴 리프레시 토큰 폐기 (다른 기기의 세션은 유지)
+        jwtService.extractRefreshToken(request).ifPresent(jwtService::revokeRefreshToken);
         log.info("logout complete");
     }
 }
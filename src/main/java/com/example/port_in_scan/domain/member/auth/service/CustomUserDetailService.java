@@ -2,7 +2,7 @@ package com.example.port_in_scan.domain.member.auth.service;
 
 import com.example.port_in_scan.domain.member.auth.entity.CustomUserDetails;
 import com.example.port_in_scan.domain.member.entity.User;
-import com.example.port_in_scan.domain.member.repository.UserRepository;
+import com.example.port_in_scan.domain.member.service.UserCache;
 import com.example.port_in_scan.exception.AppException;
 import com.example.port_in_scan.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -15,11 +15,11 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class CustomUserDetailService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserCache userCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        User user = userCache.findByEmail(email)
                 .orElseThrow(() -> new AppException(ErrorCode.USER_EMAIL_UNMATCHED.getMessage(), ErrorCode.USER_EMAIL_UNMATCHED));
 
         return new CustomUserDetails(user);
@@ -0,0 +1,61 @@
+package com.example.port_in_scan.domain.member.auth.token;
+
+import com.example.port_in_scan.global.util.Hashes;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 메모리 리프레시 토큰 저장소 (테스트, 단일 서버 개발용)
+ * 서버를 재시작하면 모든 리프레시 토큰이 사라지므로 운영에서는 redis 사용
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.refresh.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<String, Entry> tokens = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(String refreshToken, String email, Duration ttl) {
+        tokens.put(Hashes.sha256(refreshToken), new Entry(email, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    @Override
+    public Optional<String> findEmail(String refreshToken) {
+        String digest = Hashes.sha256(refreshToken);
+        Entry entry = tokens.get(digest);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            tokens.remove(digest, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.email());
+    }
+
+    @Override
+    public void delete(String refreshToken) {
+        tokens.remove(Hashes.sha256(refreshToken));
+    }
+
+    @Override
+    public void deleteAll(String email) {
+        tokens.values().removeIf(entry -> entry.email().equals(email));
+    }
+
+    // 만료된 토큰 정리
+    @Scheduled(fixedDelay = 60000)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        tokens.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
+
+    private record Entry(String email, long expiresAt) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.port_in_scan.domain.member.auth.token;
+
+import com.example.port_in_scan.global.util.Hashes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+/*
+ * Redis 리프레시 토큰 저장소
+ * - refresh-token:{해시} → 이메일 (토큰 만료 시간과 같은 TTL)
+ * - refresh-token:user:{이메일} → 해시 집합 (전체 폐기용, 가장 최근 토큰의 TTL 로 갱신)
+ *   집합에 남은 만료된 해시는 전체 폐기 시 함께 지워도 문제 없음
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.refresh.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String TOKEN_KEY_PREFIX = "refresh-token:";
+    private static final String USER_KEY_PREFIX = "refresh-token:user:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void save(String refreshToken, String email, Duration ttl) {
+        String digest = Hashes.sha256(refreshToken);
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForValue().set(TOKEN_KEY_PREFIX + digest, email, ttl);
+                ops.opsForSet().add(USER_KEY_PREFIX + email, digest);
+                ops.expire(USER_KEY_PREFIX + email, ttl);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Optional<String> findEmail(String refreshToken) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(TOKEN_KEY_PREFIX + Hashes.sha256(refreshToken)));
+    }
+
+    @Override
+    public void delete(String refreshToken) {
+        String digest = Hashes.sha256(refreshToken);
+        String email = redisTemplate.opsForValue().getAndDelete(TOKEN_KEY_PREFIX + digest);
+        if (email != null) {
+            redisTemplate.opsForSet().remove(USER_KEY_PREFIX + email, digest);
+        }
+    }
+
+    @Override
+    public void deleteAll(String email) {
+        Set<String> digests = redisTemplate.opsForSet().members(USER_KEY_PREFIX + email);
+        if (digests != null && !digests.isEmpty()) {
+            redisTemplate.delete(digests.stream().map(digest -> TOKEN_KEY_PREFIX + digest).toList());
+        }
+        redisTemplate.delete(USER_KEY_PREFIX + email);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.port_in_scan.domain.member.auth.token;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/*
+ * 리프레시 토큰 저장소 (users 테이블 밖에서 관리)
+ * - 원본 토큰 대신 SHA-256 해시(Hashes.sha256)를 키로 저장하고, 만료 시간이 지나면 자동으로 사라짐
+ * - 한 사용자가 여러 기기에서 로그인할 수 있도록 사용자별로 여러 토큰을 보관
+ * - jwt.refresh.store 로 구현 선택 (redis: RedisRefreshTokenStore, memory: InMemoryRefreshTokenStore)
+ */
+public interface RefreshTokenStore {
+
+    // 리프레시 토큰 저장 (ttl 이 지나면 만료)
+    void save(String refreshToken, String email, Duration ttl);
+
+    // 리프레시 토큰의 사용자 이메일 조회, 없거나 만료되었으면 빈 Optional
+    Optional<String> findEmail(String refreshToken);
+
+    // 리프레시 토큰 하나 폐기 (로그아웃, 재발급)
+    void delete(String refreshToken);
+
+    // 사용자의 모든 리프레시 토큰 폐기
+    void deleteAll(String email);
+}
@@ -3,6 +3,9 @@ package com.example.port_in_scan.domain.member.entity;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.Arrays;
+import java.util.Optional;
+
 @Getter
 @AllArgsConstructor
 public enum Role {
@@ -11,4 +14,11 @@ public enum Role {
     ADMIN("ROLE_ADMIN");
 
     private final String roleName;
+
+    // 권한 이름(ROLE_USER 등)으로 조회
+    public static Optional<Role> fromRoleName(String roleName) {
+        return Arrays.stream(values())
+                .filter(role -> role.roleName.equals(roleName))
+                .findFirst();
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.port_in_scan.domain.member.entity;
 
+import com.example.port_in_scan.domain.member.service.UserCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,6 +14,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "users")
+@EntityListeners(UserCacheInvalidationListener.class)
 public class User {
 
     @Id
@@ -31,18 +33,10 @@ public class User {
     @Enumerated(EnumType.STRING)
     private Role role;
 
-    @Column(name = "refresh_token")
-    private String refreshToken;
-
     // 비밀번호 암호화
     public void passwordEncode(PasswordEncoder passwordEncoder) {
         this.password = passwordEncoder.encode(this.password);
     }
 
-    // refresh token 주입
-    public void initRefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
-    }
-
 }
 
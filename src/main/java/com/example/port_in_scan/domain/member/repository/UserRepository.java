@@ -14,8 +14,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByEmail(String email);
 
-    Optional<User> findByRefreshToken(String refreshToken);
-
     Optional<User> findByEmail(String userId);
 }
 
@@ -0,0 +1,75 @@
+package com.example.port_in_scan.domain.member.service;
+
+import com.example.port_in_scan.domain.member.entity.User;
+import com.example.port_in_scan.domain.member.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 이메일 기준 사용자 캐시 (인증 시 매 요청 users 조회를 줄이기 위함)
+ * - 항목은 ttl 이 지나면 다시 조회하고, 최대 max-size 개까지만 보관
+ * - 사용자 정보(권한 등)가 변경되면 UserCacheInvalidationListener 가 커밋 후 제거
+ * - 여러 서버에서는 다른 서버의 변경이 ttl 동안 늦게 반영될 수 있음
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCache {
+
+    private final UserRepository userRepository;
+
+    @Value("${auth.user-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${auth.user-cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public Optional<User> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+
+        long now = System.currentTimeMillis();
+        Entry cached = entries.get(email);
+        if (cached != null && cached.expiresAt() > now) {
+            return Optional.of(cached.user());
+        }
+
+        Optional<User> user = userRepository.findByEmail(email);
+        if (user.isPresent()) {
+            put(email, new Entry(user.get(), now + ttlMs), now);
+        } else {
+            entries.remove(email);
+        }
+        return user;
+    }
+
+    public void evict(String email) {
+        if (email != null) {
+            entries.remove(email);
+        }
+    }
+
+    // 가득 차면 만료된 항목을 정리하고, 그래도 가득 차 있으면 캐시하지 않음
+    private void put(String email, Entry entry, long now) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize && !entries.containsKey(email)) {
+            entries.values().removeIf(existing -> existing.expiresAt() <= now);
+            if (entries.size() >= maxSize) {
+                return;
+            }
+        }
+        entries.put(email, entry);
+    }
+
+    private record Entry(User user, long expiresAt) {
+    }
+}
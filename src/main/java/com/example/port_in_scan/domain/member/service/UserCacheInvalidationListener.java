@@ -0,0 +1,39 @@
+package com.example.port_in_scan.domain.member.service;
+
+import com.example.port_in_scan.domain.member.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ * User 엔티티 변경(권한 등) 시 사용자 캐시 제거
+ * 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 즉시 한 번, 커밋 후 한 번 더 제거
+ * 리스너는 EntityManagerFactory 생성 중에 만들어지므로 UserCache(→ UserRepository)는 ObjectProvider 로 지연 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener {
+
+    private final ObjectProvider<UserCache> userCacheProvider;
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        String email = user.getEmail();
+        UserCache userCache = userCacheProvider.getObject();
+        userCache.evict(email);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userCache.evict(email);
+                }
+            });
+        }
+    }
+}
@@ -1,15 +1,21 @@
 package com.example.port_in_scan.domain.portfolio.controller;
 
+import com.example.port_in_scan.domain.member.entity.Role;
 import com.example.port_in_scan.domain.portfolio.dto.PortfolioCreateRequestDto;
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioCursorResponseDto;
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioCursorSort;
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioImportResponseDto;
 import com.example.port_in_scan.domain.portfolio.dto.PortfolioResponseDto;
 import com.example.port_in_scan.domain.portfolio.dto.PortfolioUpdateRequestDto;
 import com.example.port_in_scan.domain.portfolio.entity.PortfolioCategory;
+import com.example.port_in_scan.domain.portfolio.service.PortfolioImportService;
 import com.example.port_in_scan.domain.portfolio.service.PortfolioService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -17,10 +23,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @Tag(name = "Portfolio", description = "포트폴리오 관리 API")
@@ -30,6 +38,7 @@ import java.util.List;
 public class PortfolioController {
 
     private final PortfolioService portfolioService;
+    private final PortfolioImportService portfolioImportService;
 
     @Operation(summary = "포트폴리오 생성", description = "새로운 포트폴리오를 생성합니다.")
     @ApiResponses(value = {
@@ -48,6 +57,25 @@ public class PortfolioController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(summary = "포트폴리오 일괄 가져오기", description = "NDJSON(한 줄에 포트폴리오 하나, 생성 요청과 같은 필드 + authorEmail)을 스트리밍으로 읽어 청크 단위로 저장합니다. "
+            + "잘못된 줄은 건너뛰고 줄 번호와 사유를 응답에 담습니다. authorEmail 로 다른 사용자 명의로 가져오려면 관리자 권한이 필요합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "가져오기 완료 (실패한 줄은 errors 에 포함)"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<PortfolioImportResponseDto> importPortfolios(
+            HttpServletRequest request,
+            Authentication authentication) throws IOException {
+
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> Role.ADMIN.getRoleName().equals(authority.getAuthority()));
+        PortfolioImportResponseDto response = portfolioImportService.importPortfolios(
+                request.getInputStream(), authentication.getName(), admin);
+
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "포트폴리오 상세 조회", description = "포트폴리오 ID로 상세 정보를 조회합니다. (조회수 증가)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
@@ -205,13 +233,15 @@ public class PortfolioController {
     @Operation(summary = "인기 포트폴리오 조회", description = "조회수가 높은 포트폴리오를 조회합니다.")
     @GetMapping("/popular")
     public ResponseEntity<Page<PortfolioResponseDto>> getPopularPortfolios(
+            @Parameter(description = "카테고리 (없으면 전체)")
+            @RequestParam(required = false) PortfolioCategory category,
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기", example = "10")
             @RequestParam(defaultValue = "10") int size) {
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<PortfolioResponseDto> portfolios = portfolioService.getPopularPortfolios(pageable);
+        Page<PortfolioResponseDto> portfolios = portfolioService.getPopularPortfolios(category, pageable);
         
         return ResponseEntity.ok(portfolios);
     }
@@ -219,13 +249,15 @@ public class PortfolioController {
     @Operation(summary = "좋아요 많은 포트폴리오 조회", description = "좋아요가 많은 포트폴리오를 조회합니다.")
     @GetMapping("/most-liked")
     public ResponseEntity<Page<PortfolioResponseDto>> getMostLikedPortfolios(
+            @Parameter(description = "카테고리 (없으면 전체)")
+            @RequestParam(required = false) PortfolioCategory category,
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기", example = "10")
             @RequestParam(defaultValue = "10") int size) {
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<PortfolioResponseDto> portfolios = portfolioService.getMostLikedPortfolios(pageable);
+        Page<PortfolioResponseDto> portfolios = portfolioService.getMostLikedPortfolios(category, pageable);
         
         return ResponseEntity.ok(portfolios);
     }
@@ -233,34 +265,150 @@ public class PortfolioController {
     @Operation(summary = "최신 포트폴리오 조회", description = "최근에 등록된 포트폴리오를 조회합니다.")
     @GetMapping("/latest")
     public ResponseEntity<Page<PortfolioResponseDto>> getLatestPortfolios(
+            @Parameter(description = "카테고리 (없으면 전체)")
+            @RequestParam(required = false) PortfolioCategory category,
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기", example = "10")
             @RequestParam(defaultValue = "10") int size) {
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<PortfolioResponseDto> portfolios = portfolioService.getLatestPortfolios(pageable);
+        Page<PortfolioResponseDto> portfolios = portfolioService.getLatestPortfolios(category, pageable);
         
         return ResponseEntity.ok(portfolios);
     }
 
-    @Operation(summary = "포트폴리오 좋아요", description = "포트폴리오에 좋아요를 추가합니다.")
+    @Operation(summary = "전체 포트폴리오 커서 조회", description = "활성화된 포트폴리오를 커서 기반으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다. "
+            + "POPULAR/MOST_LIKED 정렬의 경우 조회수/좋아요 수는 스크롤 중에도 바뀌므로 값이 바뀐 항목은 다음 페이지에서 빠지거나 중복될 수 있습니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<PortfolioCursorResponseDto> getPortfoliosByCursor(
+            @Parameter(description = "정렬 기준 (LATEST, POPULAR, MOST_LIKED)", example = "LATEST")
+            @RequestParam(defaultValue = "LATEST") PortfolioCursorSort sort,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        
+        return ResponseEntity.ok(portfolioService.getPortfoliosByCursor(sort, cursor, size));
+    }
+
+    @Operation(summary = "최신 포트폴리오 커서 조회", description = "최근에 등록된 포트폴리오를 커서 기반으로 조회합니다.")
+    @GetMapping("/latest/cursor")
+    public ResponseEntity<PortfolioCursorResponseDto> getLatestPortfoliosByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        
+        return ResponseEntity.ok(portfolioService.getPortfoliosByCursor(PortfolioCursorSort.LATEST, cursor, size));
+    }
+
+    @Operation(summary = "인기 포트폴리오 커서 조회", description = "조회수가 높은 포트폴리오를 커서 기반으로 조회합니다. "
+            + "조회수는 스크롤 중에도 바뀌므로 조회수가 바뀐 항목은 다음 페이지에서 빠지거나 중복될 수 있습니다.")
+    @GetMapping("/popular/cursor")
+    public ResponseEntity<PortfolioCursorResponseDto> getPopularPortfoliosByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        
+        return ResponseEntity.ok(portfolioService.getPortfoliosByCursor(PortfolioCursorSort.POPULAR, cursor, size));
+    }
+
+    @Operation(summary = "좋아요 많은 포트폴리오 커서 조회", description = "좋아요가 많은 포트폴리오를 커서 기반으로 조회합니다. "
+            + "좋아요 수는 스크롤 중에도 바뀌므로 좋아요 수가 바뀐 항목은 다음 페이지에서 빠지거나 중복될 수 있습니다.")
+    @GetMapping("/most-liked/cursor")
+    public ResponseEntity<PortfolioCursorResponseDto> getMostLikedPortfoliosByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        
+        return ResponseEntity.ok(portfolioService.getPortfoliosByCursor(PortfolioCursorSort.MOST_LIKED, cursor, size));
+    }
+
+    @Operation(summary = "카테고리별 포트폴리오 커서 조회", description = "특정 카테고리의 포트폴리오를 커서 기반으로 조회합니다.")
+    @GetMapping("/category/{category}/cursor")
+    public ResponseEntity<PortfolioCursorResponseDto> getPortfoliosByCategoryAndCursor(
+            @Parameter(description = "포트폴리오 카테고리", required = true)
+            @PathVariable PortfolioCategory category,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        
+        return ResponseEntity.ok(portfolioService.getPortfoliosByCategoryAndCursor(category, cursor, size));
+    }
+
+    @Operation(summary = "포트폴리오 커서 검색", description = "제목 또는 설명으로 포트폴리오를 커서 기반으로 검색합니다.")
+    @GetMapping("/search/cursor")
+    public ResponseEntity<PortfolioCursorResponseDto> searchPortfoliosByCursor(
+            @Parameter(description = "검색 키워드", required = true)
+            @RequestParam String keyword,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        
+        return ResponseEntity.ok(portfolioService.searchPortfoliosByCursor(keyword, cursor, size));
+    }
+
+    @Operation(summary = "기술 스택 커서 검색", description = "기술 스택으로 포트폴리오를 커서 기반으로 검색합니다.")
+    @GetMapping("/search/tech-stacks/cursor")
+    public ResponseEntity<PortfolioCursorResponseDto> searchByTechStacksByCursor(
+            @Parameter(description = "기술 스택 목록", required = true)
+            @RequestParam List<String> techStacks,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        
+        return ResponseEntity.ok(portfolioService.searchByTechStacksByCursor(techStacks, cursor, size));
+    }
+
+    @Operation(summary = "태그 커서 검색", description = "태그로 포트폴리오를 커서 기반으로 검색합니다.")
+    @GetMapping("/search/tags/cursor")
+    public ResponseEntity<PortfolioCursorResponseDto> searchByTagsByCursor(
+            @Parameter(description = "태그 목록", required = true)
+            @RequestParam List<String> tags,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        
+        return ResponseEntity.ok(portfolioService.searchByTagsByCursor(tags, cursor, size));
+    }
+
+    @Operation(summary = "포트폴리오 좋아요", description = "포트폴리오에 좋아요를 추가합니다. 이미 좋아요한 경우 변경되지 않습니다.")
     @PostMapping("/{portfolioId}/like")
     public ResponseEntity<Void> likePortfolio(
             @Parameter(description = "포트폴리오 ID", required = true)
-            @PathVariable Long portfolioId) {
+            @PathVariable Long portfolioId,
+            Authentication authentication) {
         
-        portfolioService.likePortfolio(portfolioId);
+        portfolioService.likePortfolio(portfolioId, authentication.getName());
         return ResponseEntity.ok().build();
     }
 
-    @Operation(summary = "포트폴리오 좋아요 취소", description = "포트폴리오 좋아요를 취소합니다.")
+    @Operation(summary = "포트폴리오 좋아요 취소", description = "포트폴리오 좋아요를 취소합니다. 좋아요하지 않은 경우 변경되지 않습니다.")
     @DeleteMapping("/{portfolioId}/like")
     public ResponseEntity<Void> unlikePortfolio(
             @Parameter(description = "포트폴리오 ID", required = true)
-            @PathVariable Long portfolioId) {
+            @PathVariable Long portfolioId,
+            Authentication authentication) {
         
-        portfolioService.unlikePortfolio(portfolioId);
+        portfolioService.unlikePortfolio(portfolioId, authentication.getName());
         return ResponseEntity.ok().build();
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "좋아요 여부 일괄 조회", description = "주어진 포트폴리오 중 로그인한 사용자가 좋아요한 포트폴리오 ID 목록을 조회합니다. (최대 100개)")
+    @GetMapping("/likes")
+    public ResponseEntity<List<Long>> getLikedPortfolioIds(
+            @Parameter(description = "포트폴리오 ID 목록", required = true)
+            @RequestParam List<Long> portfolioIds,
+            Authentication authentication) {
+        
+        List<Long> likedPortfolioIds = portfolioService.getLikedPortfolioIds(authentication.getName(), portfolioIds);
+        return ResponseEntity.ok(likedPortfolioIds);
+    }
+}
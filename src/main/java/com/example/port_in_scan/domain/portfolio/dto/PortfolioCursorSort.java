@@ -0,0 +1,12 @@
+package com.example.port_in_scan.domain.portfolio.dto;
+
+/*
+ * 커서 기반 목록 조회 정렬 기준 (모두 내림차순, 같은 값은 portfolioId 내림차순)
+ * POPULAR/MOST_LIKED 는 스크롤 중에도 바뀌는 값으로 위치를 찾으므로, 값이 바뀐 항목은 이후 페이지에서 빠지거나 중복될 수 있음
+ * (빠짐/중복 없이 끝까지 넘겨야 하는 목록은 LATEST 사용)
+ */
+public enum PortfolioCursorSort {
+    LATEST,     // createdAt
+    POPULAR,    // viewCount
+    MOST_LIKED  // likeCount
+}
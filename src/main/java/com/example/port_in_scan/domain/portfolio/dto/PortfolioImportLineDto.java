@@ -0,0 +1,27 @@
+package com.example.port_in_scan.domain.portfolio.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * 포트폴리오 일괄 가져오기 NDJSON 한 줄
+ * 포트폴리오 필드는 PortfolioCreateRequestDto 와 같고(같은 검증 규칙), 작성자 이메일만 추가됨
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioImportLineDto {
+
+    @Email(message = "작성자 이메일 형식이 올바르지 않습니다.")
+    private String authorEmail; // 없으면 가져오기를 요청한 사용자
+
+    @Valid
+    @JsonUnwrapped
+    private PortfolioCreateRequestDto portfolio;
+}
@@ -0,0 +1,30 @@
+package com.example.port_in_scan.domain.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioImportResponseDto {
+
+    private long totalLines; // 빈 줄을 제외한 줄 수
+    private long importedCount;
+    private long failedCount;
+    private List<LineError> errors;
+    private boolean errorsTruncated; // 실패가 많아 errors 에 일부만 담긴 경우 true
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LineError {
+
+        private long lineNumber; // 1부터 시작
+        private String message;
+    }
+}
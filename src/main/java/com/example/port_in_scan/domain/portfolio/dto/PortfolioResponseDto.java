@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class PortfolioResponseDto {
@@ -54,4 +54,27 @@ public class PortfolioResponseDto {
                 .updatedAt(portfolio.getUpdatedAt())
                 .build();
     }
+
+    // 작성자/컬렉션을 미리 조회해 둔 목록 조회용 (지연 로딩 없음)
+    public static PortfolioResponseDto of(Portfolio portfolio, String authorUsername, String authorEmail,
+                                          List<String> techStacks, List<String> tags) {
+        return PortfolioResponseDto.builder()
+                .portfolioId(portfolio.getPortfolioId())
+                .title(portfolio.getTitle())
+                .description(portfolio.getDescription())
+                .githubUrl(portfolio.getGithubUrl())
+                .demoUrl(portfolio.getDemoUrl())
+                .thumbnailUrl(portfolio.getThumbnailUrl())
+                .category(portfolio.getCategory())
+                .status(portfolio.getStatus())
+                .viewCount(portfolio.getViewCount())
+                .likeCount(portfolio.getLikeCount())
+                .techStacks(techStacks)
+                .tags(tags)
+                .authorUsername(authorUsername)
+                .authorEmail(authorEmail)
+                .createdAt(portfolio.getCreatedAt())
+                .updatedAt(portfolio.getUpdatedAt())
+                .build();
+    }
 }
\ No newline at end of file
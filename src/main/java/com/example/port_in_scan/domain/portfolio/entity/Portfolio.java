@@ -18,7 +18,13 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "portfolios")
+@Table(name = "portfolios", indexes = {
+        // 커서 기반 목록 조회용 (정렬 값, portfolio_id) 인덱스
+        @Index(name = "idx_portfolios_status_created", columnList = "status, created_at, portfolio_id"),
+        @Index(name = "idx_portfolios_status_views", columnList = "status, view_count, portfolio_id"),
+        @Index(name = "idx_portfolios_status_likes", columnList = "status, like_count, portfolio_id"),
+        @Index(name = "idx_portfolios_status_category_created", columnList = "status, category, created_at, portfolio_id")
+})
 public class Portfolio {
 
     @Id
@@ -0,0 +1,36 @@
+package com.example.port_in_scan.domain.portfolio.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "portfolio_likes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_portfolio_likes_user_portfolio", columnNames = {"user_idx", "portfolio_id"}),
+        indexes = @Index(name = "idx_portfolio_likes_portfolio", columnList = "portfolio_id"))
+public class PortfolioLike {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "portfolio_like_id")
+    private Long portfolioLikeId;
+
+    @Column(name = "user_idx", nullable = false)
+    private Long userIdx;
+
+    @Column(name = "portfolio_id", nullable = false)
+    private Long portfolioId;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,19 @@
+package com.example.port_in_scan.domain.portfolio.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/*
+ * 한 트랜잭션에서 여러 포트폴리오가 바뀐 경우의 묶음 이벤트 (일괄 가져오기 청크 등)
+ * 구독자는 포트폴리오마다가 아니라 묶음마다 한 번씩 반영 (검색 캐시 세대 증가, ES bulk 색인, 랭킹 일괄 반영)
+ */
+@Getter
+public class PortfolioBatchChangedEvent {
+
+    private final List<PortfolioChangedEvent> changes;
+
+    public PortfolioBatchChangedEvent(List<PortfolioChangedEvent> changes) {
+        this.changes = List.copyOf(changes);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.port_in_scan.domain.portfolio.event;
+
+import com.example.port_in_scan.domain.portfolio.entity.Portfolio;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioCategory;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * 포트폴리오 생성/수정/삭제(상태 변경) 이벤트
+ * 트랜잭션 커밋 이후 검색 색인, 랭킹 등에서 사용하므로 엔티티 대신 필요한 값만 복사해서 전달
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PortfolioChangedEvent {
+
+    private final Long portfolioId;
+    private final String title;
+    private final String description;
+    private final PortfolioCategory category;
+    private final PortfolioStatus status;
+    private final List<String> techStacks;
+    private final List<String> tags;
+    private final LocalDateTime createdAt;
+    private final Long viewCount;
+    private final Long likeCount;
+
+    public static PortfolioChangedEvent from(Portfolio portfolio) {
+        return of(portfolio, portfolio.getTechStacks(), portfolio.getTags());
+    }
+
+    public static PortfolioChangedEvent of(Portfolio portfolio, List<String> techStacks, List<String> tags) {
+        return new PortfolioChangedEvent(
+                portfolio.getPortfolioId(),
+                portfolio.getTitle(),
+                portfolio.getDescription(),
+                portfolio.getCategory(),
+                portfolio.getStatus(),
+                copyOf(techStacks),
+                copyOf(tags),
+                portfolio.getCreatedAt(),
+                portfolio.getViewCount(),
+                portfolio.getLikeCount()
+        );
+    }
+
+    private static List<String> copyOf(List<String> values) {
+        return values != null ? Collections.unmodifiableList(new ArrayList<>(values)) : List.of();
+    }
+
+    public boolean isActive() {
+        return status == PortfolioStatus.ACTIVE;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.port_in_scan.domain.portfolio.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * 포트폴리오 좋아요/좋아요 취소 이벤트 (좋아요 수가 실제로 바뀐 경우에만 발행)
+ * delta 는 좋아요 1, 취소 -1
+ */
+@Getter
+@AllArgsConstructor
+public class PortfolioLikeChangedEvent {
+
+    private final Long portfolioId;
+    private final long delta;
+}
@@ -0,0 +1,186 @@
+package com.example.port_in_scan.domain.portfolio.ranking;
+
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioCategory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/*
+ * 메모리 포트폴리오 랭킹 저장소 (테스트, 단일 서버용)
+ * - 랭킹/카테고리별로 (점수 내림차순, ID 내림차순) 정렬 집합을 유지
+ * - 서버마다 따로 유지되며 재시작 시 DB 에서 다시 적재
+ */
+@Component
+@ConditionalOnProperty(name = "portfolio.ranking.store", havingValue = "memory")
+public class InMemoryPortfolioRankingStore implements PortfolioRankingStore {
+
+    private static final Comparator<Ranked> ORDER = Comparator.comparingLong(Ranked::score)
+            .thenComparingLong(Ranked::portfolioId)
+            .reversed();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+    private volatile boolean built;
+
+    @Override
+    public void put(Entry entry) {
+        lock.writeLock().lock();
+        try {
+            state.put(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void putAll(List<Entry> entries) {
+        lock.writeLock().lock();
+        try {
+            entries.forEach(state::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long portfolioId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(portfolioId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void increment(PortfolioRanking ranking, Map<Long, Long> deltas) {
+        lock.writeLock().lock();
+        try {
+            deltas.forEach((portfolioId, delta) -> {
+                Entry entry = state.entries.get(portfolioId);
+                if (entry != null) {
+                    state.put(switch (ranking) {
+                        case VIEWS -> new Entry(portfolioId, entry.category(), entry.viewCount() + delta,
+                                entry.likeCount(), entry.createdAt());
+                        case LIKES -> new Entry(portfolioId, entry.category(), entry.viewCount(),
+                                entry.likeCount() + delta, entry.createdAt());
+                        case LATEST -> new Entry(portfolioId, entry.category(), entry.viewCount(),
+                                entry.likeCount(), entry.createdAt() + delta);
+                    });
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> range(PortfolioRanking ranking, PortfolioCategory category, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return state.board(ranking, category).stream()
+                    .skip(offset)
+                    .limit(limit)
+                    .map(Ranked::portfolioId)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long size(PortfolioRanking ranking, PortfolioCategory category) {
+        lock.readLock().lock();
+        try {
+            return state.board(ranking, category).size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void replaceAll(Consumer<Consumer<List<Entry>>> source) {
+        State rebuilt = new State();
+        source.accept(batch -> batch.forEach(rebuilt::put));
+
+        lock.writeLock().lock();
+        try {
+            state = rebuilt;
+            built = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isBuilt() {
+        return built;
+    }
+
+    // 서버마다 따로 유지하므로 항상 직접 재구성
+    @Override
+    public boolean tryAcquireRebuildLease(Duration leaseTime) {
+        return true;
+    }
+
+    @Override
+    public void releaseRebuildLease() {
+    }
+
+    private record Ranked(long score, long portfolioId) {
+    }
+
+    private static class State {
+
+        private final Map<Long, Entry> entries = new HashMap<>();
+        private final Map<PortfolioRanking, NavigableSet<Ranked>> overall = new EnumMap<>(PortfolioRanking.class);
+        private final Map<PortfolioRanking, Map<PortfolioCategory, NavigableSet<Ranked>>> byCategory =
+                new EnumMap<>(PortfolioRanking.class);
+
+        State() {
+            for (PortfolioRanking ranking : PortfolioRanking.values()) {
+                overall.put(ranking, new TreeSet<>(ORDER));
+                byCategory.put(ranking, new EnumMap<>(PortfolioCategory.class));
+            }
+        }
+
+        void put(Entry entry) {
+            remove(entry.portfolioId());
+            entries.put(entry.portfolioId(), entry);
+            for (PortfolioRanking ranking : PortfolioRanking.values()) {
+                Ranked ranked = new Ranked(entry.score(ranking), entry.portfolioId());
+                overall.get(ranking).add(ranked);
+                if (entry.category() != null) {
+                    byCategory.get(ranking).computeIfAbsent(entry.category(), key -> new TreeSet<>(ORDER)).add(ranked);
+                }
+            }
+        }
+
+        void remove(Long portfolioId) {
+            Entry previous = entries.remove(portfolioId);
+            if (previous == null) {
+                return;
+            }
+            for (PortfolioRanking ranking : PortfolioRanking.values()) {
+                Ranked ranked = new Ranked(previous.score(ranking), portfolioId);
+                overall.get(ranking).remove(ranked);
+                NavigableSet<Ranked> categoryBoard = byCategory.get(ranking).get(previous.category());
+                if (categoryBoard != null) {
+                    categoryBoard.remove(ranked);
+                }
+            }
+        }
+
+        NavigableSet<Ranked> board(PortfolioRanking ranking, PortfolioCategory category) {
+            if (category == null) {
+                return overall.get(ranking);
+            }
+            return byCategory.get(ranking).getOrDefault(category, Collections.emptyNavigableSet());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.port_in_scan.domain.portfolio.ranking;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum PortfolioRanking {
+
+    VIEWS("views", "조회수순"),
+    LIKES("likes", "좋아요순"),
+    LATEST("latest", "최신순");
+
+    // 저장소 키에 사용하는 이름
+    private final String key;
+    private final String displayName;
+}
@@ -0,0 +1,228 @@
+package com.example.port_in_scan.domain.portfolio.ranking;
+
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioResponseDto;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioCategory;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioStatus;
+import com.example.port_in_scan.domain.portfolio.event.PortfolioBatchChangedEvent;
+import com.example.port_in_scan.domain.portfolio.event.PortfolioChangedEvent;
+import com.example.port_in_scan.domain.portfolio.event.PortfolioLikeChangedEvent;
+import com.example.port_in_scan.domain.portfolio.repository.PortfolioRepository;
+import com.example.port_in_scan.domain.search.engine.PortfolioIdHydrator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * 인기(조회수)/좋아요/최신 포트폴리오 목록용 랭킹
+ * - 시작 시와 rebuild-interval 마다 ACTIVE 포트폴리오를 ID 순으로 읽어 저장소를 재구성
+ *   저장소의 재구성 임대(rebuild-lease)를 얻은 서버만 재구성하고, 나머지 서버는 그 결과를 함께 사용
+ * - 생성/수정/상태 변경은 PortfolioChangedEvent, 좋아요는 PortfolioLikeChangedEvent 로 커밋 후 반영
+ *   조회수는 PortfolioViewCounter 가 DB 에 반영한 증가분을 그대로 더함
+ * - 목록 조회는 순위 구간의 ID 를 읽고 한 번의 IN 쿼리로 조회 (ORDER BY + COUNT 쿼리 없음)
+ * - 첫 재구성 전이거나 저장소 오류 시 빈 Optional 을 반환하고 호출하는 쪽에서 DB 정렬 조회로 대체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PortfolioRankingService {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final PortfolioRankingStore rankingStore;
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioIdHydrator portfolioIdHydrator;
+
+    @Value("${portfolio.ranking.enabled:true}")
+    private boolean enabled;
+
+    // 재구성 임대 시간 (이 시간 안에는 다른 서버가 다시 재구성하지 않음)
+    @Value("${portfolio.ranking.rebuild-lease-ms:${portfolio.ranking.rebuild-interval-ms:600000}}")
+    private long rebuildLeaseMs;
+
+    private volatile boolean ready;
+
+    // 시작 시 재구성과 주기적 재구성이 겹치지 않도록
+    private final Lock rebuildLock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${portfolio.ranking.rebuild-interval-ms:600000}",
+            fixedDelayString = "${portfolio.ranking.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            doRebuild();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void doRebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (!rankingStore.tryAcquireRebuildLease(Duration.ofMillis(rebuildLeaseMs))) {
+                // 이번 주기는 다른 서버가 재구성 (그 서버의 재구성이 끝났으면 그대로 사용)
+                ready = ready || rankingStore.isBuilt();
+                log.debug("포트폴리오 랭킹 재구성 생략: 다른 서버가 재구성 임대 중");
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("포트폴리오 랭킹 재구성 임대 실패: {}", e.getMessage());
+            return;
+        }
+        try {
+            int[] loaded = {0};
+            rankingStore.replaceAll(consumer -> {
+                long lastId = 0L;
+                while (true) {
+                    List<Object[]> rows = portfolioRepository.findRankingRowsAfter(
+                            PortfolioStatus.ACTIVE, lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                    if (rows.isEmpty()) {
+                        break;
+                    }
+                    List<PortfolioRankingStore.Entry> entries = new ArrayList<>(rows.size());
+                    for (Object[] row : rows) {
+                        entries.add(new PortfolioRankingStore.Entry((Long) row[0], (PortfolioCategory) row[1],
+                                valueOf((Long) row[2]), valueOf((Long) row[3]), epochMillis((LocalDateTime) row[4])));
+                    }
+                    consumer.accept(entries);
+                    loaded[0] += rows.size();
+                    lastId = (Long) rows.get(rows.size() - 1)[0];
+                }
+            });
+            ready = true;
+            log.info("포트폴리오 랭킹 재구성 완료: {}건", loaded[0]);
+        } catch (Exception e) {
+            log.warn("포트폴리오 랭킹 재구성 실패: {}", e.getMessage());
+            releaseLease();
+        }
+    }
+
+    // 랭킹 순서의 포트폴리오 페이지 (category 가 null 이면 전체)
+    public Optional<Page<PortfolioResponseDto>> findPage(PortfolioRanking ranking, PortfolioCategory category,
+                                                         Pageable pageable) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            // 다른 서버가 재구성을 담당하는 경우 그 재구성이 끝날 때까지 DB 정렬 조회
+            if (!ready) {
+                ready = rankingStore.isBuilt();
+                if (!ready) {
+                    return Optional.empty();
+                }
+            }
+            long total = rankingStore.size(ranking, category);
+            List<Long> ids = pageable.getOffset() < total
+                    ? rankingStore.range(ranking, category, pageable.getOffset(), pageable.getPageSize())
+                    : List.of();
+            return Optional.of(new PageImpl<>(portfolioIdHydrator.hydrate(ids), pageable, total));
+        } catch (Exception e) {
+            log.debug("포트폴리오 랭킹 조회 실패 (DB 조회로 대체): {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (event.isActive()) {
+                rankingStore.put(entryOf(event));
+            } else {
+                rankingStore.remove(event.getPortfolioId());
+            }
+        } catch (Exception e) {
+            log.warn("포트폴리오 랭킹 반영 실패 ({}): {}", event.getPortfolioId(), e.getMessage());
+        }
+    }
+
+    // 묶음 변경은 ACTIVE 포트폴리오를 저장소에 한 번에 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPortfoliosChanged(PortfolioBatchChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        List<PortfolioRankingStore.Entry> entries = new ArrayList<>();
+        for (PortfolioChangedEvent change : event.getChanges()) {
+            if (change.isActive()) {
+                entries.add(entryOf(change));
+            } else {
+                onPortfolioChanged(change);
+            }
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            rankingStore.putAll(entries);
+        } catch (Exception e) {
+            log.warn("포트폴리오 랭킹 일괄 반영 실패 ({}건): {}", entries.size(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLikeChanged(PortfolioLikeChangedEvent event) {
+        increment(PortfolioRanking.LIKES, Map.of(event.getPortfolioId(), event.getDelta()));
+    }
+
+    // DB 에 반영된 조회수 증가분 (포트폴리오 ID -> 증가분)
+    public void onViewsFlushed(Map<Long, Long> deltas) {
+        increment(PortfolioRanking.VIEWS, deltas);
+    }
+
+    private void increment(PortfolioRanking ranking, Map<Long, Long> deltas) {
+        if (!enabled || deltas.isEmpty()) {
+            return;
+        }
+        try {
+            rankingStore.increment(ranking, deltas);
+        } catch (Exception e) {
+            log.warn("포트폴리오 랭킹 점수 반영 실패 ({} {}건): {}", ranking, deltas.size(), e.getMessage());
+        }
+    }
+
+    private void releaseLease() {
+        try {
+            rankingStore.releaseRebuildLease();
+        } catch (Exception e) {
+            log.debug("포트폴리오 랭킹 재구성 임대 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    private static PortfolioRankingStore.Entry entryOf(PortfolioChangedEvent event) {
+        return new PortfolioRankingStore.Entry(event.getPortfolioId(), event.getCategory(),
+                valueOf(event.getViewCount()), valueOf(event.getLikeCount()), epochMillis(event.getCreatedAt()));
+    }
+
+    private static long valueOf(Long count) {
+        return count != null ? count : 0L;
+    }
+
+    private static long epochMillis(LocalDateTime createdAt) {
+        return createdAt != null ? Timestamp.valueOf(createdAt).getTime() : 0L;
+    }
+}
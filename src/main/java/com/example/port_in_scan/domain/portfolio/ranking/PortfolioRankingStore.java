@@ -0,0 +1,58 @@
+package com.example.port_in_scan.domain.portfolio.ranking;
+
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioCategory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/*
+ * ACTIVE 포트폴리오 랭킹 저장소 (랭킹별 전체 + 카테고리별 정렬 집합)
+ * - 점수가 높은 순, 점수가 같으면 저장소 구현의 순서로 정렬
+ * - 저장소에 있는 포트폴리오만 점수 증가가 반영됨 (비활성 포트폴리오가 증가분으로 다시 추가되지 않음)
+ * - portfolio.ranking.store 로 구현 선택 (redis: RedisPortfolioRankingStore, memory: InMemoryPortfolioRankingStore)
+ */
+public interface PortfolioRankingStore {
+
+    // 저장소에 넣을 포트폴리오 점수 (category 가 null 이면 전체 랭킹에만 포함)
+    record Entry(Long portfolioId, PortfolioCategory category, long viewCount, long likeCount, long createdAt) {
+
+        public long score(PortfolioRanking ranking) {
+            return switch (ranking) {
+                case VIEWS -> viewCount;
+                case LIKES -> likeCount;
+                case LATEST -> createdAt;
+            };
+        }
+    }
+
+    // 모든 랭킹에 추가하거나 점수/카테고리 갱신
+    void put(Entry entry);
+
+    // 여러 포트폴리오를 한 번에 put (일괄 가져오기 청크 등)
+    void putAll(List<Entry> entries);
+
+    // 모든 랭킹에서 제거
+    void remove(Long portfolioId);
+
+    // 포트폴리오 ID -> 증가분 (저장소에 없는 포트폴리오는 무시)
+    void increment(PortfolioRanking ranking, Map<Long, Long> deltas);
+
+    // 순위 offset 부터 limit 개의 포트폴리오 ID (category 가 null 이면 전체)
+    List<Long> range(PortfolioRanking ranking, PortfolioCategory category, long offset, int limit);
+
+    long size(PortfolioRanking ranking, PortfolioCategory category);
+
+    // 전체 재구성 (source 가 전달하는 목록으로 교체, 재구성 중에도 이전 랭킹 조회 가능)
+    void replaceAll(Consumer<Consumer<List<Entry>>> source);
+
+    // replaceAll 이 한 번이라도 끝났는지 (다른 서버가 재구성한 경우 포함)
+    boolean isBuilt();
+
+    // 재구성 임대 (여러 서버가 공유하는 저장소에서 한 주기에 한 서버만 재구성), 얻으면 true
+    boolean tryAcquireRebuildLease(Duration leaseTime);
+
+    // 재구성 실패 시 다른 서버가 바로 재구성할 수 있도록 자신의 임대 해제
+    void releaseRebuildLease();
+}
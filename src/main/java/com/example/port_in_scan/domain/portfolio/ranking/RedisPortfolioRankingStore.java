@@ -0,0 +1,300 @@
+package com.example.port_in_scan.domain.portfolio.ranking;
+
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Consumer;
+
+/*
+ * Redis 포트폴리오 랭킹 저장소 (여러 서버가 공유)
+ * - {portfolio-ranking}:{랭킹} → 전체 정렬 집합, {portfolio-ranking}:{랭킹}:{카테고리} → 카테고리별 정렬 집합
+ * - {portfolio-ranking}:categories → 포트폴리오 ID 별 카테고리 (저장소에 있는 포트폴리오 목록, 카테고리 변경 시 이전 집합에서 제거용)
+ * - 추가/제거/증가는 Lua 스크립트로 원자적으로 처리하고, 스크립트가 쓰는 키는 카테고리별 키까지 모두 KEYS 로 전달
+ *   모든 키가 같은 해시 태그({portfolio-ranking})를 쓰므로 Redis Cluster 에서도 한 슬롯에 모임
+ * - 전체 재구성은 임시 키에 적재한 뒤 MULTI 안에서 RENAME 으로 교체
+ *   (적재 중 반영된 증가분은 교체 시 사라질 수 있으며 다음 재구성에서 DB 값으로 맞춰짐)
+ * - 재구성 임대는 SET NX PX 로 얻어서 주기마다 한 서버만 재구성
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "portfolio.ranking.store", havingValue = "redis", matchIfMissing = true)
+public class RedisPortfolioRankingStore implements PortfolioRankingStore {
+
+    private static final String KEY_PREFIX = "{portfolio-ranking}:";
+    private static final String CATEGORIES_KEY = KEY_PREFIX + "categories";
+    private static final String BUILT_KEY = KEY_PREFIX + "built";
+    private static final String REBUILD_LEASE_KEY = KEY_PREFIX + "rebuild-lease";
+    private static final String NO_CATEGORY = "";
+    private static final Duration REBUILD_KEY_TTL = Duration.ofHours(1);
+
+    /*
+     * 스크립트 공통 KEYS/ARGV 앞부분
+     * KEYS: [카테고리 해시, 랭킹마다 (전체 키, 카테고리 순서대로 카테고리별 키...)]
+     * ARGV: [카테고리 수, 카테고리 이름...] 다음에 스크립트별 인자
+     */
+    private static final String CATEGORY_KEYS_PROLOGUE = """
+            local categoryCount = tonumber(ARGV[1])
+            local categoryOffset = {}
+            for c = 1, categoryCount do
+                categoryOffset[ARGV[c + 1]] = c
+            end
+            local rankingCount = (#KEYS - 1) / (categoryCount + 1)
+            local firstArg = categoryCount + 2
+            local function rankingKey(r)
+                return 2 + (r - 1) * (categoryCount + 1)
+            end
+            local function categoryKey(r, category)
+                local offset = categoryOffset[category]
+                if offset then
+                    return KEYS[rankingKey(r) + offset]
+                end
+                return nil
+            end
+            """;
+
+    // 스크립트별 인자: [ID, 카테고리, 랭킹별 점수...] 를 포트폴리오 수만큼 반복
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(CATEGORY_KEYS_PROLOGUE + """
+            local width = rankingCount + 2
+            for j = firstArg, #ARGV, width do
+                local id = ARGV[j]
+                local category = ARGV[j + 1]
+                local previous = redis.call('HGET', KEYS[1], id)
+                redis.call('HSET', KEYS[1], id, category)
+                for r = 1, rankingCount do
+                    if previous and previous ~= '' and previous ~= category then
+                        local previousKey = categoryKey(r, previous)
+                        if previousKey then
+                            redis.call('ZREM', previousKey, id)
+                        end
+                    end
+                    redis.call('ZADD', KEYS[rankingKey(r)], ARGV[j + 1 + r], id)
+                    local key = categoryKey(r, category)
+                    if key then
+                        redis.call('ZADD', key, ARGV[j + 1 + r], id)
+                    end
+                end
+            end
+            return (#ARGV - firstArg + 1) / width
+            """, Long.class);
+
+    // 스크립트별 인자: [ID]
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(CATEGORY_KEYS_PROLOGUE + """
+            local id = ARGV[firstArg]
+            local previous = redis.call('HGET', KEYS[1], id)
+            if not previous then
+                return 0
+            end
+            redis.call('HDEL', KEYS[1], id)
+            for r = 1, rankingCount do
+                redis.call('ZREM', KEYS[rankingKey(r)], id)
+                local key = categoryKey(r, previous)
+                if key then
+                    redis.call('ZREM', key, id)
+                end
+            end
+            return 1
+            """, Long.class);
+
+    // 랭킹 하나의 키만 전달, 스크립트별 인자: [ID, 증가분, ID, 증가분, ...]
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(CATEGORY_KEYS_PROLOGUE + """
+            local applied = 0
+            for i = firstArg, #ARGV, 2 do
+                local category = redis.call('HGET', KEYS[1], ARGV[i])
+                if category then
+                    redis.call('ZINCRBY', KEYS[2], ARGV[i + 1], ARGV[i])
+                    local key = categoryKey(1, category)
+                    if key then
+                        redis.call('ZINCRBY', key, ARGV[i + 1], ARGV[i])
+                    end
+                    applied = applied + 1
+                end
+            end
+            return applied
+            """, Long.class);
+
+    // KEYS: [임대 키], ARGV: [임대 토큰] (자신이 얻은 임대만 해제)
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 이 서버가 얻은 재구성 임대 값
+    private final String leaseToken = UUID.randomUUID().toString();
+
+    @Override
+    public void put(Entry entry) {
+        putAll(List.of(entry));
+    }
+
+    // 스크립트 한 번으로 반영 (포트폴리오마다 왕복하지 않음)
+    @Override
+    public void putAll(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<String> args = categoryArgs();
+        for (Entry entry : entries) {
+            args.add(String.valueOf(entry.portfolioId()));
+            args.add(categoryOf(entry));
+            for (PortfolioRanking ranking : PortfolioRanking.values()) {
+                args.add(String.valueOf(entry.score(ranking)));
+            }
+        }
+        redisTemplate.execute(PUT_SCRIPT, scriptKeys(PortfolioRanking.values()), args.toArray());
+    }
+
+    @Override
+    public void remove(Long portfolioId) {
+        List<String> args = categoryArgs();
+        args.add(String.valueOf(portfolioId));
+        redisTemplate.execute(REMOVE_SCRIPT, scriptKeys(PortfolioRanking.values()), args.toArray());
+    }
+
+    @Override
+    public void increment(PortfolioRanking ranking, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<String> args = categoryArgs();
+        deltas.forEach((portfolioId, delta) -> {
+            args.add(String.valueOf(portfolioId));
+            args.add(String.valueOf(delta));
+        });
+        redisTemplate.execute(INCREMENT_SCRIPT, scriptKeys(ranking), args.toArray());
+    }
+
+    @Override
+    public List<Long> range(PortfolioRanking ranking, PortfolioCategory category, long offset, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(key(ranking, category), offset, offset + limit - 1);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    @Override
+    public long size(PortfolioRanking ranking, PortfolioCategory category) {
+        Long size = redisTemplate.opsForZSet().zCard(key(ranking, category));
+        return size != null ? size : 0L;
+    }
+
+    @Override
+    public void replaceAll(Consumer<Consumer<List<Entry>>> source) {
+        String suffix = ":rebuild:" + UUID.randomUUID();
+        Set<String> written = new HashSet<>();
+
+        source.accept(batch -> {
+            if (batch.isEmpty()) {
+                return;
+            }
+            Set<String> batchKeys = new HashSet<>();
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (Entry entry : batch) {
+                        String member = String.valueOf(entry.portfolioId());
+                        ops.opsForHash().put(CATEGORIES_KEY + suffix, member, categoryOf(entry));
+                        batchKeys.add(CATEGORIES_KEY + suffix);
+                        for (PortfolioRanking ranking : PortfolioRanking.values()) {
+                            double score = entry.score(ranking);
+                            ops.opsForZSet().add(key(ranking, null) + suffix, member, score);
+                            batchKeys.add(key(ranking, null) + suffix);
+                            if (entry.category() != null) {
+                                ops.opsForZSet().add(key(ranking, entry.category()) + suffix, member, score);
+                                batchKeys.add(key(ranking, entry.category()) + suffix);
+                            }
+                        }
+                    }
+                    // 재구성 도중 서버가 종료되어도 임시 키가 남지 않도록 만료 시간 설정
+                    batchKeys.forEach(key -> ops.expire(key, REBUILD_KEY_TTL));
+                    return null;
+                }
+            });
+            written.addAll(batchKeys);
+        });
+
+        redisTemplate.execute(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.multi();
+                for (String key : scriptKeys(PortfolioRanking.values())) {
+                    if (written.contains(key + suffix)) {
+                        ops.rename(key + suffix, key);
+                        ops.persist(key);
+                    } else {
+                        ops.delete(key);
+                    }
+                }
+                ops.opsForValue().set(BUILT_KEY, "1");
+                return ops.exec();
+            }
+        });
+    }
+
+    @Override
+    public boolean isBuilt() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(BUILT_KEY));
+    }
+
+    // SET NX PX (이미 다른 서버가 임대 중이면 false)
+    @Override
+    public boolean tryAcquireRebuildLease(Duration leaseTime) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REBUILD_LEASE_KEY, leaseToken, leaseTime));
+    }
+
+    @Override
+    public void releaseRebuildLease() {
+        redisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(REBUILD_LEASE_KEY), leaseToken);
+    }
+
+    // 카테고리 해시, 랭킹마다 전체 키와 카테고리별 키 (CATEGORY_KEYS_PROLOGUE 의 KEYS 순서)
+    private static List<String> scriptKeys(PortfolioRanking... rankings) {
+        List<String> keys = new ArrayList<>();
+        keys.add(CATEGORIES_KEY);
+        for (PortfolioRanking ranking : rankings) {
+            keys.add(key(ranking, null));
+            for (PortfolioCategory category : PortfolioCategory.values()) {
+                keys.add(key(ranking, category));
+            }
+        }
+        return keys;
+    }
+
+    private static List<String> categoryArgs() {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(PortfolioCategory.values().length));
+        for (PortfolioCategory category : PortfolioCategory.values()) {
+            args.add(category.name());
+        }
+        return args;
+    }
+
+    private static String key(PortfolioRanking ranking, PortfolioCategory category) {
+        String key = KEY_PREFIX + ranking.getKey();
+        return category != null ? key + ":" + category.name() : key;
+    }
+
+    private static String categoryOf(Entry entry) {
+        return entry.category() != null ? entry.category().name() : NO_CATEGORY;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.port_in_scan.domain.portfolio.repository;
+
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PortfolioLikeRepository extends JpaRepository<PortfolioLike, Long> {
+
+    // 좋아요가 없을 때만 추가 (추가된 행 수 반환)
+    @Modifying
+    @Query(value = "INSERT INTO portfolio_likes (user_idx, portfolio_id, created_at) " +
+            "SELECT :userIdx, :portfolioId, CURRENT_TIMESTAMP " +
+            "WHERE NOT EXISTS (SELECT 1 FROM portfolio_likes WHERE user_idx = :userIdx AND portfolio_id = :portfolioId)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userIdx") Long userIdx, @Param("portfolioId") Long portfolioId);
+
+    // 좋아요 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM PortfolioLike l WHERE l.userIdx = :userIdx AND l.portfolioId = :portfolioId")
+    int deleteByUserIdxAndPortfolioId(@Param("userIdx") Long userIdx, @Param("portfolioId") Long portfolioId);
+
+    // 주어진 포트폴리오 중 사용자가 좋아요한 포트폴리오 ID 조회
+    @Query("SELECT l.portfolioId FROM PortfolioLike l WHERE l.userIdx = :userIdx AND l.portfolioId IN :portfolioIds")
+    List<Long> findLikedPortfolioIds(@Param("userIdx") Long userIdx, @Param("portfolioIds") Collection<Long> portfolioIds);
+}
@@ -5,12 +5,15 @@ import com.example.port_in_scan.domain.portfolio.entity.PortfolioCategory;
 import com.example.port_in_scan.domain.portfolio.entity.PortfolioStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -62,6 +65,97 @@ public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
                                          @Param("status") PortfolioStatus status, 
                                          Pageable pageable);
     
+    // COUNT 쿼리 없이 조회하는 Slice 버전 (size + 1 개 조회로 다음 페이지 여부만 확인)
+    Slice<Portfolio> findSliceByStatusAndCategory(PortfolioStatus status, PortfolioCategory category, Pageable pageable);
+
+    @Query("SELECT p FROM Portfolio p WHERE (p.title LIKE %:keyword% OR p.description LIKE %:keyword%) AND p.status = :status")
+    Slice<Portfolio> findSliceByTitleOrDescriptionContainingAndStatus(@Param("keyword") String keyword,
+                                                                      @Param("status") PortfolioStatus status,
+                                                                      Pageable pageable);
+
+    @Query("SELECT DISTINCT p FROM Portfolio p JOIN p.techStacks ts WHERE ts IN :techStacks AND p.status = :status")
+    Slice<Portfolio> findSliceByTechStacksInAndStatus(@Param("techStacks") List<String> techStacks,
+                                                      @Param("status") PortfolioStatus status,
+                                                      Pageable pageable);
+
+    @Query("SELECT DISTINCT p FROM Portfolio p JOIN p.tags t WHERE t IN :tags AND p.status = :status")
+    Slice<Portfolio> findSliceByTagsInAndStatus(@Param("tags") List<String> tags,
+                                                @Param("status") PortfolioStatus status,
+                                                Pageable pageable);
+
+    @Query("SELECT DISTINCT p FROM Portfolio p " +
+           "LEFT JOIN p.techStacks ts " +
+           "LEFT JOIN p.tags t " +
+           "WHERE p.status = :status " +
+           "AND (:keyword IS NULL OR p.title LIKE %:keyword% OR p.description LIKE %:keyword%) " +
+           "AND (:category IS NULL OR p.category = :category) " +
+           "AND (:techStack IS NULL OR ts = :techStack) " +
+           "AND (:tag IS NULL OR t = :tag)")
+    Slice<Portfolio> findSliceByComplexSearch(@Param("keyword") String keyword,
+                                              @Param("category") PortfolioCategory category,
+                                              @Param("techStack") String techStack,
+                                              @Param("tag") String tag,
+                                              @Param("status") PortfolioStatus status,
+                                              Pageable pageable);
+
+    // 검색 조건별 전체 건수 (Slice 조회와 동시에 실행하는 COUNT 쿼리, 조인 검색은 DISTINCT 기준)
+    long countByStatusAndCategory(PortfolioStatus status, PortfolioCategory category);
+
+    @Query("SELECT COUNT(p) FROM Portfolio p WHERE (p.title LIKE %:keyword% OR p.description LIKE %:keyword%) AND p.status = :status")
+    long countByTitleOrDescriptionContainingAndStatus(@Param("keyword") String keyword,
+                                                      @Param("status") PortfolioStatus status);
+
+    @Query("SELECT COUNT(DISTINCT p) FROM Portfolio p JOIN p.techStacks ts WHERE ts IN :techStacks AND p.status = :status")
+    long countByTechStacksInAndStatus(@Param("techStacks") List<String> techStacks,
+                                      @Param("status") PortfolioStatus status);
+
+    @Query("SELECT COUNT(DISTINCT p) FROM Portfolio p JOIN p.tags t WHERE t IN :tags AND p.status = :status")
+    long countByTagsInAndStatus(@Param("tags") List<String> tags,
+                                @Param("status") PortfolioStatus status);
+
+    @Query("SELECT COUNT(DISTINCT p) FROM Portfolio p " +
+           "LEFT JOIN p.techStacks ts " +
+           "LEFT JOIN p.tags t " +
+           "WHERE p.status = :status " +
+           "AND (:keyword IS NULL OR p.title LIKE %:keyword% OR p.description LIKE %:keyword%) " +
+           "AND (:category IS NULL OR p.category = :category) " +
+           "AND (:techStack IS NULL OR ts = :techStack) " +
+           "AND (:tag IS NULL OR t = :tag)")
+    long countByComplexSearch(@Param("keyword") String keyword,
+                              @Param("category") PortfolioCategory category,
+                              @Param("techStack") String techStack,
+                              @Param("tag") String tag,
+                              @Param("status") PortfolioStatus status);
+
+    // ID 목록으로 조회 (검색 색인 결과 조회용)
+    List<Portfolio> findByPortfolioIdInAndStatus(Collection<Long> portfolioIds, PortfolioStatus status);
+
+    List<Portfolio> findByPortfolioIdInAndStatus(Collection<Long> portfolioIds, PortfolioStatus status, Pageable pageable);
+
+    // ID 기준 키셋 조회 (검색 색인 적재용)
+    List<Portfolio> findByStatusAndPortfolioIdGreaterThanOrderByPortfolioId(PortfolioStatus status, Long portfolioId, Pageable pageable);
+
+    List<Portfolio> findByPortfolioIdGreaterThanOrderByPortfolioId(Long portfolioId, Pageable pageable);
+
+    // ID 기준 키셋 조회 (랭킹 적재용) [portfolioId, category, viewCount, likeCount, createdAt]
+    @Query("SELECT p.portfolioId, p.category, p.viewCount, p.likeCount, p.createdAt FROM Portfolio p " +
+           "WHERE p.status = :status AND p.portfolioId > :portfolioId ORDER BY p.portfolioId")
+    List<Object[]> findRankingRowsAfter(@Param("status") PortfolioStatus status,
+                                        @Param("portfolioId") Long portfolioId,
+                                        Pageable pageable);
+
+    // 포트폴리오별 작성자 일괄 조회 [portfolioId, username, email]
+    @Query("SELECT p.portfolioId, u.username, u.email FROM Portfolio p JOIN p.user u WHERE p.portfolioId IN :portfolioIds")
+    List<Object[]> findAuthorsByPortfolioIds(@Param("portfolioIds") Collection<Long> portfolioIds);
+
+    // 포트폴리오별 기술 스택 일괄 조회 [portfolioId, techStack]
+    @Query("SELECT p.portfolioId, ts FROM Portfolio p JOIN p.techStacks ts WHERE p.portfolioId IN :portfolioIds")
+    List<Object[]> findTechStacksByPortfolioIds(@Param("portfolioIds") Collection<Long> portfolioIds);
+
+    // 포트폴리오별 태그 일괄 조회 [portfolioId, tag]
+    @Query("SELECT p.portfolioId, t FROM Portfolio p JOIN p.tags t WHERE p.portfolioId IN :portfolioIds")
+    List<Object[]> findTagsByPortfolioIds(@Param("portfolioIds") Collection<Long> portfolioIds);
+    
     // 조회수 상위 포트폴리오
     Page<Portfolio> findByStatusOrderByViewCountDesc(PortfolioStatus status, Pageable pageable);
     
@@ -70,12 +164,97 @@ public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
     
     // 최신 포트폴리오
     Page<Portfolio> findByStatusOrderByCreatedAtDesc(PortfolioStatus status, Pageable pageable);
+
+    // 카테고리별 조회수/좋아요 수 상위, 최신 포트폴리오
+    Page<Portfolio> findByStatusAndCategoryOrderByViewCountDesc(PortfolioStatus status, PortfolioCategory category, Pageable pageable);
+
+    Page<Portfolio> findByStatusAndCategoryOrderByLikeCountDesc(PortfolioStatus status, PortfolioCategory category, Pageable pageable);
+
+    Page<Portfolio> findByStatusAndCategoryOrderByCreatedAtDesc(PortfolioStatus status, PortfolioCategory category, Pageable pageable);
+    
+    // 커서 기반 조회: (createdAt, portfolioId) 보다 뒤의 최신순 목록
+    @Query("SELECT p FROM Portfolio p WHERE p.status = :status " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.portfolioId < :portfolioId)) " +
+           "ORDER BY p.createdAt DESC, p.portfolioId DESC")
+    List<Portfolio> findLatestAfter(@Param("status") PortfolioStatus status,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("portfolioId") Long portfolioId,
+                                    Pageable pageable);
+
+    // 커서 기반 조회: 카테고리별 최신순
+    @Query("SELECT p FROM Portfolio p WHERE p.status = :status AND p.category = :category " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.portfolioId < :portfolioId)) " +
+           "ORDER BY p.createdAt DESC, p.portfolioId DESC")
+    List<Portfolio> findLatestByCategoryAfter(@Param("status") PortfolioStatus status,
+                                              @Param("category") PortfolioCategory category,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("portfolioId") Long portfolioId,
+                                              Pageable pageable);
+
+    // 커서 기반 조회: (viewCount, portfolioId) 보다 뒤의 조회수순 목록
+    @Query("SELECT p FROM Portfolio p WHERE p.status = :status " +
+           "AND (p.viewCount < :viewCount OR (p.viewCount = :viewCount AND p.portfolioId < :portfolioId)) " +
+           "ORDER BY p.viewCount DESC, p.portfolioId DESC")
+    List<Portfolio> findPopularAfter(@Param("status") PortfolioStatus status,
+                                     @Param("viewCount") Long viewCount,
+                                     @Param("portfolioId") Long portfolioId,
+                                     Pageable pageable);
+
+    // 커서 기반 조회: (likeCount, portfolioId) 보다 뒤의 좋아요순 목록
+    @Query("SELECT p FROM Portfolio p WHERE p.status = :status " +
+           "AND (p.likeCount < :likeCount OR (p.likeCount = :likeCount AND p.portfolioId < :portfolioId)) " +
+           "ORDER BY p.likeCount DESC, p.portfolioId DESC")
+    List<Portfolio> findMostLikedAfter(@Param("status") PortfolioStatus status,
+                                       @Param("likeCount") Long likeCount,
+                                       @Param("portfolioId") Long portfolioId,
+                                       Pageable pageable);
+
+    // 커서 기반 검색: 제목 또는 설명 (최신순)
+    @Query("SELECT p FROM Portfolio p WHERE (p.title LIKE %:keyword% OR p.description LIKE %:keyword%) AND p.status = :status " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.portfolioId < :portfolioId)) " +
+           "ORDER BY p.createdAt DESC, p.portfolioId DESC")
+    List<Portfolio> searchLatestAfter(@Param("keyword") String keyword,
+                                      @Param("status") PortfolioStatus status,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("portfolioId") Long portfolioId,
+                                      Pageable pageable);
+
+    // 커서 기반 검색: 기술 스택 (최신순, 조인 중복을 피하기 위해 EXISTS 사용)
+    @Query("SELECT p FROM Portfolio p WHERE p.status = :status " +
+           "AND EXISTS (SELECT 1 FROM Portfolio p2 JOIN p2.techStacks ts WHERE p2.portfolioId = p.portfolioId AND ts IN :techStacks) " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.portfolioId < :portfolioId)) " +
+           "ORDER BY p.createdAt DESC, p.portfolioId DESC")
+    List<Portfolio> findLatestByTechStacksAfter(@Param("techStacks") List<String> techStacks,
+                                                @Param("status") PortfolioStatus status,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("portfolioId") Long portfolioId,
+                                                Pageable pageable);
+
+    // 커서 기반 검색: 태그 (최신순)
+    @Query("SELECT p FROM Portfolio p WHERE p.status = :status " +
+           "AND EXISTS (SELECT 1 FROM Portfolio p2 JOIN p2.tags t WHERE p2.portfolioId = p.portfolioId AND t IN :tags) " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.portfolioId < :portfolioId)) " +
+           "ORDER BY p.createdAt DESC, p.portfolioId DESC")
+    List<Portfolio> findLatestByTagsAfter(@Param("tags") List<String> tags,
+                                          @Param("status") PortfolioStatus status,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("portfolioId") Long portfolioId,
+                                          Pageable pageable);
     
     // 조회수 증가
     @Modifying
     @Query("UPDATE Portfolio p SET p.viewCount = p.viewCount + 1 WHERE p.portfolioId = :portfolioId")
     void incrementViewCount(@Param("portfolioId") Long portfolioId);
+
+    // 조회수 증가분 반영
+    @Modifying
+    @Query("UPDATE Portfolio p SET p.viewCount = p.viewCount + :delta WHERE p.portfolioId = :portfolioId")
+    int addViewCount(@Param("portfolioId") Long portfolioId, @Param("delta") Long delta);
     
+    // 좋아요 처리 시 포트폴리오 행 잠금 (같은 포트폴리오에 대한 좋아요/취소를 직렬화)
+    @Query(value = "SELECT portfolio_id FROM portfolios WHERE portfolio_id = :portfolioId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockPortfolioId(@Param("portfolioId") Long portfolioId);
+
     // 좋아요 수 증가
     @Modifying
     @Query("UPDATE Portfolio p SET p.likeCount = p.likeCount + 1 WHERE p.portfolioId = :portfolioId")
@@ -0,0 +1,74 @@
+package com.example.port_in_scan.domain.portfolio.service;
+
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioCursorSort;
+import com.example.port_in_scan.domain.portfolio.entity.Portfolio;
+import com.example.port_in_scan.exception.AppException;
+import com.example.port_in_scan.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/*
+ * 커서 기반 목록 조회의 마지막 위치 (정렬 값, portfolioId)
+ * 클라이언트에는 "정렬|값|ID" 를 Base64(URL-safe) 로 인코딩한 불투명 문자열로 전달
+ * 커서가 없으면 첫 페이지로 보고 모든 값보다 큰 위치에서 시작
+ */
+record PortfolioCursor(PortfolioCursorSort sort, String value, long portfolioId) {
+
+    private static final String DELIMITER = "|";
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    static PortfolioCursor decode(String cursor, PortfolioCursorSort expectedSort) {
+        if (cursor == null || cursor.isBlank()) {
+            return new PortfolioCursor(expectedSort, null, Long.MAX_VALUE);
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            if (parts.length != 3 || !expectedSort.name().equals(parts[0])) {
+                throw invalid();
+            }
+
+            PortfolioCursor parsed = new PortfolioCursor(expectedSort, parts[1], Long.parseLong(parts[2]));
+            // 값 형식 검증
+            if (expectedSort == PortfolioCursorSort.LATEST) {
+                parsed.createdAt();
+            } else {
+                parsed.count();
+            }
+            return parsed;
+        } catch (AppException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw invalid();
+        }
+    }
+
+    static PortfolioCursor of(PortfolioCursorSort sort, Portfolio portfolio) {
+        String value = switch (sort) {
+            case LATEST -> portfolio.getCreatedAt().toString();
+            case POPULAR -> String.valueOf(portfolio.getViewCount());
+            case MOST_LIKED -> String.valueOf(portfolio.getLikeCount());
+        };
+        return new PortfolioCursor(sort, value, portfolio.getPortfolioId());
+    }
+
+    String encode() {
+        String raw = sort.name() + DELIMITER + value + DELIMITER + portfolioId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    LocalDateTime createdAt() {
+        return value == null ? MAX_CREATED_AT : LocalDateTime.parse(value);
+    }
+
+    long count() {
+        return value == null ? Long.MAX_VALUE : Long.parseLong(value);
+    }
+
+    private static AppException invalid() {
+        return new AppException(ErrorCode.INVALID_CURSOR.getMessage(), ErrorCode.INVALID_CURSOR);
+    }
+}
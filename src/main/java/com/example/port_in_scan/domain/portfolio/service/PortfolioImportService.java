@@ -0,0 +1,277 @@
+package com.example.port_in_scan.domain.portfolio.service;
+
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioCreateRequestDto;
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioImportLineDto;
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioImportResponseDto;
+import com.example.port_in_scan.domain.portfolio.entity.Portfolio;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioStatus;
+import com.example.port_in_scan.domain.portfolio.event.PortfolioBatchChangedEvent;
+import com.example.port_in_scan.domain.portfolio.event.PortfolioChangedEvent;
+import com.example.port_in_scan.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/*
+ * 포트폴리오 일괄 가져오기 (NDJSON 스트리밍)
+ * - 요청 본문을 한 줄씩 읽어 파싱/검증하고, 통과한 줄을 chunk-size 개씩 모아 청크마다 하나의 트랜잭션으로 저장
+ * - 작성자는 청크마다 IN 조회 한 번으로 찾고, 포트폴리오/기술 스택/태그는 JDBC 배치로 저장
+ *   (IDENTITY 키라 JPA 로는 배치 insert 가 되지 않음, Postgres 는 reWriteBatchedInserts 로 다중 행 insert 로 변환됨)
+ * - 잘못된 줄은 줄 번호와 사유를 기록하고 건너뜀, 청크 저장이 실패하면 한 줄씩 다시 저장해 실패한 줄만 골라냄
+ * - 청크마다 PortfolioBatchChangedEvent 하나를 발행해 커밋 후 검색 색인/캐시/랭킹에 한 번에 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PortfolioImportService {
+
+    private static final String SELECT_AUTHORS_SQL = "SELECT idx, email FROM users WHERE email IN (:emails)";
+    private static final String INSERT_PORTFOLIO_SQL = "INSERT INTO portfolios " +
+            "(title, description, github_url, demo_url, category, status, view_count, like_count, user_idx, created_at, updated_at) " +
+            "VALUES (:title, :description, :githubUrl, :demoUrl, :category, :status, 0, 0, :userIdx, :createdAt, :createdAt)";
+    private static final String INSERT_TECH_STACK_SQL =
+            "INSERT INTO portfolio_tech_stacks (portfolio_id, tech_stack) VALUES (:portfolioId, :value)";
+    private static final String INSERT_TAG_SQL =
+            "INSERT INTO portfolio_tags (portfolio_id, tag) VALUES (:portfolioId, :value)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${portfolio.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${portfolio.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    private record ImportLine(long lineNumber, String authorEmail, PortfolioCreateRequestDto portfolio) {
+    }
+
+    public PortfolioImportResponseDto importPortfolios(InputStream input, String importerEmail, boolean admin)
+            throws IOException {
+        long startTime = System.currentTimeMillis();
+        Report report = new Report(maxReportedErrors);
+        List<ImportLine> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                report.totalLines++;
+
+                ImportLine parsed = parse(lineNumber, line, importerEmail, admin, report);
+                if (parsed != null) {
+                    chunk.add(parsed);
+                }
+                if (chunk.size() >= chunkSize) {
+                    write(chunk, report);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            write(chunk, report);
+        }
+
+        log.info("포트폴리오 가져오기 완료: {}줄 중 {}건 저장, {}건 실패 ({}ms)",
+                report.totalLines, report.importedCount, report.failedCount, System.currentTimeMillis() - startTime);
+        return report.toResponse();
+    }
+
+    private ImportLine parse(long lineNumber, String line, String importerEmail, boolean admin, Report report) {
+        PortfolioImportLineDto lineDto;
+        try {
+            lineDto = objectMapper.readValue(line, PortfolioImportLineDto.class);
+        } catch (JsonProcessingException e) {
+            report.fail(lineNumber, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+            return null;
+        }
+        if (lineDto == null || lineDto.getPortfolio() == null) {
+            report.fail(lineNumber, "포트폴리오 정보가 없습니다.");
+            return null;
+        }
+
+        Set<ConstraintViolation<PortfolioImportLineDto>> violations = validator.validate(lineDto);
+        if (!violations.isEmpty()) {
+            report.fail(lineNumber, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(" ")));
+            return null;
+        }
+
+        String authorEmail = lineDto.getAuthorEmail() != null && !lineDto.getAuthorEmail().isBlank()
+                ? lineDto.getAuthorEmail().trim()
+                : importerEmail;
+        if (!admin && !authorEmail.equals(importerEmail)) {
+            report.fail(lineNumber, "다른 사용자 명의로 가져오려면 관리자 권한이 필요합니다.");
+            return null;
+        }
+        return new ImportLine(lineNumber, authorEmail, lineDto.getPortfolio());
+    }
+
+    private void write(List<ImportLine> chunk, Report report) {
+        Map<String, Long> authors = findAuthors(chunk);
+        List<ImportLine> writable = new ArrayList<>(chunk.size());
+        for (ImportLine line : chunk) {
+            if (authors.containsKey(line.authorEmail())) {
+                writable.add(line);
+            } else {
+                report.fail(line.lineNumber(), ErrorCode.USER_NOT_FOUND.getMessage());
+            }
+        }
+        if (writable.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(writable, authors));
+            report.importedCount += writable.size();
+        } catch (RuntimeException e) {
+            log.warn("포트폴리오 가져오기 청크 저장 실패, 한 줄씩 다시 저장 ({}건): {}", writable.size(), e.getMessage());
+            for (ImportLine line : writable) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(line), authors));
+                    report.importedCount++;
+                } catch (RuntimeException lineException) {
+                    log.debug("포트폴리오 가져오기 {}번째 줄 저장 실패: {}", line.lineNumber(), lineException.getMessage());
+                    report.fail(line.lineNumber(), "저장에 실패했습니다. 값의 길이와 형식을 확인해 주세요.");
+                }
+            }
+        }
+    }
+
+    // 청크의 작성자 이메일 -> 사용자 ID
+    private Map<String, Long> findAuthors(List<ImportLine> chunk) {
+        Set<String> emails = chunk.stream().map(ImportLine::authorEmail).collect(Collectors.toSet());
+        Map<String, Long> authors = new HashMap<>();
+        jdbcTemplate.query(SELECT_AUTHORS_SQL, Map.of("emails", emails),
+                (RowCallbackHandler) rs -> authors.put(rs.getString("email"), rs.getLong("idx")));
+        return authors;
+    }
+
+    private void insert(List<ImportLine> lines, Map<String, Long> authors) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp createdAt = Timestamp.valueOf(now);
+        SqlParameterSource[] params = lines.stream()
+                .map(line -> new MapSqlParameterSource()
+                        .addValue("title", line.portfolio().getTitle())
+                        .addValue("description", line.portfolio().getDescription())
+                        .addValue("githubUrl", line.portfolio().getGithubUrl())
+                        .addValue("demoUrl", line.portfolio().getDemoUrl())
+                        .addValue("category", line.portfolio().getCategory().name())
+                        .addValue("status", PortfolioStatus.ACTIVE.name())
+                        .addValue("userIdx", authors.get(line.authorEmail()))
+                        .addValue("createdAt", createdAt))
+                .toArray(SqlParameterSource[]::new);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_PORTFOLIO_SQL, params, keyHolder, new String[]{"portfolio_id"});
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != lines.size()) {
+            throw new IllegalStateException("생성된 포트폴리오 ID 수가 저장한 행 수와 다릅니다: " + keys.size());
+        }
+
+        List<SqlParameterSource> techStackRows = new ArrayList<>();
+        List<SqlParameterSource> tagRows = new ArrayList<>();
+        List<PortfolioChangedEvent> changes = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            // 키 컬럼 이름의 대소문자가 DB 마다 달라 첫 번째 값을 사용
+            Long portfolioId = ((Number) keys.get(i).values().iterator().next()).longValue();
+            PortfolioCreateRequestDto requestDto = lines.get(i).portfolio();
+            List<String> techStacks = requestDto.getTechStacks() != null ? requestDto.getTechStacks() : List.of();
+            List<String> tags = requestDto.getTags() != null ? requestDto.getTags() : List.of();
+            techStacks.forEach(techStack -> techStackRows.add(elementRow(portfolioId, techStack)));
+            tags.forEach(tag -> tagRows.add(elementRow(portfolioId, tag)));
+
+            Portfolio portfolio = Portfolio.builder()
+                    .portfolioId(portfolioId)
+                    .title(requestDto.getTitle())
+                    .description(requestDto.getDescription())
+                    .category(requestDto.getCategory())
+                    .status(PortfolioStatus.ACTIVE)
+                    .createdAt(now)
+                    .build();
+            changes.add(PortfolioChangedEvent.of(portfolio, techStacks, tags));
+        }
+        if (!techStackRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TECH_STACK_SQL, techStackRows.toArray(SqlParameterSource[]::new));
+        }
+        if (!tagRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TAG_SQL, tagRows.toArray(SqlParameterSource[]::new));
+        }
+        eventPublisher.publishEvent(new PortfolioBatchChangedEvent(changes));
+    }
+
+    private static SqlParameterSource elementRow(Long portfolioId, String value) {
+        return new MapSqlParameterSource()
+                .addValue("portfolioId", portfolioId)
+                .addValue("value", value);
+    }
+
+    private static class Report {
+
+        private final int maxReportedErrors;
+        private final List<PortfolioImportResponseDto.LineError> errors = new ArrayList<>();
+        private long totalLines;
+        private long importedCount;
+        private long failedCount;
+
+        private Report(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void fail(long lineNumber, String message) {
+            failedCount++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new PortfolioImportResponseDto.LineError(lineNumber, message));
+            }
+        }
+
+        private PortfolioImportResponseDto toResponse() {
+            // 청크 저장 실패 후 재시도한 줄은 줄 번호 순서가 뒤섞일 수 있음
+            errors.sort(Comparator.comparingLong(PortfolioImportResponseDto.LineError::getLineNumber));
+            return PortfolioImportResponseDto.builder()
+                    .totalLines(totalLines)
+                    .importedCount(importedCount)
+                    .failedCount(failedCount)
+                    .errors(errors)
+                    .errorsTruncated(failedCount > errors.size())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.port_in_scan.domain.portfolio.service;
+
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioResponseDto;
+import com.example.port_in_scan.domain.portfolio.entity.Portfolio;
+import com.example.port_in_scan.domain.portfolio.repository.PortfolioRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/*
+ * 목록/검색 응답 DTO 조립
+ * PortfolioResponseDto.from 은 지연 로딩되는 작성자와 기술 스택/태그 컬렉션을 포트폴리오마다 조회하므로(N+1),
+ * 목록에서는 작성자 정보와 두 컬렉션을 포트폴리오 ID IN 쿼리로 한 번씩만 조회해서 조립한다. (목록 크기와 무관하게 쿼리 3회)
+ */
+@Component
+@RequiredArgsConstructor
+public class PortfolioResponseAssembler {
+
+    private final PortfolioRepository portfolioRepository;
+
+    public List<PortfolioResponseDto> assemble(List<Portfolio> portfolios) {
+        if (portfolios.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = portfolios.stream().map(Portfolio::getPortfolioId).toList();
+
+        Map<Long, Object[]> authors = new HashMap<>();
+        for (Object[] row : portfolioRepository.findAuthorsByPortfolioIds(ids)) {
+            authors.put((Long) row[0], row);
+        }
+        Map<Long, List<String>> techStacks = groupByPortfolioId(portfolioRepository.findTechStacksByPortfolioIds(ids));
+        Map<Long, List<String>> tags = groupByPortfolioId(portfolioRepository.findTagsByPortfolioIds(ids));
+
+        return portfolios.stream()
+                .map(portfolio -> {
+                    Object[] author = authors.get(portfolio.getPortfolioId());
+                    return PortfolioResponseDto.of(portfolio,
+                            author != null ? (String) author[1] : null,
+                            author != null ? (String) author[2] : null,
+                            techStacks.getOrDefault(portfolio.getPortfolioId(), List.of()),
+                            tags.getOrDefault(portfolio.getPortfolioId(), List.of()));
+                })
+                .collect(Collectors.toList());
+    }
+
+    public Page<PortfolioResponseDto> assemble(Page<Portfolio> page) {
+        return new PageImpl<>(assemble(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    public Slice<PortfolioResponseDto> assemble(Slice<Portfolio> slice) {
+        if (slice instanceof Page<Portfolio> page) {
+            return assemble(page);
+        }
+        return new SliceImpl<>(assemble(slice.getContent()), slice.getPageable(), slice.hasNext());
+    }
+
+    private static Map<Long, List<String>> groupByPortfolioId(List<Object[]> rows) {
+        return rows.stream()
+                .collect(Collectors.groupingBy(row -> (Long) row[0],
+                        Collectors.mapping(row -> (String) row[1], Collectors.toList())));
+    }
+}
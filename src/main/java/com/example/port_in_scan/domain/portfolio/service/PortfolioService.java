@@ -3,21 +3,31 @@ package com.example.port_in_scan.domain.portfolio.service;
 import com.example.port_in_scan.domain.member.entity.User;
 import com.example.port_in_scan.domain.member.repository.UserRepository;
 import com.example.port_in_scan.domain.portfolio.dto.PortfolioCreateRequestDto;
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioCursorResponseDto;
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioCursorSort;
 import com.example.port_in_scan.domain.portfolio.dto.PortfolioResponseDto;
 import com.example.port_in_scan.domain.portfolio.dto.PortfolioUpdateRequestDto;
 import com.example.port_in_scan.domain.portfolio.entity.Portfolio;
 import com.example.port_in_scan.domain.portfolio.entity.PortfolioCategory;
 import com.example.port_in_scan.domain.portfolio.entity.PortfolioStatus;
+import com.example.port_in_scan.domain.portfolio.event.PortfolioChangedEvent;
+import com.example.port_in_scan.domain.portfolio.event.PortfolioLikeChangedEvent;
+import com.example.port_in_scan.domain.portfolio.ranking.PortfolioRanking;
+import com.example.port_in_scan.domain.portfolio.ranking.PortfolioRankingService;
+import com.example.port_in_scan.domain.portfolio.repository.PortfolioLikeRepository;
 import com.example.port_in_scan.domain.portfolio.repository.PortfolioRepository;
 import com.example.port_in_scan.exception.AppException;
 import com.example.port_in_scan.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
 
 @Service
@@ -26,8 +36,16 @@ import java.util.List;
 @Slf4j
 public class PortfolioService {
 
+    private static final int MAX_LIKE_LOOKUP_SIZE = 100;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final PortfolioRepository portfolioRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PortfolioViewCounter viewCounter;
+    private final PortfolioLikeRepository portfolioLikeRepository;
+    private final PortfolioResponseAssembler responseAssembler;
+    private final PortfolioRankingService rankingService;
 
     @Transactional
     public PortfolioResponseDto createPortfolio(String userEmail, PortfolioCreateRequestDto requestDto) {
@@ -46,6 +64,7 @@ public class PortfolioService {
                 .build();
 
         Portfolio savedPortfolio = portfolioRepository.save(portfolio);
+        eventPublisher.publishEvent(PortfolioChangedEvent.from(savedPortfolio));
         log.info("포트폴리오 생성 완료: {}", savedPortfolio.getPortfolioId());
         
         return PortfolioResponseDto.from(savedPortfolio);
@@ -58,15 +77,17 @@ public class PortfolioService {
         return PortfolioResponseDto.from(portfolio);
     }
 
-    @Transactional
     public PortfolioResponseDto getPortfolioWithViewCount(Long portfolioId) {
         Portfolio portfolio = portfolioRepository.findById(portfolioId)
                 .orElseThrow(() -> new AppException("포트폴리오를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND));
 
-        portfolio.increaseViewCount();
-        Portfolio updatedPortfolio = portfolioRepository.save(portfolio);
-        
-        return PortfolioResponseDto.from(updatedPortfolio);
+        // 조회수는 카운터를 통해 반영하고, 응답에는 아직 반영되지 않은 증가분을 더해서 반환
+        long unflushed = viewCounter.increment(portfolioId);
+
+        PortfolioResponseDto responseDto = PortfolioResponseDto.from(portfolio);
+        return responseDto.toBuilder()
+                .viewCount(responseDto.getViewCount() + unflushed)
+                .build();
     }
 
     @Transactional
@@ -101,6 +122,7 @@ public class PortfolioService {
         }
 
         Portfolio updatedPortfolio = portfolioRepository.save(portfolio);
+        eventPublisher.publishEvent(PortfolioChangedEvent.from(updatedPortfolio));
         log.info("포트폴리오 수정 완료: {}", updatedPortfolio.getPortfolioId());
         
         return PortfolioResponseDto.from(updatedPortfolio);
@@ -118,75 +140,184 @@ public class PortfolioService {
 
         portfolio.updateStatus(PortfolioStatus.DELETED);
         portfolioRepository.save(portfolio);
+        eventPublisher.publishEvent(PortfolioChangedEvent.from(portfolio));
         log.info("포트폴리오 삭제 완료: {}", portfolioId);
     }
 
     public Page<PortfolioResponseDto> getAllPortfolios(Pageable pageable) {
-        return portfolioRepository.findByStatus(PortfolioStatus.ACTIVE, pageable)
-                .map(PortfolioResponseDto::from);
+        Page<Portfolio> portfolios = portfolioRepository.findByStatus(PortfolioStatus.ACTIVE, pageable);
+        return responseAssembler.assemble(portfolios);
     }
 
     public Page<PortfolioResponseDto> getPortfoliosByCategory(PortfolioCategory category, Pageable pageable) {
-        return portfolioRepository.findByStatusAndCategory(PortfolioStatus.ACTIVE, category, pageable)
-                .map(PortfolioResponseDto::from);
+        Page<Portfolio> portfolios = portfolioRepository.findByStatusAndCategory(PortfolioStatus.ACTIVE, category, pageable);
+        return responseAssembler.assemble(portfolios);
     }
 
     public Page<PortfolioResponseDto> getMyPortfolios(String userEmail, Pageable pageable) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND.getMessage(), ErrorCode.USER_NOT_FOUND));
 
-        return portfolioRepository.findByUserIdx(user.getIdx(), pageable)
-                .map(PortfolioResponseDto::from);
+        Page<Portfolio> portfolios = portfolioRepository.findByUserIdx(user.getIdx(), pageable);
+        return responseAssembler.assemble(portfolios);
     }
 
     public Page<PortfolioResponseDto> searchPortfolios(String keyword, Pageable pageable) {
-        return portfolioRepository.findByTitleOrDescriptionContainingAndStatus(
-                keyword, PortfolioStatus.ACTIVE, pageable)
-                .map(PortfolioResponseDto::from);
+        Page<Portfolio> portfolios = portfolioRepository.findByTitleOrDescriptionContainingAndStatus(
+                keyword, PortfolioStatus.ACTIVE, pageable);
+        return responseAssembler.assemble(portfolios);
     }
 
     public Page<PortfolioResponseDto> searchByTechStacks(List<String> techStacks, Pageable pageable) {
-        return portfolioRepository.findByTechStacksInAndStatus(techStacks, PortfolioStatus.ACTIVE, pageable)
-                .map(PortfolioResponseDto::from);
+        Page<Portfolio> portfolios = portfolioRepository.findByTechStacksInAndStatus(techStacks, PortfolioStatus.ACTIVE, pageable);
+        return responseAssembler.assemble(portfolios);
     }
 
     public Page<PortfolioResponseDto> searchByTags(List<String> tags, Pageable pageable) {
-        return portfolioRepository.findByTagsInAndStatus(tags, PortfolioStatus.ACTIVE, pageable)
-                .map(PortfolioResponseDto::from);
+        Page<Portfolio> portfolios = portfolioRepository.findByTagsInAndStatus(tags, PortfolioStatus.ACTIVE, pageable);
+        return responseAssembler.assemble(portfolios);
     }
 
-    public Page<PortfolioResponseDto> getPopularPortfolios(Pageable pageable) {
-        return portfolioRepository.findByStatusOrderByViewCountDesc(PortfolioStatus.ACTIVE, pageable)
-                .map(PortfolioResponseDto::from);
+    // 랭킹 저장소에서 조회하고, 사용할 수 없으면 DB 정렬 조회 (category 가 null 이면 전체)
+    public Page<PortfolioResponseDto> getPopularPortfolios(PortfolioCategory category, Pageable pageable) {
+        return rankingService.findPage(PortfolioRanking.VIEWS, category, pageable)
+                .orElseGet(() -> responseAssembler.assemble(category != null
+                        ? portfolioRepository.findByStatusAndCategoryOrderByViewCountDesc(PortfolioStatus.ACTIVE, category, pageable)
+                        : portfolioRepository.findByStatusOrderByViewCountDesc(PortfolioStatus.ACTIVE, pageable)));
     }
 
-    public Page<PortfolioResponseDto> getMostLikedPortfolios(Pageable pageable) {
-        return portfolioRepository.findByStatusOrderByLikeCountDesc(PortfolioStatus.ACTIVE, pageable)
-                .map(PortfolioResponseDto::from);
+    public Page<PortfolioResponseDto> getMostLikedPortfolios(PortfolioCategory category, Pageable pageable) {
+        return rankingService.findPage(PortfolioRanking.LIKES, category, pageable)
+                .orElseGet(() -> responseAssembler.assemble(category != null
+                        ? portfolioRepository.findByStatusAndCategoryOrderByLikeCountDesc(PortfolioStatus.ACTIVE, category, pageable)
+                        : portfolioRepository.findByStatusOrderByLikeCountDesc(PortfolioStatus.ACTIVE, pageable)));
     }
 
-    public Page<PortfolioResponseDto> getLatestPortfolios(Pageable pageable) {
-        return portfolioRepository.findByStatusOrderByCreatedAtDesc(PortfolioStatus.ACTIVE, pageable)
-                .map(PortfolioResponseDto::from);
+    public Page<PortfolioResponseDto> getLatestPortfolios(PortfolioCategory category, Pageable pageable) {
+        return rankingService.findPage(PortfolioRanking.LATEST, category, pageable)
+                .orElseGet(() -> responseAssembler.assemble(category != null
+                        ? portfolioRepository.findByStatusAndCategoryOrderByCreatedAtDesc(PortfolioStatus.ACTIVE, category, pageable)
+                        : portfolioRepository.findByStatusOrderByCreatedAtDesc(PortfolioStatus.ACTIVE, pageable)));
     }
 
-    @Transactional
-    public void likePortfolio(Long portfolioId) {
-        Portfolio portfolio = portfolioRepository.findById(portfolioId)
-                .orElseThrow(() -> new AppException("포트폴리오를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND));
+    // 커서 기반 목록 조회 (OFFSET/COUNT 없이 마지막 위치 다음부터 size 개 조회)
+    public PortfolioCursorResponseDto getPortfoliosByCursor(PortfolioCursorSort sort, String cursor, int size) {
+        PortfolioCursor after = PortfolioCursor.decode(cursor, sort);
+        Pageable limit = cursorLimit(size);
+
+        List<Portfolio> portfolios = switch (sort) {
+            case LATEST -> portfolioRepository.findLatestAfter(
+                    PortfolioStatus.ACTIVE, after.createdAt(), after.portfolioId(), limit);
+            case POPULAR -> portfolioRepository.findPopularAfter(
+                    PortfolioStatus.ACTIVE, after.count(), after.portfolioId(), limit);
+            case MOST_LIKED -> portfolioRepository.findMostLikedAfter(
+                    PortfolioStatus.ACTIVE, after.count(), after.portfolioId(), limit);
+        };
+        return toCursorResponse(portfolios, limit, sort);
+    }
 
-        portfolio.increaseLikeCount();
-        portfolioRepository.save(portfolio);
-        log.info("포트폴리오 좋아요 증가: {}", portfolioId);
+    public PortfolioCursorResponseDto getPortfoliosByCategoryAndCursor(PortfolioCategory category, String cursor, int size) {
+        PortfolioCursor after = PortfolioCursor.decode(cursor, PortfolioCursorSort.LATEST);
+        Pageable limit = cursorLimit(size);
+
+        List<Portfolio> portfolios = portfolioRepository.findLatestByCategoryAfter(
+                PortfolioStatus.ACTIVE, category, after.createdAt(), after.portfolioId(), limit);
+        return toCursorResponse(portfolios, limit, PortfolioCursorSort.LATEST);
+    }
+
+    public PortfolioCursorResponseDto searchPortfoliosByCursor(String keyword, String cursor, int size) {
+        PortfolioCursor after = PortfolioCursor.decode(cursor, PortfolioCursorSort.LATEST);
+        Pageable limit = cursorLimit(size);
+
+        List<Portfolio> portfolios = portfolioRepository.searchLatestAfter(
+                keyword, PortfolioStatus.ACTIVE, after.createdAt(), after.portfolioId(), limit);
+        return toCursorResponse(portfolios, limit, PortfolioCursorSort.LATEST);
+    }
+
+    public PortfolioCursorResponseDto searchByTechStacksByCursor(List<String> techStacks, String cursor, int size) {
+        PortfolioCursor after = PortfolioCursor.decode(cursor, PortfolioCursorSort.LATEST);
+        Pageable limit = cursorLimit(size);
+
+        List<Portfolio> portfolios = portfolioRepository.findLatestByTechStacksAfter(
+                techStacks, PortfolioStatus.ACTIVE, after.createdAt(), after.portfolioId(), limit);
+        return toCursorResponse(portfolios, limit, PortfolioCursorSort.LATEST);
+    }
+
+    public PortfolioCursorResponseDto searchByTagsByCursor(List<String> tags, String cursor, int size) {
+        PortfolioCursor after = PortfolioCursor.decode(cursor, PortfolioCursorSort.LATEST);
+        Pageable limit = cursorLimit(size);
+
+        List<Portfolio> portfolios = portfolioRepository.findLatestByTagsAfter(
+                tags, PortfolioStatus.ACTIVE, after.createdAt(), after.portfolioId(), limit);
+        return toCursorResponse(portfolios, limit, PortfolioCursorSort.LATEST);
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 size + 1 개 조회
+    private static Pageable cursorLimit(int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    private PortfolioCursorResponseDto toCursorResponse(List<Portfolio> portfolios, Pageable limit,
+                                                               PortfolioCursorSort sort) {
+        int pageSize = limit.getPageSize() - 1;
+        boolean hasNext = portfolios.size() > pageSize;
+        List<Portfolio> content = hasNext ? portfolios.subList(0, pageSize) : portfolios;
+
+        return PortfolioCursorResponseDto.builder()
+                .portfolios(responseAssembler.assemble(content))
+                .nextCursor(hasNext ? PortfolioCursor.of(sort, content.get(content.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     @Transactional
-    public void unlikePortfolio(Long portfolioId) {
-        Portfolio portfolio = portfolioRepository.findById(portfolioId)
-                .orElseThrow(() -> new AppException("포트폴리오를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND));
+    public void likePortfolio(Long portfolioId, String userEmail) {
+        Long userIdx = findUserIdx(userEmail);
+        lockPortfolio(portfolioId);
+
+        // 이미 좋아요한 경우 변경 없음 (재시도/중복 클릭에도 좋아요 수가 늘지 않음)
+        if (portfolioLikeRepository.insertIfAbsent(userIdx, portfolioId) == 1) {
+            portfolioRepository.incrementLikeCount(portfolioId);
+            eventPublisher.publishEvent(new PortfolioLikeChangedEvent(portfolioId, 1L));
+            log.info("포트폴리오 좋아요 증가: {}", portfolioId);
+        }
+    }
 
-        portfolio.decreaseLikeCount();
-        portfolioRepository.save(portfolio);
-        log.info("포트폴리오 좋아요 감소: {}", portfolioId);
+    @Transactional
+    public void unlikePortfolio(Long portfolioId, String userEmail) {
+        Long userIdx = findUserIdx(userEmail);
+        lockPortfolio(portfolioId);
+
+        if (portfolioLikeRepository.deleteByUserIdxAndPortfolioId(userIdx, portfolioId) == 1) {
+            portfolioRepository.decrementLikeCount(portfolioId);
+            eventPublisher.publishEvent(new PortfolioLikeChangedEvent(portfolioId, -1L));
+            log.info("포트폴리오 좋아요 감소: {}", portfolioId);
+        }
+    }
+
+    // 주어진 포트폴리오 중 사용자가 좋아요한 포트폴리오 ID 목록
+    public List<Long> getLikedPortfolioIds(String userEmail, List<Long> portfolioIds) {
+        if (portfolioIds == null || portfolioIds.isEmpty()) {
+            return List.of();
+        }
+        if (portfolioIds.size() > MAX_LIKE_LOOKUP_SIZE) {
+            throw new AppException("한 번에 조회할 수 있는 포트폴리오는 최대 " + MAX_LIKE_LOOKUP_SIZE + "개입니다.",
+                    ErrorCode.BINDING_RESULT_ERROR);
+        }
+
+        return portfolioLikeRepository.findLikedPortfolioIds(findUserIdx(userEmail), new HashSet<>(portfolioIds));
+    }
+
+    private Long findUserIdx(String userEmail) {
+        return userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND.getMessage(), ErrorCode.USER_NOT_FOUND))
+                .getIdx();
+    }
+
+    // 포트폴리오 행을 잠가 같은 포트폴리오에 대한 좋아요 변경을 직렬화
+    private void lockPortfolio(Long portfolioId) {
+        portfolioRepository.lockPortfolioId(portfolioId)
+                .orElseThrow(() -> new AppException("포트폴리오를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND));
     }
-}
\ No newline at end of file
+}
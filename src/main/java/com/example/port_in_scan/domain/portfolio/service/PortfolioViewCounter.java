@@ -0,0 +1,147 @@
+package com.example.port_in_scan.domain.portfolio.service;
+
+import com.example.port_in_scan.domain.portfolio.ranking.PortfolioRankingService;
+import com.example.port_in_scan.domain.portfolio.repository.PortfolioRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * 포트폴리오 조회수 카운터
+ * - BUFFERED: 조회 시 메모리 카운터만 증가시키고 flush-interval 마다 증가분을 한 트랜잭션에서 반영
+ *             (상세 조회가 읽기 전용이 되고 인기 포트폴리오 행에 대한 잠금 경합이 사라짐, 장애 시 최대 flush-interval 동안의 조회수 유실 가능)
+ * - DIRECT: 조회마다 별도 트랜잭션에서 즉시 반영
+ */
+@Slf4j
+@Component
+public class PortfolioViewCounter {
+
+    public enum Mode {
+        BUFFERED, DIRECT
+    }
+
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioRankingService rankingService;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate requiresNewTemplate;
+
+    @Value("${portfolio.view-count.mode:BUFFERED}")
+    private Mode mode;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // 맵에서 제거한 카운터 (제거 직전에 참조를 얻은 요청의 증가분이 남아 있으면 다음 flush 에서 수거)
+    private List<Map.Entry<Long, LongAdder>> retired = new ArrayList<>();
+
+    // 주기 반영과 종료 시 반영이 겹치지 않도록
+    private final Lock flushLock = new ReentrantLock();
+
+    public PortfolioViewCounter(PortfolioRepository portfolioRepository, PortfolioRankingService rankingService,
+                                PlatformTransactionManager transactionManager) {
+        this.portfolioRepository = portfolioRepository;
+        this.rankingService = rankingService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 조회수 1 증가 후, 이미 조회한 엔티티 값에 더해야 할 (아직 DB 에 반영되지 않은) 조회수를 반환
+    public long increment(Long portfolioId) {
+        if (mode == Mode.DIRECT) {
+            requiresNewTemplate.executeWithoutResult(status -> portfolioRepository.addViewCount(portfolioId, 1L));
+            rankingService.onViewsFlushed(Map.of(portfolioId, 1L));
+            return 1L;
+        }
+
+        LongAdder adder = pending.computeIfAbsent(portfolioId, key -> new LongAdder());
+        adder.increment();
+        return adder.sum();
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${portfolio.view-count.flush-interval-ms:3000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /*
+     * 카운터 값을 읽기만 하고(리셋하지 않음) 커밋이 끝난 뒤 반영한 만큼 뺌
+     * - 반영 중에도 increment 가 돌려주는 미반영 조회수가 0 으로 떨어지지 않음
+     * - 반영이 실패하면 카운터를 건드리지 않았으므로 다음 flush 에서 그대로 재시도
+     */
+    private void doFlush() {
+        List<Counted> counted = new ArrayList<>();
+        Map<Long, Long> deltas = new TreeMap<>();
+        collect(retired, counted, deltas);
+        collect(pending.entrySet(), counted, deltas);
+
+        if (!deltas.isEmpty()) {
+            try {
+                // ID 순서로 반영해 여러 서버가 같은 행을 갱신할 때 교착 상태를 피함
+                transactionTemplate.executeWithoutResult(status ->
+                        deltas.forEach(portfolioRepository::addViewCount));
+                log.debug("조회수 반영: {}건", deltas.size());
+            } catch (Exception e) {
+                log.warn("조회수 반영 실패 ({}건): {}", deltas.size(), e.getMessage());
+                return;
+            }
+            // 커밋된 만큼만 빼서 읽은 뒤 들어온 증가분은 남김
+            counted.forEach(count -> count.adder().add(-count.delta()));
+            // 커밋된 증가분만 랭킹에 반영
+            rankingService.onViewsFlushed(deltas);
+        }
+        retireIdle();
+    }
+
+    private static void collect(Collection<Map.Entry<Long, LongAdder>> entries, List<Counted> counted,
+                                Map<Long, Long> deltas) {
+        for (Map.Entry<Long, LongAdder> entry : entries) {
+            long delta = entry.getValue().sum();
+            if (delta > 0) {
+                counted.add(new Counted(entry.getValue(), delta));
+                addDelta(deltas, entry.getKey(), delta);
+            }
+        }
+    }
+
+    // 한 주기 동안 조회되지 않은 포트폴리오는 카운터를 제거
+    private void retireIdle() {
+        List<Map.Entry<Long, LongAdder>> nowRetired = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : retired) {
+            if (entry.getValue().sum() != 0) {
+                nowRetired.add(entry);
+            }
+        }
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            if (entry.getValue().sum() == 0 && pending.remove(entry.getKey(), entry.getValue())) {
+                nowRetired.add(entry);
+            }
+        }
+        retired = nowRetired;
+    }
+
+    private static void addDelta(Map<Long, Long> deltas, Long portfolioId, long delta) {
+        if (delta > 0) {
+            deltas.merge(portfolioId, delta, Long::sum);
+        }
+    }
+
+    private record Counted(LongAdder adder, long delta) {
+    }
+}
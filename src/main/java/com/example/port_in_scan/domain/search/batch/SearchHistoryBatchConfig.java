@@ -0,0 +1,202 @@
+package com.example.port_in_scan.domain.search.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.*;
+
+/*
+ * 검색 히스토리 배치 작업
+ * - 롤업(searchHistoryRollupJob): targetDate 하루치 search_histories 를 chunk-size 단위로 읽어
+ *   일별 (키워드, 검색 타입) 집계와 일별 사용자 집계에 누적
+ * - 보관 정리(searchHistoryRetentionJob): cutoffDate 이전 원본 히스토리를 chunk-size 단위로 삭제
+ * - 두 작업 모두 search_id 순으로 페이지를 읽고 chunk 마다 읽은 위치를 JobRepository 에 저장하므로
+ *   실패 후 같은 파라미터로 다시 실행하면 마지막으로 커밋된 chunk 다음부터 이어서 처리
+ *   (집계 반영과 위치 저장이 같은 트랜잭션이라 재시작해도 중복 누적되지 않음)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class SearchHistoryBatchConfig {
+
+    public static final String ROLLUP_JOB_NAME = "searchHistoryRollupJob";
+    public static final String RETENTION_JOB_NAME = "searchHistoryRetentionJob";
+    public static final String TARGET_DATE_PARAM = "targetDate";
+    public static final String CUTOFF_DATE_PARAM = "cutoffDate";
+
+    private static final String UPDATE_KEYWORD_STAT_SQL = "UPDATE search_keyword_daily_stats " +
+            "SET search_count = search_count + :delta " +
+            "WHERE stat_date = :statDate AND keyword = :keyword AND search_type = :searchType";
+    private static final String INSERT_KEYWORD_STAT_SQL = "INSERT INTO search_keyword_daily_stats " +
+            "(stat_date, keyword, search_type, search_count) VALUES (:statDate, :keyword, :searchType, :delta)";
+    private static final String UPDATE_USER_STAT_SQL = "UPDATE search_user_daily_stats " +
+            "SET search_count = search_count + :delta " +
+            "WHERE stat_date = :statDate AND user_idx = :userIdx";
+    private static final String INSERT_USER_STAT_SQL = "INSERT INTO search_user_daily_stats " +
+            "(stat_date, user_idx, search_count) VALUES (:statDate, :userIdx, :delta)";
+    private static final String DELETE_HISTORIES_SQL = "DELETE FROM search_histories WHERE search_id IN (:ids)";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Value("${search.history.batch.chunk-size:1000}")
+    private int chunkSize;
+
+    // 롤업 chunk 안에서 검색 건수를 묶는 키
+    private record KeywordStatKey(String keyword, String searchType) {
+    }
+
+    record HistoryRow(String keyword, String searchType, Long userIdx) {
+    }
+
+    @Bean
+    public Job searchHistoryRollupJob() {
+        return new JobBuilder(ROLLUP_JOB_NAME, jobRepository)
+                .start(searchHistoryRollupStep())
+                .build();
+    }
+
+    @Bean
+    public Job searchHistoryRetentionJob() {
+        return new JobBuilder(RETENTION_JOB_NAME, jobRepository)
+                .start(searchHistoryRetentionStep())
+                .build();
+    }
+
+    @Bean
+    public Step searchHistoryRollupStep() {
+        return new StepBuilder("searchHistoryRollupStep", jobRepository)
+                .<HistoryRow, HistoryRow>chunk(chunkSize, transactionManager)
+                .reader(searchHistoryRollupReader(null))
+                .writer(searchHistoryRollupWriter(null))
+                .build();
+    }
+
+    @Bean
+    public Step searchHistoryRetentionStep() {
+        return new StepBuilder("searchHistoryRetentionStep", jobRepository)
+                .<Long, Long>chunk(chunkSize, transactionManager)
+                .reader(searchHistoryRetentionReader(null))
+                .writer(searchHistoryRetentionWriter())
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<HistoryRow> searchHistoryRollupReader(
+            @Value("#{jobParameters['" + TARGET_DATE_PARAM + "']}") String targetDate) {
+        LocalDate date = LocalDate.parse(targetDate);
+        return new JdbcPagingItemReaderBuilder<HistoryRow>()
+                .name("searchHistoryRollupReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT search_id, keyword, COALESCE(search_type, 'KEYWORD') AS search_type, user_idx")
+                .fromClause("FROM search_histories")
+                .whereClause("WHERE searched_at >= :from AND searched_at < :to")
+                .parameterValues(Map.of(
+                        "from", Timestamp.valueOf(date.atStartOfDay()),
+                        "to", Timestamp.valueOf(date.plusDays(1).atStartOfDay())))
+                .sortKeys(Map.of("search_id", Order.ASCENDING))
+                .pageSize(chunkSize)
+                .rowMapper((rs, rowNum) -> {
+                    long userIdx = rs.getLong("user_idx");
+                    return new HistoryRow(rs.getString("keyword"), rs.getString("search_type"),
+                            rs.wasNull() ? null : userIdx);
+                })
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public ItemWriter<HistoryRow> searchHistoryRollupWriter(
+            @Value("#{jobParameters['" + TARGET_DATE_PARAM + "']}") String targetDate) {
+        LocalDate statDate = LocalDate.parse(targetDate);
+        return chunk -> {
+            Map<KeywordStatKey, Long> keywordCounts = new HashMap<>();
+            Map<Long, Long> userCounts = new HashMap<>();
+            for (HistoryRow row : chunk) {
+                keywordCounts.merge(new KeywordStatKey(row.keyword(), row.searchType()), 1L, Long::sum);
+                if (row.userIdx() != null) {
+                    userCounts.merge(row.userIdx(), 1L, Long::sum);
+                }
+            }
+
+            upsert(UPDATE_KEYWORD_STAT_SQL, INSERT_KEYWORD_STAT_SQL, keywordCounts.entrySet().stream()
+                    .map(entry -> new MapSqlParameterSource()
+                            .addValue("statDate", statDate)
+                            .addValue("keyword", entry.getKey().keyword())
+                            .addValue("searchType", entry.getKey().searchType())
+                            .addValue("delta", entry.getValue()))
+                    .toArray(MapSqlParameterSource[]::new));
+            upsert(UPDATE_USER_STAT_SQL, INSERT_USER_STAT_SQL, userCounts.entrySet().stream()
+                    .map(entry -> new MapSqlParameterSource()
+                            .addValue("statDate", statDate)
+                            .addValue("userIdx", entry.getKey())
+                            .addValue("delta", entry.getValue()))
+                    .toArray(MapSqlParameterSource[]::new));
+        };
+    }
+
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<Long> searchHistoryRetentionReader(
+            @Value("#{jobParameters['" + CUTOFF_DATE_PARAM + "']}") String cutoffDate) {
+        // 삭제한 행은 이미 읽은 search_id 보다 작으므로 다음 페이지 조회에 영향 없음
+        return new JdbcPagingItemReaderBuilder<Long>()
+                .name("searchHistoryRetentionReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT search_id")
+                .fromClause("FROM search_histories")
+                .whereClause("WHERE searched_at < :cutoff")
+                .parameterValues(Map.of("cutoff", Timestamp.valueOf(LocalDate.parse(cutoffDate).atStartOfDay())))
+                .sortKeys(Map.of("search_id", Order.ASCENDING))
+                .pageSize(chunkSize)
+                .rowMapper((rs, rowNum) -> rs.getLong("search_id"))
+                .build();
+    }
+
+    @Bean
+    public ItemWriter<Long> searchHistoryRetentionWriter() {
+        return chunk -> {
+            int deleted = jdbcTemplate.update(DELETE_HISTORIES_SQL, new MapSqlParameterSource("ids", chunk.getItems()));
+            log.debug("보관 기간이 지난 검색 히스토리 삭제: {}건", deleted);
+        };
+    }
+
+    // 기존 집계 행에 더하고, 갱신되지 않은 키만 새로 추가
+    private void upsert(String updateSql, String insertSql, MapSqlParameterSource[] params) {
+        if (params.length == 0) {
+            return;
+        }
+        int[] updated = jdbcTemplate.batchUpdate(updateSql, params);
+        List<MapSqlParameterSource> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                missing.add(params[i]);
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(insertSql, missing.toArray(MapSqlParameterSource[]::new));
+        }
+    }
+}
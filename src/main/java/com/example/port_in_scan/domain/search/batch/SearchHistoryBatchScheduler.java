@@ -0,0 +1,121 @@
+package com.example.port_in_scan.domain.search.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Map;
+
+/*
+ * 검색 히스토리 배치 실행
+ * - 매일 cron 시각에 아직 완료되지 않은 날짜(가장 오래된 히스토리 ~ 어제)를 하루씩 롤업
+ *   실패했던 날짜는 같은 파라미터로 다시 실행되어 이어서 처리됨
+ * - 모든 날짜의 롤업이 완료된 경우에만 retention-days 이전 원본을 삭제 (집계되지 않은 원본은 지우지 않음)
+ * - 다른 서버가 같은 파라미터로 실행 중인 날짜는 건너뛰고 나머지 날짜는 계속 진행
+ *   (원본 정리는 그 날짜의 롤업을 실행 중인 서버가 완료 후 진행)
+ * - retention-days 는 연관 검색어 warmup-days(search.related.warmup-days) 보다 길게 유지
+ */
+@Slf4j
+@Component
+public class SearchHistoryBatchScheduler {
+
+    private static final String SELECT_OLDEST_SQL = "SELECT MIN(searched_at) FROM search_histories";
+
+    private final JobLauncher jobLauncher;
+    private final JobRepository jobRepository;
+    private final Job rollupJob;
+    private final Job retentionJob;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Value("${search.history.batch.enabled:true}")
+    private boolean enabled;
+
+    @Value("${search.history.retention-days:90}")
+    private int retentionDays;
+
+    public SearchHistoryBatchScheduler(JobLauncher jobLauncher, JobRepository jobRepository,
+                                       @Qualifier("searchHistoryRollupJob") Job rollupJob,
+                                       @Qualifier("searchHistoryRetentionJob") Job retentionJob,
+                                       NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jobLauncher = jobLauncher;
+        this.jobRepository = jobRepository;
+        this.rollupJob = rollupJob;
+        this.retentionJob = retentionJob;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Scheduled(cron = "${search.history.batch.cron:0 30 3 * * *}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            LocalDate today = LocalDate.now();
+            if (!rollupUntil(today.minusDays(1))) {
+                log.warn("검색 히스토리 롤업 미완료 날짜가 있어 원본 정리를 건너뜀");
+                return;
+            }
+            LocalDate cutoff = today.minusDays(Math.max(1, retentionDays));
+            launch(retentionJob, SearchHistoryBatchConfig.CUTOFF_DATE_PARAM, cutoff);
+        } catch (Exception e) {
+            log.warn("검색 히스토리 배치 실행 실패: {}", e.getMessage());
+        }
+    }
+
+    // 모든 날짜가 완료되면 true
+    private boolean rollupUntil(LocalDate lastDate) throws Exception {
+        Timestamp oldest = jdbcTemplate.queryForObject(SELECT_OLDEST_SQL, Map.of(), Timestamp.class);
+        if (oldest == null) {
+            return true;
+        }
+        boolean completed = true;
+        for (LocalDate date = oldest.toLocalDateTime().toLocalDate(); !date.isAfter(lastDate); date = date.plusDays(1)) {
+            completed &= launch(rollupJob, SearchHistoryBatchConfig.TARGET_DATE_PARAM, date);
+        }
+        return completed;
+    }
+
+    // 이미 완료된 파라미터는 다시 실행하지 않음
+    private boolean launch(Job job, String parameterName, LocalDate date) throws Exception {
+        JobParameters parameters = new JobParametersBuilder()
+                .addString(parameterName, date.toString())
+                .toJobParameters();
+
+        JobExecution last = jobRepository.getLastJobExecution(job.getName(), parameters);
+        if (last != null && last.getStatus() == BatchStatus.COMPLETED) {
+            return true;
+        }
+        if (last != null && last.getStatus().isRunning()) {
+            log.info("{} ({}={}) 실행 중이라 건너뜀", job.getName(), parameterName, date);
+            return false;
+        }
+
+        JobExecution execution;
+        try {
+            execution = jobLauncher.run(job, parameters);
+        } catch (JobExecutionAlreadyRunningException e) {
+            // 위 확인 이후 다른 서버가 먼저 실행을 시작한 경우
+            log.info("{} ({}={}) 다른 서버에서 실행 중이라 건너뜀", job.getName(), parameterName, date);
+            return false;
+        } catch (JobInstanceAlreadyCompleteException e) {
+            // 위 확인 이후 다른 서버가 완료한 경우
+            return true;
+        }
+        log.info("{} ({}={}) 종료: {}", job.getName(), parameterName, date, execution.getStatus());
+        return execution.getStatus() == BatchStatus.COMPLETED;
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.port_in_scan.domain.search.controller;
 
+import com.example.port_in_scan.domain.search.dto.SearchCountMode;
 import com.example.port_in_scan.domain.search.dto.SearchRequestDto;
 import com.example.port_in_scan.domain.search.dto.SearchResponseDto;
+import com.example.port_in_scan.domain.search.dto.TrendingKeywordDto;
+import com.example.port_in_scan.domain.search.dto.TrendingWindow;
 import com.example.port_in_scan.domain.search.entity.SearchHistory;
 import com.example.port_in_scan.domain.search.service.SearchService;
+import com.example.port_in_scan.global.util.ClientIpResolver;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -42,7 +46,7 @@ public class SearchController {
             Authentication authentication) {
         
         String userEmail = authentication != null ? authentication.getName() : null;
-        String ipAddress = getClientIpAddress(request);
+        String ipAddress = ClientIpResolver.resolve(request);
         
         SearchResponseDto response = searchService.search(requestDto, userEmail, ipAddress);
         return ResponseEntity.ok(response);
@@ -61,6 +65,10 @@ public class SearchController {
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @Parameter(description = "정렬 방향", example = "desc")
             @RequestParam(defaultValue = "desc") String sortDir,
+            @Parameter(description = "전체 건수 계산 방식 (EXACT, ESTIMATED, NONE)", example = "EXACT")
+            @RequestParam(defaultValue = "EXACT") SearchCountMode countMode,
+            @Parameter(description = "카테고리/기술 스택/태그별 건수 포함 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeFacets,
             HttpServletRequest request,
             Authentication authentication) {
         
@@ -70,10 +78,12 @@ public class SearchController {
                 .size(size)
                 .sortBy(sortBy)
                 .sortDir(sortDir)
+                .countMode(countMode)
+                .includeFacets(includeFacets)
                 .build();
         
         String userEmail = authentication != null ? authentication.getName() : null;
-        String ipAddress = getClientIpAddress(request);
+        String ipAddress = ClientIpResolver.resolve(request);
         
         SearchResponseDto response = searchService.search(requestDto, userEmail, ipAddress);
         return ResponseEntity.ok(response);
@@ -89,6 +99,18 @@ public class SearchController {
         return ResponseEntity.ok(popularKeywords);
     }
 
+    @Operation(summary = "급상승 검색어 조회", description = "최근 1시간/24시간/7일 구간의 검색 횟수 상위 키워드를 조회합니다.")
+    @GetMapping("/trending-keywords")
+    public ResponseEntity<List<TrendingKeywordDto>> getTrendingKeywords(
+            @Parameter(description = "집계 구간 (HOUR, DAY, WEEK)", example = "HOUR")
+            @RequestParam(defaultValue = "HOUR") TrendingWindow window,
+            @Parameter(description = "조회할 키워드 개수", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+
+        List<TrendingKeywordDto> trendingKeywords = searchService.getTrendingKeywords(window, limit);
+        return ResponseEntity.ok(trendingKeywords);
+    }
+
     @Operation(summary = "최근 검색어 조회", description = "최근 검색어 목록을 조회합니다.")
     @GetMapping("/recent-keywords")
     public ResponseEntity<List<String>> getRecentKeywords(
@@ -154,19 +176,4 @@ public class SearchController {
         List<Object[]> statistics = searchService.getSearchStatistics(days);
         return ResponseEntity.ok(statistics);
     }
-
-    // IP 주소 추출 유틸리티 메서드
-    private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        
-        String xRealIP = request.getHeader("X-Real-IP");
-        if (xRealIP != null && !xRealIP.isEmpty()) {
-            return xRealIP;
-        }
-        
-        return request.getRemoteAddr();
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,75 @@
+package com.example.port_in_scan.domain.search.document;
+
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioCategory;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioStatus;
+import com.example.port_in_scan.domain.portfolio.event.PortfolioChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Elasticsearch 포트폴리오 색인 문서
+ * 인덱스 생성은 ElasticsearchPortfolioIndexer 에서 처리 (ES 가 없는 환경에서도 애플리케이션이 뜨도록 createIndex = false)
+ * 제목/설명/기술스택/태그는 키워드 검색을 위해 searchText 필드로 복사
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(indexName = "portfolios", createIndex = false)
+public class PortfolioDocument {
+
+    @Id
+    @Field(type = FieldType.Long)
+    private Long portfolioId;
+
+    @Field(type = FieldType.Text, copyTo = "searchText")
+    private String title;
+
+    @Field(type = FieldType.Text, copyTo = "searchText")
+    private String description;
+
+    @Field(type = FieldType.Keyword)
+    private PortfolioCategory category;
+
+    @Field(type = FieldType.Keyword)
+    private PortfolioStatus status;
+
+    @Field(type = FieldType.Keyword, copyTo = "searchText")
+    @Builder.Default
+    private List<String> techStacks = new ArrayList<>();
+
+    @Field(type = FieldType.Keyword, copyTo = "searchText")
+    @Builder.Default
+    private List<String> tags = new ArrayList<>();
+
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second_millis)
+    private LocalDateTime createdAt;
+
+    // copy_to 대상 필드 (저장되는 값 없음)
+    @Field(type = FieldType.Text)
+    private String searchText;
+
+    public static PortfolioDocument from(PortfolioChangedEvent event) {
+        return PortfolioDocument.builder()
+                .portfolioId(event.getPortfolioId())
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .category(event.getCategory())
+                .status(event.getStatus())
+                .techStacks(new ArrayList<>(event.getTechStacks()))
+                .tags(new ArrayList<>(event.getTags()))
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+}
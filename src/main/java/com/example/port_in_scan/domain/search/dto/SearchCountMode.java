@@ -0,0 +1,8 @@
+package com.example.port_in_scan.domain.search.dto;
+
+// 검색 결과 전체 건수 계산 방식
+public enum SearchCountMode {
+    EXACT,      // COUNT 쿼리로 정확한 전체 건수 계산
+    ESTIMATED,  // COUNT 쿼리 없이 조회(다음 페이지 여부만 확인)하고 전체 건수는 추정값 사용
+    NONE        // COUNT 쿼리 없이 조회하고 전체 건수는 제공하지 않음
+}
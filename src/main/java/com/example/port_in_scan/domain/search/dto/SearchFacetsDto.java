@@ -0,0 +1,33 @@
+package com.example.port_in_scan.domain.search.dto;
+
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioCategory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 검색 결과 내 필터 값별 건수
+ * 카테고리는 결과에 있는 카테고리 전체, 기술 스택/태그는 건수 상위 N개 (값은 소문자로 정규화된 색인 값)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchFacetsDto {
+
+    private Map<PortfolioCategory, Long> categories;
+    private List<FacetCount> techStacks;
+    private List<FacetCount> tags;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FacetCount {
+        private String value;
+        private long count;
+    }
+}
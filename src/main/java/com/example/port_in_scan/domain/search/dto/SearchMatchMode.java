@@ -0,0 +1,9 @@
+package com.example.port_in_scan.domain.search.dto;
+
+/*
+ * 여러 기술 스택/태그를 지정했을 때의 매칭 방식
+ * ANY: 하나라도 포함 (OR), ALL: 모두 포함 (AND)
+ */
+public enum SearchMatchMode {
+    ANY, ALL
+}
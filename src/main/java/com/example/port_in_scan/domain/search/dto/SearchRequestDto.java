@@ -29,6 +29,18 @@ public class SearchRequestDto {
 
     private List<String> tags;
 
+    // 기술 스택/태그 매칭 방식 (기본값 ANY)
+    @Builder.Default
+    private SearchMatchMode techStackMatch = SearchMatchMode.ANY;
+
+    @Builder.Default
+    private SearchMatchMode tagMatch = SearchMatchMode.ANY;
+
+    // 결과에서 제외할 기술 스택/태그 (하나라도 포함하면 제외)
+    private List<String> excludedTechStacks;
+
+    private List<String> excludedTags;
+
     private String author;
 
     @Builder.Default
@@ -42,4 +54,14 @@ public class SearchRequestDto {
 
     @Builder.Default
     private String sortDir = "desc";
+
+    // 전체 건수 계산 방식 (ESTIMATED/NONE 은 COUNT 쿼리를 생략)
+    @Builder.Default
+    private SearchCountMode countMode = SearchCountMode.EXACT;
+
+    // 결과 내 카테고리/기술 스택/태그별 건수 포함 여부, 기술 스택/태그는 상위 facetSize 개
+    private boolean includeFacets;
+
+    @Builder.Default
+    private int facetSize = 10;
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -23,18 +24,35 @@ public class SearchResponseDto {
     private List<PortfolioResponseDto> portfolios;
     private List<String> relatedKeywords;
     private Long searchTime; // 검색 소요 시간 (ms)
+    private Boolean totalExact; // totalResults 가 정확한 값인지 여부 (false 면 추정값, totalResults 가 null 이면 미제공)
+    private Boolean hasNext;
+    private SearchFacetsDto facets; // 요청 시에만 포함 (지원하지 않는 검색 엔진이면 null)
 
     public static SearchResponseDto from(String keyword, Page<PortfolioResponseDto> portfolioPage, 
                                         List<String> relatedKeywords, Long searchTime) {
+        return from(keyword, portfolioPage, portfolioPage.getTotalElements(), true, relatedKeywords, searchTime, null);
+    }
+
+    public static SearchResponseDto from(String keyword, Slice<PortfolioResponseDto> portfolioSlice, Long totalResults,
+                                        boolean totalExact, List<String> relatedKeywords, Long searchTime,
+                                        SearchFacetsDto facets) {
+        Integer totalPages = null;
+        if (totalResults != null && portfolioSlice.getSize() > 0) {
+            totalPages = (int) Math.ceil((double) totalResults / portfolioSlice.getSize());
+        }
+
         return SearchResponseDto.builder()
                 .keyword(keyword)
-                .totalResults(portfolioPage.getTotalElements())
-                .totalPages(portfolioPage.getTotalPages())
-                .currentPage(portfolioPage.getNumber())
-                .pageSize(portfolioPage.getSize())
-                .portfolios(portfolioPage.getContent())
+                .totalResults(totalResults)
+                .totalPages(totalPages)
+                .currentPage(portfolioSlice.getNumber())
+                .pageSize(portfolioSlice.getSize())
+                .portfolios(portfolioSlice.getContent())
                 .relatedKeywords(relatedKeywords)
                 .searchTime(searchTime)
+                .totalExact(totalExact)
+                .hasNext(portfolioSlice.hasNext())
+                .facets(facets)
                 .build();
     }
 }
\ No newline at end of file
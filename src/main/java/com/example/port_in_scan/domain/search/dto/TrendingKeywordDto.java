@@ -0,0 +1,14 @@
+package com.example.port_in_scan.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingKeywordDto {
+
+    private String keyword;
+    private long count; // 구간 내 추정 검색 횟수 (Count-Min Sketch 특성상 실제 값 이상일 수 있음)
+}
@@ -0,0 +1,16 @@
+package com.example.port_in_scan.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 급상승 검색어 집계 구간
+@Getter
+@AllArgsConstructor
+public enum TrendingWindow {
+
+    HOUR("최근 1시간"),
+    DAY("최근 24시간"),
+    WEEK("최근 7일");
+
+    private final String displayName;
+}
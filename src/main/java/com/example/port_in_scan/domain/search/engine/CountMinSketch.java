@@ -0,0 +1,77 @@
+package com.example.port_in_scan.domain.search.engine;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * Count-Min Sketch (고정 크기 빈도 추정)
+ * - depth 개의 해시 행마다 width 개 카운터를 두고, 추정값은 행별 카운터의 최솟값 (실제 값 이상으로만 틀림)
+ * - 카운터가 원자적이라 여러 스레드가 동시에 add 가능
+ * - 선형이므로 다른 스케치를 더하거나 빼서 구간 합계 스케치를 유지할 수 있음 (같은 width/depth 끼리만)
+ */
+public class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final AtomicLongArray counters;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth <= 0 || width <= 0) {
+            throw new IllegalArgumentException("depth 와 width 는 1 이상이어야 합니다.");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.counters = new AtomicLongArray(depth * width);
+    }
+
+    public void add(String key, long delta) {
+        int h1 = spread(key.hashCode());
+        int h2 = spread(h1 ^ 0x9E3779B9);
+        for (int row = 0; row < depth; row++) {
+            counters.addAndGet(index(row, h1, h2), delta);
+        }
+    }
+
+    public long estimate(String key) {
+        int h1 = spread(key.hashCode());
+        int h2 = spread(h1 ^ 0x9E3779B9);
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.get(index(row, h1, h2)));
+        }
+        return Math.max(min, 0);
+    }
+
+    // other 의 카운터를 sign 배(1: 더하기, -1: 빼기)해서 반영
+    public void merge(CountMinSketch other, int sign) {
+        if (other.depth != depth || other.width != width) {
+            throw new IllegalArgumentException("크기가 다른 스케치는 합칠 수 없습니다.");
+        }
+        for (int i = 0; i < counters.length(); i++) {
+            long value = other.counters.get(i);
+            if (value != 0) {
+                counters.addAndGet(i, sign * value);
+            }
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    // 두 해시를 조합해 행마다 다른 위치 사용 (h1 + row * h2)
+    private int index(int row, int h1, int h2) {
+        int combined = h1 + row * h2;
+        return row * width + Math.floorMod(combined, width);
+    }
+
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.port_in_scan.domain.search.engine;
+
+import com.example.port_in_scan.domain.portfolio.event.PortfolioBatchChangedEvent;
+import com.example.port_in_scan.domain.portfolio.event.PortfolioChangedEvent;
+import com.example.port_in_scan.domain.search.document.PortfolioDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 포트폴리오 변경을 Elasticsearch 색인에 동기화
+ * 색인 실패는 포트폴리오 쓰기를 막지 않도록 로그만 남긴다 (재색인은 search.elasticsearch.reindex-on-startup 으로)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.engine", havingValue = "elasticsearch")
+public class ElasticsearchPortfolioIndexer {
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final PortfolioIndexLoader indexLoader;
+
+    @Value("${search.elasticsearch.reindex-on-startup:false}")
+    private boolean reindexOnStartup;
+
+    // 인덱스가 없으면 매핑과 함께 생성 후 전체 색인
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        IndexOperations indexOperations = elasticsearchOperations.indexOps(PortfolioDocument.class);
+        boolean created = false;
+        if (!indexOperations.exists()) {
+            created = indexOperations.createWithMapping();
+            log.info("Elasticsearch 포트폴리오 인덱스 생성: {}", created);
+        }
+
+        if (created || reindexOnStartup) {
+            int indexed = indexLoader.forEachActive(batch -> elasticsearchOperations.save(
+                    batch.stream().map(PortfolioDocument::from).toList()));
+            indexOperations.refresh();
+            log.info("Elasticsearch 포트폴리오 색인 완료: {}건", indexed);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        try {
+            if (event.isActive()) {
+                elasticsearchOperations.save(PortfolioDocument.from(event));
+            } else {
+                elasticsearchOperations.delete(String.valueOf(event.getPortfolioId()), PortfolioDocument.class);
+            }
+        } catch (Exception e) {
+            log.warn("Elasticsearch 포트폴리오 색인 실패: {} - {}", event.getPortfolioId(), e.getMessage());
+        }
+    }
+
+    // 묶음 변경은 ACTIVE 포트폴리오를 bulk 요청 한 번으로 색인
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPortfoliosChanged(PortfolioBatchChangedEvent event) {
+        List<PortfolioDocument> documents = new ArrayList<>();
+        for (PortfolioChangedEvent change : event.getChanges()) {
+            if (change.isActive()) {
+                documents.add(PortfolioDocument.from(change));
+            } else {
+                onPortfolioChanged(change);
+            }
+        }
+        if (documents.isEmpty()) {
+            return;
+        }
+        try {
+            elasticsearchOperations.save(documents);
+        } catch (Exception e) {
+            log.warn("Elasticsearch 포트폴리오 일괄 색인 실패 ({}건): {}", documents.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.port_in_scan.domain.search.engine;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioResponseDto;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioStatus;
+import com.example.port_in_scan.domain.search.document.PortfolioDocument;
+import com.example.port_in_scan.domain.search.dto.SearchMatchMode;
+import com.example.port_in_scan.domain.search.dto.SearchRequestDto;
+import com.example.port_in_scan.domain.search.entity.SearchType;
+import com.example.port_in_scan.exception.AppException;
+import com.example.port_in_scan.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/*
+ * Elasticsearch 기반 검색 엔진 (search.engine=elasticsearch)
+ * 키워드/기술스택/태그/카테고리/복합 검색을 ES 에서 수행하고, 결과 ID 만 DB 에서 한 번에 조회
+ * 기술 스택/태그 매칭 방식(ANY/ALL)과 제외 조건도 ES 필터로 반영
+ * ES 문서에 없는 필드로 정렬하는 요청(조회수, 좋아요 등)은 JPA 엔진으로 폴백
+ * 단, JPA 검색은 ALL 매칭/제외 조건을 지원하지 않으므로 이 경우엔 조건을 버리지 않고 400 으로 거부
+ */
+@Component
+@Order(0)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.engine", havingValue = "elasticsearch")
+public class ElasticsearchPortfolioSearchEngine implements PortfolioSearchEngine {
+
+    private static final Set<SearchType> SUPPORTED_TYPES = Set.of(
+            SearchType.KEYWORD, SearchType.TECH_STACK, SearchType.TAG, SearchType.CATEGORY, SearchType.COMPLEX);
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("createdAt", "portfolioId");
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final PortfolioIdHydrator idHydrator;
+    private final JpaPortfolioSearchEngine fallbackEngine;
+
+    @Override
+    public boolean supports(SearchRequestDto requestDto) {
+        SearchType searchType = requestDto.getSearchType() != null ? requestDto.getSearchType() : SearchType.KEYWORD;
+        return SUPPORTED_TYPES.contains(searchType);
+    }
+
+    @Override
+    public Page<PortfolioResponseDto> search(SearchRequestDto requestDto, Pageable pageable) {
+        if (!isSortable(pageable.getSort())) {
+            if (requiresEngineFilters(requestDto)) {
+                throw new AppException(ErrorCode.SEARCH_SORT_NOT_SUPPORTED.getMessage(), ErrorCode.SEARCH_SORT_NOT_SUPPORTED);
+            }
+            return fallbackEngine.search(requestDto, pageable);
+        }
+
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(buildQuery(requestDto))
+                .withPageable(pageable)
+                .withTrackTotalHits(true)
+                .build();
+
+        SearchHits<PortfolioDocument> hits = elasticsearchOperations.search(query, PortfolioDocument.class);
+        List<Long> ids = hits.getSearchHits().stream()
+                .map(SearchHit::getContent)
+                .map(PortfolioDocument::getPortfolioId)
+                .toList();
+
+        return new PageImpl<>(idHydrator.hydrate(ids), pageable, hits.getTotalHits());
+    }
+
+    private boolean isSortable(Sort sort) {
+        return sort.stream().allMatch(order -> SORTABLE_PROPERTIES.contains(order.getProperty()));
+    }
+
+    // JPA 폴백으로는 같은 결과를 낼 수 없는 조건 (ALL 매칭, 제외)
+    private static boolean requiresEngineFilters(SearchRequestDto requestDto) {
+        return requestDto.getTechStackMatch() == SearchMatchMode.ALL
+                || requestDto.getTagMatch() == SearchMatchMode.ALL
+                || hasValues(requestDto.getExcludedTechStacks())
+                || hasValues(requestDto.getExcludedTags());
+    }
+
+    private Query buildQuery(SearchRequestDto requestDto) {
+        BoolQuery.Builder bool = new BoolQuery.Builder()
+                .filter(termQuery("status", PortfolioStatus.ACTIVE.name()));
+
+        // 제외 조건은 검색 타입과 관계없이 적용 (하나라도 포함하면 제외)
+        if (hasValues(requestDto.getExcludedTechStacks())) {
+            bool.mustNot(termsQuery("techStacks", requestDto.getExcludedTechStacks()));
+        }
+        if (hasValues(requestDto.getExcludedTags())) {
+            bool.mustNot(termsQuery("tags", requestDto.getExcludedTags()));
+        }
+
+        boolean hasTechStacks = hasValues(requestDto.getTechStacks());
+        boolean hasTags = hasValues(requestDto.getTags());
+
+        switch (requestDto.getSearchType() != null ? requestDto.getSearchType() : SearchType.KEYWORD) {
+            case TECH_STACK:
+                if (hasTechStacks) {
+                    return filterValues(bool, "techStacks", requestDto.getTechStacks(), requestDto.getTechStackMatch())
+                            .build()._toQuery();
+                }
+                break;
+            case TAG:
+                if (hasTags) {
+                    return filterValues(bool, "tags", requestDto.getTags(), requestDto.getTagMatch()).build()._toQuery();
+                }
+                break;
+            case CATEGORY:
+                if (requestDto.getCategory() != null) {
+                    return bool.filter(termQuery("category", requestDto.getCategory().name())).build()._toQuery();
+                }
+                break;
+            case COMPLEX:
+                // 복합 검색은 키워드/카테고리/기술 스택/태그 조건을 모두 AND 로 결합
+                if (requestDto.getKeyword() != null && !requestDto.getKeyword().isBlank()) {
+                    bool.must(keywordQuery(requestDto.getKeyword()));
+                }
+                if (requestDto.getCategory() != null) {
+                    bool.filter(termQuery("category", requestDto.getCategory().name()));
+                }
+                if (hasTechStacks) {
+                    filterValues(bool, "techStacks", requestDto.getTechStacks(), requestDto.getTechStackMatch());
+                }
+                if (hasTags) {
+                    filterValues(bool, "tags", requestDto.getTags(), requestDto.getTagMatch());
+                }
+                return bool.build()._toQuery();
+            default:
+                break;
+        }
+
+        // 기본 키워드 검색
+        return bool.must(keywordQuery(requestDto.getKeyword())).build()._toQuery();
+    }
+
+    // ANY 는 terms 하나, ALL 은 값마다 term 필터
+    private static BoolQuery.Builder filterValues(BoolQuery.Builder bool, String field, List<String> values, SearchMatchMode mode) {
+        if (mode == SearchMatchMode.ALL) {
+            values.forEach(value -> bool.filter(termQuery(field, value)));
+            return bool;
+        }
+        return bool.filter(termsQuery(field, values));
+    }
+
+    private static boolean hasValues(List<String> values) {
+        return values != null && !values.isEmpty();
+    }
+
+    private static Query keywordQuery(String keyword) {
+        return Query.of(q -> q.match(m -> m.field("searchText").query(keyword).operator(Operator.And)));
+    }
+
+    private static Query termQuery(String field, String value) {
+        return Query.of(q -> q.term(t -> t.field(field).value(value)));
+    }
+
+    private static Query termsQuery(String field, List<String> values) {
+        List<FieldValue> fieldValues = values.stream().map(FieldValue::of).toList();
+        return Query.of(q -> q.terms(t -> t.field(field).terms(terms -> terms.value(fieldValues))));
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.port_in_scan.domain.search.engine;
+
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioResponseDto;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioStatus;
+import com.example.port_in_scan.domain.portfolio.repository.PortfolioRepository;
+import com.example.port_in_scan.domain.portfolio.service.PortfolioResponseAssembler;
+import com.example.port_in_scan.domain.search.dto.SearchFacetsDto;
+import com.example.port_in_scan.domain.search.dto.SearchMatchMode;
+import com.example.port_in_scan.domain.search.dto.SearchRequestDto;
+import com.example.port_in_scan.domain.search.entity.SearchType;
+import com.example.port_in_scan.exception.AppException;
+import com.example.port_in_scan.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/*
+ * 메모리 색인 기반 검색 엔진
+ * - 키워드는 역색인, 기술 스택/태그/카테고리/상태 조건은 비트맵 색인으로 일치하는 ID 비트맵을 구함
+ * - 조건 조합은 SearchRequestDto 의 매칭 방식(ANY/ALL)과 제외 값을 그대로 반영
+ * - 일치한 ID 중 해당 페이지만 한 번의 IN 쿼리로 포트폴리오를 조회 (LIKE/JOIN 풀스캔, count 쿼리 없음)
+ */
+@Component
+@Order(1)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.engine", havingValue = "index", matchIfMissing = true)
+public class InvertedIndexSearchEngine implements PortfolioSearchEngine {
+
+    // 색인 내에서 바로 페이지를 자를 수 있는 정렬 기준 (ID 순서 = 생성일 순서)
+    private static final Set<String> ID_ORDERED_PROPERTIES = Set.of("createdAt", "portfolioId");
+
+    private final PortfolioInvertedIndex invertedIndex;
+    private final PortfolioBitmapIndex bitmapIndex;
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioIdHydrator idHydrator;
+    private final PortfolioResponseAssembler responseAssembler;
+    private final JpaPortfolioSearchEngine fallbackEngine;
+
+    // 생성일 이외 정렬 시 DB 에 넘길 수 있는 최대 ID 개수 (초과하면 LIKE 검색으로 폴백, 색인 전용 조건이면 400)
+    @Value("${search.index.max-hydrate-ids:10000}")
+    private int maxHydrateIds;
+
+    @Override
+    public boolean supports(SearchRequestDto requestDto) {
+        return switch (searchTypeOf(requestDto)) {
+            case TECH_STACK -> hasValues(requestDto.getTechStacks()) || hasKeyword(requestDto);
+            case TAG -> hasValues(requestDto.getTags()) || hasKeyword(requestDto);
+            case CATEGORY -> requestDto.getCategory() != null || hasKeyword(requestDto);
+            case COMPLEX -> true;
+            default -> hasKeyword(requestDto);
+        };
+    }
+
+    @Override
+    public Page<PortfolioResponseDto> search(SearchRequestDto requestDto, Pageable pageable) {
+        RoaringBitmap matchedIds = match(requestDto);
+        if (matchedIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        if (isIdOrdered(pageable.getSort())) {
+            return searchInIdOrder(matchedIds, pageable);
+        }
+
+        // IN 쿼리 크기 상한 초과 시 LIKE 검색으로 폴백
+        // 매칭 방식/제외 조건은 DB 검색으로 같은 결과를 낼 수 없으므로 폴백 대신 정렬을 거부
+        if (matchedIds.getCardinality() > maxHydrateIds) {
+            if (requiresIndex(requestDto)) {
+                throw new AppException(ErrorCode.SEARCH_SORT_NOT_SUPPORTED.getMessage(), ErrorCode.SEARCH_SORT_NOT_SUPPORTED);
+            }
+            return fallbackEngine.search(requestDto, pageable);
+        }
+
+        // 그 외 정렬은 일치한 ID 집합 안에서만 DB 정렬 (전체 건수는 색인 결과로 계산)
+        List<Long> ids = new ArrayList<>(matchedIds.getCardinality());
+        matchedIds.forEach((int id) -> ids.add((long) id));
+        List<PortfolioResponseDto> content = responseAssembler.assemble(portfolioRepository
+                .findByPortfolioIdInAndStatus(ids, PortfolioStatus.ACTIVE, pageable));
+        return new PageImpl<>(content, pageable, matchedIds.getCardinality());
+    }
+
+    // 검색과 같은 조건으로 ID 비트맵을 다시 구해서 집계 (비트맵 연산이라 검색 한 번보다 훨씬 저렴)
+    @Override
+    public Optional<SearchFacetsDto> facets(SearchRequestDto requestDto, int facetSize) {
+        return Optional.of(bitmapIndex.facets(match(requestDto), facetSize));
+    }
+
+    /*
+     * 검색 타입별 조건을 JpaPortfolioSearchEngine 과 같은 기준으로 해석
+     * TECH_STACK/TAG/CATEGORY 는 해당 조건이 없으면 키워드 검색, COMPLEX 는 모든 조건과 키워드를 AND 로 결합
+     */
+    private RoaringBitmap match(SearchRequestDto requestDto) {
+        PortfolioBitmapIndex.Query.QueryBuilder query = PortfolioBitmapIndex.Query.builder()
+                .status(PortfolioStatus.ACTIVE)
+                .excludedTechStacks(requestDto.getExcludedTechStacks())
+                .excludedTags(requestDto.getExcludedTags());
+        boolean byKeyword = false;
+
+        switch (searchTypeOf(requestDto)) {
+            case TECH_STACK -> {
+                if (hasValues(requestDto.getTechStacks())) {
+                    query.techStacks(requestDto.getTechStacks()).techStackMatch(requestDto.getTechStackMatch());
+                } else {
+                    byKeyword = true;
+                }
+            }
+            case TAG -> {
+                if (hasValues(requestDto.getTags())) {
+                    query.tags(requestDto.getTags()).tagMatch(requestDto.getTagMatch());
+                } else {
+                    byKeyword = true;
+                }
+            }
+            case CATEGORY -> {
+                if (requestDto.getCategory() != null) {
+                    query.category(requestDto.getCategory());
+                } else {
+                    byKeyword = true;
+                }
+            }
+            case COMPLEX -> {
+                query.category(requestDto.getCategory())
+                        .techStacks(requestDto.getTechStacks()).techStackMatch(requestDto.getTechStackMatch())
+                        .tags(requestDto.getTags()).tagMatch(requestDto.getTagMatch());
+                byKeyword = hasKeyword(requestDto);
+            }
+            default -> byKeyword = true;
+        }
+
+        // 키워드 조건이 있으면 키워드 결과를 먼저 구해서 비어 있으면 비트맵 연산 생략
+        RoaringBitmap keywordIds = byKeyword ? invertedIndex.search(requestDto.getKeyword()) : null;
+        if (keywordIds != null && keywordIds.isEmpty()) {
+            return keywordIds;
+        }
+
+        RoaringBitmap matched = bitmapIndex.match(query.build());
+        if (keywordIds != null) {
+            matched.and(keywordIds);
+        }
+        return matched;
+    }
+
+    private Page<PortfolioResponseDto> searchInIdOrder(RoaringBitmap matchedIds, Pageable pageable) {
+        Sort.Order order = pageable.getSort().iterator().hasNext() ? pageable.getSort().iterator().next() : null;
+        boolean ascending = order != null && order.isAscending();
+        int total = matchedIds.getCardinality();
+
+        // 해당 페이지의 ID 만 비트맵에서 순위(select)로 꺼냄 (기본은 최신순 = ID 내림차순)
+        long from = Math.min(pageable.getOffset(), total);
+        long to = Math.min(from + pageable.getPageSize(), total);
+        List<Long> pageIds = new ArrayList<>((int) (to - from));
+        for (long rank = from; rank < to; rank++) {
+            int index = (int) (ascending ? rank : total - 1 - rank);
+            pageIds.add((long) matchedIds.select(index));
+        }
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        // 해당 페이지의 ID 만 조회 (색인 순서 유지)
+        List<PortfolioResponseDto> content = idHydrator.hydrate(pageIds);
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private boolean isIdOrdered(Sort sort) {
+        if (sort.isUnsorted()) {
+            return true;
+        }
+        Sort.Direction direction = null;
+        for (Sort.Order order : sort) {
+            if (!ID_ORDERED_PROPERTIES.contains(order.getProperty())
+                    || (direction != null && direction != order.getDirection())) {
+                return false;
+            }
+            direction = order.getDirection();
+        }
+        return true;
+    }
+
+    // DB 검색으로는 같은 결과를 낼 수 없는 조건 (ALL 매칭, 제외, COMPLEX 의 여러 값)
+    private static boolean requiresIndex(SearchRequestDto requestDto) {
+        return requestDto.getTechStackMatch() == SearchMatchMode.ALL
+                || requestDto.getTagMatch() == SearchMatchMode.ALL
+                || hasValues(requestDto.getExcludedTechStacks())
+                || hasValues(requestDto.getExcludedTags())
+                || searchTypeOf(requestDto) == SearchType.COMPLEX;
+    }
+
+    private static SearchType searchTypeOf(SearchRequestDto requestDto) {
+        return requestDto.getSearchType() != null ? requestDto.getSearchType() : SearchType.KEYWORD;
+    }
+
+    private static boolean hasKeyword(SearchRequestDto requestDto) {
+        return requestDto.getKeyword() != null && !requestDto.getKeyword().isBlank();
+    }
+
+    private static boolean hasValues(List<String> values) {
+        return values != null && !values.isEmpty();
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.port_in_scan.domain.search.engine;
+
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioResponseDto;
+import com.example.port_in_scan.domain.portfolio.entity.Portfolio;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioStatus;
+import com.example.port_in_scan.domain.portfolio.repository.PortfolioRepository;
+import com.example.port_in_scan.domain.portfolio.service.PortfolioResponseAssembler;
+import com.example.port_in_scan.domain.search.dto.SearchRequestDto;
+import com.example.port_in_scan.domain.search.entity.SearchType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+ * DB(LIKE / JOIN) 기반 검색 엔진
+ * search.engine=like 설정 시 단독으로 사용되며, 다른 엔진이 지원하지 않는 검색의 폴백 역할
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class JpaPortfolioSearchEngine implements PortfolioSearchEngine {
+
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioResponseAssembler responseAssembler;
+
+    @Override
+    public boolean supports(SearchRequestDto requestDto) {
+        return true;
+    }
+
+    @Override
+    public Page<PortfolioResponseDto> search(SearchRequestDto requestDto, Pageable pageable) {
+        return responseAssembler.assemble((Page<Portfolio>) find(requestDto, pageable, true));
+    }
+
+    // DISTINCT 조인 검색의 COUNT(DISTINCT) 쿼리를 생략
+    @Override
+    public Slice<PortfolioResponseDto> searchSlice(SearchRequestDto requestDto, Pageable pageable) {
+        return responseAssembler.assemble(find(requestDto, pageable, false));
+    }
+
+    @Override
+    public boolean countsSeparately() {
+        return true;
+    }
+
+    /*
+     * find() 와 같은 조건의 COUNT 쿼리
+     * 호출 스레드의 트랜잭션이 없으면(병렬 작업) 자체 읽기 전용 트랜잭션에서 별도 커넥션으로 실행
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long count(SearchRequestDto requestDto) {
+        switch (requestDto.getSearchType() != null ? requestDto.getSearchType() : SearchType.KEYWORD) {
+            case TECH_STACK:
+                if (requestDto.getTechStacks() != null && !requestDto.getTechStacks().isEmpty()) {
+                    return portfolioRepository.countByTechStacksInAndStatus(requestDto.getTechStacks(), PortfolioStatus.ACTIVE);
+                }
+                break;
+            case TAG:
+                if (requestDto.getTags() != null && !requestDto.getTags().isEmpty()) {
+                    return portfolioRepository.countByTagsInAndStatus(requestDto.getTags(), PortfolioStatus.ACTIVE);
+                }
+                break;
+            case CATEGORY:
+                if (requestDto.getCategory() != null) {
+                    return portfolioRepository.countByStatusAndCategory(PortfolioStatus.ACTIVE, requestDto.getCategory());
+                }
+                break;
+            case COMPLEX:
+                String techStack = requestDto.getTechStacks() != null && !requestDto.getTechStacks().isEmpty() ?
+                        requestDto.getTechStacks().get(0) : null;
+                String tag = requestDto.getTags() != null && !requestDto.getTags().isEmpty() ?
+                        requestDto.getTags().get(0) : null;
+                return portfolioRepository.countByComplexSearch(requestDto.getKeyword(), requestDto.getCategory(),
+                        techStack, tag, PortfolioStatus.ACTIVE);
+            default:
+                break;
+        }
+        return portfolioRepository.countByTitleOrDescriptionContainingAndStatus(requestDto.getKeyword(), PortfolioStatus.ACTIVE);
+    }
+
+    // countTotal 이 true 면 Page(COUNT 쿼리 포함), false 면 Slice 로 조회
+    private Slice<Portfolio> find(SearchRequestDto requestDto, Pageable pageable, boolean countTotal) {
+        // 검색 타입에 따른 분기 처리
+        switch (requestDto.getSearchType() != null ? requestDto.getSearchType() : SearchType.KEYWORD) {
+            case TECH_STACK:
+                if (requestDto.getTechStacks() != null && !requestDto.getTechStacks().isEmpty()) {
+                    return countTotal
+                            ? portfolioRepository.findByTechStacksInAndStatus(
+                                    requestDto.getTechStacks(), PortfolioStatus.ACTIVE, pageable)
+                            : portfolioRepository.findSliceByTechStacksInAndStatus(
+                                    requestDto.getTechStacks(), PortfolioStatus.ACTIVE, pageable);
+                }
+                break;
+            case TAG:
+                if (requestDto.getTags() != null && !requestDto.getTags().isEmpty()) {
+                    return countTotal
+                            ? portfolioRepository.findByTagsInAndStatus(
+                                    requestDto.getTags(), PortfolioStatus.ACTIVE, pageable)
+                            : portfolioRepository.findSliceByTagsInAndStatus(
+                                    requestDto.getTags(), PortfolioStatus.ACTIVE, pageable);
+                }
+                break;
+            case CATEGORY:
+                if (requestDto.getCategory() != null) {
+                    return countTotal
+                            ? portfolioRepository.findByStatusAndCategory(
+                                    PortfolioStatus.ACTIVE, requestDto.getCategory(), pageable)
+                            : portfolioRepository.findSliceByStatusAndCategory(
+                                    PortfolioStatus.ACTIVE, requestDto.getCategory(), pageable);
+                }
+                break;
+            case COMPLEX:
+                String techStack = requestDto.getTechStacks() != null && !requestDto.getTechStacks().isEmpty() ?
+                        requestDto.getTechStacks().get(0) : null;
+                String tag = requestDto.getTags() != null && !requestDto.getTags().isEmpty() ?
+                        requestDto.getTags().get(0) : null;
+                return countTotal
+                        ? portfolioRepository.findByComplexSearch(requestDto.getKeyword(), requestDto.getCategory(),
+                                techStack, tag, PortfolioStatus.ACTIVE, pageable)
+                        : portfolioRepository.findSliceByComplexSearch(requestDto.getKeyword(), requestDto.getCategory(),
+                                techStack, tag, PortfolioStatus.ACTIVE, pageable);
+            default:
+                // 기본 키워드 검색
+                return findByKeyword(requestDto, pageable, countTotal);
+        }
+
+        // 기본 키워드 검색으로 폴백
+        return findByKeyword(requestDto, pageable, countTotal);
+    }
+
+    private Slice<Portfolio> findByKeyword(SearchRequestDto requestDto, Pageable pageable, boolean countTotal) {
+        return countTotal
+                ? portfolioRepository.findByTitleOrDescriptionContainingAndStatus(
+                        requestDto.getKeyword(), PortfolioStatus.ACTIVE, pageable)
+                : portfolioRepository.findSliceByTitleOrDescriptionContainingAndStatus(
+                        requestDto.getKeyword(), PortfolioStatus.ACTIVE, pageable);
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.port_in_scan.domain.search.engine;
+
+import com.example.port_in_scan.domain.search.entity.PopularSearch;
+import com.example.port_in_scan.domain.search.repository.PopularSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * 인기 검색어 자동완성용 트라이
+ * - 각 노드에 검색 횟수 기준 상위 K개의 완성 키워드를 미리 저장해 두고, 조회 시 접두어 경로만 따라감
+ * - 키워드의 각 단어 시작 위치도 색인하므로 "boot" 로 "spring boot" 를 찾을 수 있다.
+ * - 인기 검색어 집계가 DB 에 반영될 때 증가분을 increment 로 즉시 반영하고, 주기적으로 popular_searches 에서 전체 재구성
+ * - popular_searches 는 "React"/"react" 를 다른 행으로 집계하므로, 대소문자만 다른 키워드는 가중치를 합쳐 하나로 제안
+ * - 재구성 중 들어온 증가분은 따로 모아 두었다가 교체 직전에 새 트라이에 다시 반영
+ *   (읽기 전에 커밋된 증가분은 두 번 더해질 수 있지만 다음 재구성에서 바로잡힘)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordSuggestionTrie {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final PopularSearchRepository popularSearchRepository;
+
+    @Value("${search.suggestion.top-k:10}")
+    private int topK;
+
+    @Value("${search.suggestion.max-keywords:100000}")
+    private int maxKeywords;
+
+    private volatile Node root = new Node();
+
+    // 정규화한 키워드별 현재 항목 (증가분 반영용)
+    private volatile Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // 재구성 중 들어온 키워드별 증가분 (this 로 동기화, 재구성 중이 아니면 null)
+    private Map<String, Long> pendingIncrements;
+
+    // 시작 시 재구성과 주기 재구성이 겹치지 않도록 한 번에 하나씩
+    private final Lock rebuildLock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${search.suggestion.rebuild-interval-ms:600000}",
+            fixedDelayString = "${search.suggestion.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            doRebuild();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void doRebuild() {
+        synchronized (this) {
+            pendingIncrements = new HashMap<>();
+        }
+
+        Node newRoot = new Node();
+        Map<String, Entry> newEntries = new ConcurrentHashMap<>();
+        int loaded = 0;
+        try {
+            int page = 0;
+            while (loaded < maxKeywords) {
+                Page<PopularSearch> batch = popularSearchRepository.findAllByOrderBySearchCountDesc(
+                        PageRequest.of(page++, LOAD_BATCH_SIZE));
+                for (PopularSearch popularSearch : batch) {
+                    add(newRoot, newEntries, popularSearch.getKeyword(), popularSearch.getSearchCount());
+                }
+                loaded += batch.getNumberOfElements();
+                if (!batch.hasNext()) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingIncrements = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            pendingIncrements.forEach((keyword, delta) -> add(newRoot, newEntries, keyword, delta));
+            pendingIncrements = null;
+            root = newRoot;
+            entries = newEntries;
+        }
+        log.info("검색어 자동완성 트라이 재구성 완료: {}건", loaded);
+    }
+
+    // 키워드의 가중치(검색 횟수)에 증가분을 더함 (트라이에 없던 키워드는 증가분을 가중치로 추가)
+    public synchronized void increment(String keyword, long delta) {
+        if (delta <= 0) {
+            return;
+        }
+        add(root, entries, keyword, delta);
+        if (pendingIncrements != null && keyword != null && !keyword.isBlank()) {
+            pendingIncrements.merge(keyword, delta, Long::sum);
+        }
+    }
+
+    // 접두어로 시작하는 키워드를 가중치 내림차순으로 최대 limit(상위 K 이내)개 반환
+    public List<String> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        Node node = root;
+        for (int i = 0; i < normalized.length() && node != null; i++) {
+            node = node.children.get(normalized.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+
+        Entry[] top = node.top;
+        int size = Math.min(Math.max(limit, 0), top.length);
+        List<String> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(top[i].keyword());
+        }
+        return result;
+    }
+
+    /*
+     * 대소문자만 다른 키워드는 같은 항목으로 보고 가중치를 더함
+     * 표시 형태는 먼저 들어온 것을 유지 (재구성은 검색 횟수 내림차순으로 읽으므로 검색 횟수가 가장 많은 행의 형태)
+     */
+    private void add(Node root, Map<String, Entry> entries, String keyword, Long weight) {
+        if (keyword == null || keyword.isBlank() || weight == null) {
+            return;
+        }
+        String normalized = normalize(keyword);
+        Entry existing = entries.get(normalized);
+        Entry entry = existing != null
+                ? new Entry(normalized, existing.keyword(), existing.weight() + weight)
+                : new Entry(normalized, keyword.trim(), weight);
+        entries.put(normalized, entry);
+        insert(root, entry);
+    }
+
+    private void insert(Node root, Entry entry) {
+        String normalized = entry.normalized();
+
+        for (int start = 0; start < normalized.length(); start++) {
+            if (start > 0 && !Character.isWhitespace(normalized.charAt(start - 1))) {
+                continue;
+            }
+            if (Character.isWhitespace(normalized.charAt(start))) {
+                continue;
+            }
+
+            Node node = root;
+            for (int i = start; i < normalized.length(); i++) {
+                node = node.children.computeIfAbsent(normalized.charAt(i), key -> new Node());
+                node.offer(entry, topK);
+            }
+        }
+        root.offer(entry, topK);
+    }
+
+    private static String normalize(String keyword) {
+        return keyword == null ? "" : keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(String normalized, String keyword, long weight) {
+    }
+
+    private static final class Node {
+
+        private static final Entry[] EMPTY = new Entry[0];
+
+        private final Map<Character, Node> children = new ConcurrentHashMap<>();
+
+        // 읽기 스레드는 잠금 없이 배열을 읽고, 쓰기 시에는 새 배열로 교체
+        private volatile Entry[] top = EMPTY;
+
+        private void offer(Entry entry, int topK) {
+            List<Entry> candidates = new ArrayList<>(top.length + 1);
+            for (Entry existing : top) {
+                if (!existing.normalized().equals(entry.normalized())) {
+                    candidates.add(existing);
+                }
+            }
+            candidates.add(entry);
+            candidates.sort(Comparator.comparingLong(Entry::weight).reversed());
+            if (candidates.size() > topK) {
+                candidates = candidates.subList(0, topK);
+            }
+            top = candidates.toArray(EMPTY);
+        }
+    }
+}
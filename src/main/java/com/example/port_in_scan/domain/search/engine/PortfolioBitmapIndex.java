@@ -0,0 +1,321 @@
+package com.example.port_in_scan.domain.search.engine;
+
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioCategory;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioStatus;
+import com.example.port_in_scan.domain.portfolio.event.PortfolioBatchChangedEvent;
+import com.example.port_in_scan.domain.portfolio.event.PortfolioChangedEvent;
+import com.example.port_in_scan.domain.search.dto.SearchFacetsDto;
+import com.example.port_in_scan.domain.search.dto.SearchMatchMode;
+import lombok.Builder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * 기술 스택/태그/카테고리/상태 값별 포트폴리오 ID 압축 비트맵 색인 (RoaringBitmap)
+ * - 기술 스택/태그는 소문자로 정규화해서 정확히 일치하는 값만 매칭
+ * - 조건 조합(ANY/ALL, 제외)은 비트맵 AND/OR/ANDNOT 으로 계산하고, 결과 ID 로 해당 페이지만 DB 에서 조회
+ * - 포트폴리오 ID 는 IDENTITY 로 발급되는 int 범위 값을 전제로 함 (범위를 넘는 ID 는 색인하지 않음)
+ * - 포트폴리오 변경은 트랜잭션 커밋 이후 PortfolioChangedEvent 로 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.engine", havingValue = "index", matchIfMissing = true)
+public class PortfolioBitmapIndex {
+
+    private final PortfolioIndexLoader indexLoader;
+
+    private final Map<String, RoaringBitmap> techStacks = new HashMap<>();
+    private final Map<String, RoaringBitmap> tags = new HashMap<>();
+    private final Map<PortfolioCategory, RoaringBitmap> categories = new EnumMap<>(PortfolioCategory.class);
+    private final Map<PortfolioStatus, RoaringBitmap> statuses = new EnumMap<>(PortfolioStatus.class);
+
+    // 포트폴리오 ID -> 색인된 값 (수정 시 기존 색인 제거용)
+    private final Map<Integer, Document> documents = new HashMap<>();
+
+    // 조회는 여러 요청이 동시에, 변경은 단독으로 (비트맵 연산은 마이크로초 단위라 잠금 경합이 짧음)
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /*
+     * 비트맵 조회 조건
+     * null 또는 빈 값인 조건은 적용하지 않음
+     */
+    @Builder
+    public record Query(PortfolioStatus status,
+                        PortfolioCategory category,
+                        Collection<String> techStacks,
+                        SearchMatchMode techStackMatch,
+                        Collection<String> tags,
+                        SearchMatchMode tagMatch,
+                        Collection<String> excludedTechStacks,
+                        Collection<String> excludedTags) {
+    }
+
+    // 애플리케이션 시작 시 전체 포트폴리오 색인 (상태 비트맵을 위해 ACTIVE 이외 상태도 포함)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int indexed = indexLoader.forEach(batch -> batch.forEach(this::index));
+        log.info("포트폴리오 비트맵 색인 완료: {}건, 기술 스택 {}개, 태그 {}개", indexed, techStacks.size(), tags.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        index(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPortfoliosChanged(PortfolioBatchChangedEvent event) {
+        event.getChanges().forEach(this::index);
+    }
+
+    public void index(PortfolioChangedEvent event) {
+        Long portfolioId = event.getPortfolioId();
+        if (portfolioId == null || portfolioId > Integer.MAX_VALUE) {
+            log.warn("비트맵 색인 범위를 벗어난 포트폴리오 ID: {}", portfolioId);
+            return;
+        }
+        int id = portfolioId.intValue();
+        Document document = new Document(event.getCategory(), event.getStatus(),
+                normalize(event.getTechStacks()), normalize(event.getTags()));
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.put(id, document);
+            if (previous != null) {
+                unindex(id, previous);
+            }
+            if (document.category() != null) {
+                categories.computeIfAbsent(document.category(), key -> new RoaringBitmap()).add(id);
+            }
+            if (document.status() != null) {
+                statuses.computeIfAbsent(document.status(), key -> new RoaringBitmap()).add(id);
+            }
+            document.techStacks().forEach(value -> techStacks.computeIfAbsent(value, key -> new RoaringBitmap()).add(id));
+            document.tags().forEach(value -> tags.computeIfAbsent(value, key -> new RoaringBitmap()).add(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long portfolioId) {
+        if (portfolioId == null || portfolioId > Integer.MAX_VALUE) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(portfolioId.intValue());
+            if (previous != null) {
+                unindex(portfolioId.intValue(), previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 조건에 일치하는 포트폴리오 ID 비트맵 반환 (호출자가 자유롭게 변경할 수 있는 새 비트맵)
+    public RoaringBitmap match(Query query) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result;
+            if (query.status() != null) {
+                result = copyOf(statuses.get(query.status()));
+            } else {
+                result = new RoaringBitmap();
+                documents.keySet().forEach(result::add);
+            }
+
+            if (query.category() != null) {
+                result.and(bitmapOf(categories.get(query.category())));
+            }
+            Set<String> requiredTechStacks = normalize(query.techStacks());
+            if (!requiredTechStacks.isEmpty()) {
+                result.and(combine(techStacks, requiredTechStacks, query.techStackMatch()));
+            }
+            Set<String> requiredTags = normalize(query.tags());
+            if (!requiredTags.isEmpty()) {
+                result.and(combine(tags, requiredTags, query.tagMatch()));
+            }
+            Set<String> excludedTechStacks = normalize(query.excludedTechStacks());
+            if (!excludedTechStacks.isEmpty()) {
+                result.andNot(combine(techStacks, excludedTechStacks, SearchMatchMode.ANY));
+            }
+            Set<String> excludedTags = normalize(query.excludedTags());
+            if (!excludedTags.isEmpty()) {
+                result.andNot(combine(tags, excludedTags, SearchMatchMode.ANY));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * 결과 ID 집합에 대한 카테고리/기술 스택/태그별 건수
+     * - 카테고리는 카테고리 비트맵과의 교집합 크기(andCardinality)
+     * - 기술 스택/태그는 결과가 값 종류보다 적으면 결과 ID 를 한 번 순회하며 문서별 값을 집계하고,
+     *   많으면 값별 비트맵과의 교집합 크기를 계산 (어느 쪽이든 결과 크기에 비례하는 SQL 집계 없음)
+     */
+    public SearchFacetsDto facets(RoaringBitmap ids, int topN) {
+        lock.readLock().lock();
+        try {
+            Map<PortfolioCategory, Long> categoryCounts = new EnumMap<>(PortfolioCategory.class);
+            categories.forEach((category, bitmap) -> {
+                long count = RoaringBitmap.andCardinality(ids, bitmap);
+                if (count > 0) {
+                    categoryCounts.put(category, count);
+                }
+            });
+
+            Map<String, Long> techStackCounts;
+            Map<String, Long> tagCounts;
+            if (ids.getCardinality() < techStacks.size() + tags.size()) {
+                techStackCounts = new HashMap<>();
+                tagCounts = new HashMap<>();
+                ids.forEach((int id) -> {
+                    Document document = documents.get(id);
+                    if (document != null) {
+                        document.techStacks().forEach(value -> techStackCounts.merge(value, 1L, Long::sum));
+                        document.tags().forEach(value -> tagCounts.merge(value, 1L, Long::sum));
+                    }
+                });
+            } else {
+                techStackCounts = intersectCounts(techStacks, ids);
+                tagCounts = intersectCounts(tags, ids);
+            }
+
+            return SearchFacetsDto.builder()
+                    .categories(categoryCounts)
+                    .techStacks(top(techStackCounts, topN))
+                    .tags(top(tagCounts, topN))
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ANY 는 합집합, ALL 은 교집합 (ALL 은 작은 비트맵부터 교집합해서 빠르게 비움)
+    private static RoaringBitmap combine(Map<String, RoaringBitmap> bitmaps, Set<String> values, SearchMatchMode mode) {
+        if (mode == SearchMatchMode.ALL) {
+            List<RoaringBitmap> matched = new ArrayList<>(values.size());
+            for (String value : values) {
+                RoaringBitmap bitmap = bitmaps.get(value);
+                if (bitmap == null) {
+                    return new RoaringBitmap();
+                }
+                matched.add(bitmap);
+            }
+            matched.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+
+            RoaringBitmap result = matched.get(0).clone();
+            for (int i = 1; i < matched.size() && !result.isEmpty(); i++) {
+                result.and(matched.get(i));
+            }
+            return result;
+        }
+
+        RoaringBitmap result = new RoaringBitmap();
+        values.forEach(value -> result.or(bitmapOf(bitmaps.get(value))));
+        return result;
+    }
+
+    private static Map<String, Long> intersectCounts(Map<String, RoaringBitmap> bitmaps, RoaringBitmap ids) {
+        Map<String, Long> counts = new HashMap<>();
+        bitmaps.forEach((value, bitmap) -> {
+            long count = RoaringBitmap.andCardinality(ids, bitmap);
+            if (count > 0) {
+                counts.put(value, count);
+            }
+        });
+        return counts;
+    }
+
+    // 건수 상위 N개 (건수가 같으면 값 순), 크기 N 의 최소 힙으로 선택
+    private static List<SearchFacetsDto.FacetCount> top(Map<String, Long> counts, int topN) {
+        if (topN <= 0 || counts.isEmpty()) {
+            return List.of();
+        }
+        Comparator<Map.Entry<String, Long>> order = Map.Entry.<String, Long>comparingByValue()
+                .thenComparing(Map.Entry.<String, Long>comparingByKey().reversed());
+
+        PriorityQueue<Map.Entry<String, Long>> heap = new PriorityQueue<>(topN + 1, order);
+        for (Map.Entry<String, Long> entry : counts.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > topN) {
+                heap.poll();
+            }
+        }
+
+        List<SearchFacetsDto.FacetCount> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            Map.Entry<String, Long> entry = heap.poll();
+            result.add(new SearchFacetsDto.FacetCount(entry.getKey(), entry.getValue()));
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private void unindex(int id, Document document) {
+        removeFrom(categories, document.category(), id);
+        removeFrom(statuses, document.status(), id);
+        document.techStacks().forEach(value -> removeFrom(techStacks, value, id));
+        document.tags().forEach(value -> removeFrom(tags, value, id));
+    }
+
+    private static <K> void removeFrom(Map<K, RoaringBitmap> bitmaps, K key, int id) {
+        if (key == null) {
+            return;
+        }
+        RoaringBitmap bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private static Set<String> normalize(Collection<String> values) {
+        if (values == null) {
+            return Set.of();
+        }
+        Set<String> normalized = new HashSet<>();
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                normalized.add(value.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return normalized;
+    }
+
+    private static RoaringBitmap bitmapOf(RoaringBitmap bitmap) {
+        return bitmap != null ? bitmap : new RoaringBitmap();
+    }
+
+    private static RoaringBitmap copyOf(RoaringBitmap bitmap) {
+        return bitmap != null ? bitmap.clone() : new RoaringBitmap();
+    }
+
+    private record Document(PortfolioCategory category, PortfolioStatus status,
+                            Set<String> techStacks, Set<String> tags) {
+    }
+}
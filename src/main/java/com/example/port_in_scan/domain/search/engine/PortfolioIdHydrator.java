@@ -0,0 +1,44 @@
+package com.example.port_in_scan.domain.search.engine;
+
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioResponseDto;
+import com.example.port_in_scan.domain.portfolio.entity.Portfolio;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioStatus;
+import com.example.port_in_scan.domain.portfolio.repository.PortfolioRepository;
+import com.example.port_in_scan.domain.portfolio.service.PortfolioResponseAssembler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ * 검색 엔진이 정렬해 둔 포트폴리오 ID 목록을 한 번의 IN 쿼리로 조회하고 순서를 유지해서 반환
+ * 색인 반영 전에 비활성화된 포트폴리오는 결과에서 제외된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PortfolioIdHydrator {
+
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioResponseAssembler responseAssembler;
+
+    public List<PortfolioResponseDto> hydrate(List<Long> orderedIds) {
+        if (orderedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Portfolio> portfolios = portfolioRepository
+                .findByPortfolioIdInAndStatus(orderedIds, PortfolioStatus.ACTIVE)
+                .stream()
+                .collect(Collectors.toMap(Portfolio::getPortfolioId, Function.identity()));
+
+        List<Portfolio> ordered = orderedIds.stream()
+                .map(portfolios::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return responseAssembler.assemble(ordered);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.port_in_scan.domain.search.engine;
+
+import com.example.port_in_scan.domain.portfolio.entity.Portfolio;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioStatus;
+import com.example.port_in_scan.domain.portfolio.event.PortfolioChangedEvent;
+import com.example.port_in_scan.domain.portfolio.repository.PortfolioRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ * 검색 색인 초기 적재용 로더
+ * 포트폴리오를 ID 순으로 나눠 읽고, 기술 스택/태그는 배치마다 IN 쿼리로 한 번에 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class PortfolioIndexLoader {
+
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    private final PortfolioRepository portfolioRepository;
+
+    // ACTIVE 포트폴리오만 적재, 적재한 포트폴리오 수 반환
+    public int forEachActive(Consumer<List<PortfolioChangedEvent>> batchConsumer) {
+        return load(lastId -> portfolioRepository.findByStatusAndPortfolioIdGreaterThanOrderByPortfolioId(
+                PortfolioStatus.ACTIVE, lastId, PageRequest.of(0, LOAD_BATCH_SIZE)), batchConsumer);
+    }
+
+    // 상태와 관계없이 전체 포트폴리오 적재, 적재한 포트폴리오 수 반환
+    public int forEach(Consumer<List<PortfolioChangedEvent>> batchConsumer) {
+        return load(lastId -> portfolioRepository.findByPortfolioIdGreaterThanOrderByPortfolioId(
+                lastId, PageRequest.of(0, LOAD_BATCH_SIZE)), batchConsumer);
+    }
+
+    private int load(Function<Long, List<Portfolio>> nextBatch, Consumer<List<PortfolioChangedEvent>> batchConsumer) {
+        long lastId = 0L;
+        int loaded = 0;
+
+        while (true) {
+            List<Portfolio> batch = nextBatch.apply(lastId);
+            if (batch.isEmpty()) {
+                return loaded;
+            }
+
+            List<Long> ids = batch.stream().map(Portfolio::getPortfolioId).toList();
+            Map<Long, List<String>> techStacks = groupByPortfolioId(portfolioRepository.findTechStacksByPortfolioIds(ids));
+            Map<Long, List<String>> tags = groupByPortfolioId(portfolioRepository.findTagsByPortfolioIds(ids));
+
+            batchConsumer.accept(batch.stream()
+                    .map(portfolio -> PortfolioChangedEvent.of(portfolio,
+                            techStacks.getOrDefault(portfolio.getPortfolioId(), List.of()),
+                            tags.getOrDefault(portfolio.getPortfolioId(), List.of())))
+                    .toList());
+
+            loaded += batch.size();
+            lastId = ids.get(ids.size() - 1);
+        }
+    }
+
+    private static Map<Long, List<String>> groupByPortfolioId(List<Object[]> rows) {
+        return rows.stream()
+                .collect(Collectors.groupingBy(row -> (Long) row[0],
+                        Collectors.mapping(row -> (String) row[1], Collectors.toList())));
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.port_in_scan.domain.search.engine;
+
+import com.example.port_in_scan.domain.portfolio.event.PortfolioBatchChangedEvent;
+import com.example.port_in_scan.domain.portfolio.event.PortfolioChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Pattern;
+
+/*
+ * ACTIVE 포트폴리오의 제목/설명/기술스택/태그에 대한 메모리 역색인
+ * - 토큰은 소문자로 정규화하고, 검색 토큰은 접두어로 매칭 (예: "스프링" -> "스프링으로")
+ * - 검색 토큰이 여러 개면 모든 토큰을 포함하는 포트폴리오만 반환 (AND)
+ * - 포트폴리오 변경은 트랜잭션 커밋 이후 PortfolioChangedEvent 로 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.engine", havingValue = "index", matchIfMissing = true)
+public class PortfolioInvertedIndex {
+
+    private static final Pattern TOKEN_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+
+    private final PortfolioIndexLoader indexLoader;
+
+    // 토큰 -> 포트폴리오 ID (접두어 검색을 위해 정렬된 맵 사용)
+    private final ConcurrentSkipListMap<String, Set<Long>> postings = new ConcurrentSkipListMap<>();
+
+    // 포트폴리오 ID -> 색인된 토큰 (수정/삭제 시 기존 색인 제거용)
+    private final Map<Long, Set<String>> documents = new ConcurrentHashMap<>();
+
+    // 애플리케이션 시작 시 ACTIVE 포트폴리오 전체 색인
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int indexed = indexLoader.forEachActive(batch -> batch.forEach(this::index));
+        log.info("포트폴리오 검색 색인 완료: {}건, 토큰 {}개", indexed, postings.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        if (event.isActive()) {
+            index(event);
+        } else {
+            remove(event.getPortfolioId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPortfoliosChanged(PortfolioBatchChangedEvent event) {
+        event.getChanges().forEach(this::onPortfolioChanged);
+    }
+
+    public synchronized void index(PortfolioChangedEvent event) {
+        Set<String> tokens = new HashSet<>();
+        tokens.addAll(tokenize(event.getTitle()));
+        tokens.addAll(tokenize(event.getDescription()));
+        event.getTechStacks().forEach(techStack -> tokens.addAll(tokenize(techStack)));
+        event.getTags().forEach(tag -> tokens.addAll(tokenize(tag)));
+
+        Long portfolioId = event.getPortfolioId();
+        Set<String> previousTokens = documents.put(portfolioId, tokens);
+        if (previousTokens != null) {
+            previousTokens.stream()
+                    .filter(token -> !tokens.contains(token))
+                    .forEach(token -> removePosting(token, portfolioId));
+        }
+        tokens.forEach(token -> postings.computeIfAbsent(token, key -> new ConcurrentSkipListSet<>()).add(portfolioId));
+    }
+
+    public synchronized void remove(Long portfolioId) {
+        Set<String> previousTokens = documents.remove(portfolioId);
+        if (previousTokens != null) {
+            previousTokens.forEach(token -> removePosting(token, portfolioId));
+        }
+    }
+
+    /*
+     * 키워드에 일치하는 포트폴리오 ID 비트맵 반환
+     * IDENTITY 로 발급되는 ID 는 생성일 순서와 같으므로 역순으로 읽으면 최신순
+     */
+    public RoaringBitmap search(String keyword) {
+        RoaringBitmap result = null;
+
+        for (String token : new LinkedHashSet<>(tokenize(keyword))) {
+            RoaringBitmap matched = new RoaringBitmap();
+            postings.subMap(token, true, token + Character.MAX_VALUE, true)
+                    .values()
+                    .forEach(ids -> ids.forEach(id -> matched.add(id.intValue())));
+
+            if (result == null) {
+                result = matched;
+            } else {
+                result.and(matched);
+            }
+            if (result.isEmpty()) {
+                return result;
+            }
+        }
+
+        return result == null ? new RoaringBitmap() : result;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(TOKEN_DELIMITER.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    private void removePosting(String token, Long portfolioId) {
+        Set<Long> ids = postings.get(token);
+        if (ids != null) {
+            ids.remove(portfolioId);
+            if (ids.isEmpty()) {
+                postings.remove(token, ids);
+            }
+        }
+    }
+}
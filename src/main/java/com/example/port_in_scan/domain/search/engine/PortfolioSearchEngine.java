@@ -0,0 +1,42 @@
+package com.example.port_in_scan.domain.search.engine;
+
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioResponseDto;
+import com.example.port_in_scan.domain.search.dto.SearchFacetsDto;
+import com.example.port_in_scan.domain.search.dto.SearchRequestDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Optional;
+
+/*
+ * 포트폴리오 검색 엔진
+ * SearchService 는 @Order 순서대로 supports() 가 true 인 첫 번째 엔진으로 검색을 위임한다.
+ * JpaPortfolioSearchEngine 은 모든 요청을 지원하며 항상 마지막 폴백으로 동작
+ */
+public interface PortfolioSearchEngine {
+
+    boolean supports(SearchRequestDto requestDto);
+
+    Page<PortfolioResponseDto> search(SearchRequestDto requestDto, Pageable pageable);
+
+    // 전체 건수 없이 조회 (COUNT 쿼리 비용이 드는 엔진만 재정의, 전체 건수를 이미 아는 엔진은 Page 를 그대로 반환)
+    default Slice<PortfolioResponseDto> searchSlice(SearchRequestDto requestDto, Pageable pageable) {
+        return search(requestDto, pageable);
+    }
+
+    // 전체 건수를 결과 조회와 별도 쿼리로 구할 수 있는지 (true 면 SearchService 가 searchSlice 와 count 를 동시에 실행)
+    default boolean countsSeparately() {
+        return false;
+    }
+
+    // 전체 건수만 조회 (countsSeparately() 가 true 인 엔진만 재정의)
+    default long count(SearchRequestDto requestDto) {
+        throw new UnsupportedOperationException("전체 건수를 따로 조회할 수 없는 검색 엔진입니다.");
+    }
+
+    // 검색 결과 내 필터 값별 건수 (결과 ID 집합을 메모리에서 다룰 수 있는 엔진만 지원)
+    default Optional<SearchFacetsDto> facets(SearchRequestDto requestDto, int facetSize) {
+        return Optional.empty();
+    }
+}
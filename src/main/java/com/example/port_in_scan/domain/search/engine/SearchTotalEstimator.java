@@ -0,0 +1,139 @@
+package com.example.port_in_scan.domain.search.engine;
+
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioStatus;
+import com.example.port_in_scan.domain.search.dto.SearchRequestDto;
+import com.example.port_in_scan.domain.search.entity.SearchType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * COUNT 쿼리 없이 검색 결과 전체 건수를 추정
+ * - PostgreSQL: 검색 조건과 같은 쿼리의 EXPLAIN 결과에서 플래너 예상 행 수(rows=) 사용
+ * - 그 외 DB 또는 실패 시: 지금까지 확인된 건수(offset + 현재 페이지 + 다음 페이지 존재 시 1)를 하한값으로 사용
+ * 추정값은 항상 확인된 하한값 이상이 되도록 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchTotalEstimator {
+
+    private static final Pattern ROWS_PATTERN = Pattern.compile("rows=(\\d+)");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    public long estimate(SearchRequestDto requestDto, Slice<?> slice) {
+        return estimate(slice, slice.hasNext() ? plannedRows(requestDto) : OptionalLong.empty());
+    }
+
+    // 미리 구한 플래너 예상 행 수로 추정 (결과 조회와 동시에 plannedRows 를 실행한 경우)
+    public long estimate(Slice<?> slice, OptionalLong plannedRows) {
+        long lowerBound = slice.getPageable().isPaged() ? slice.getPageable().getOffset() : 0;
+        lowerBound += slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+
+        if (!slice.hasNext() || plannedRows.isEmpty()) {
+            return lowerBound;
+        }
+        return Math.max(lowerBound, plannedRows.getAsLong());
+    }
+
+    // 검색 조건의 플래너 예상 행 수 (PostgreSQL 이 아니거나 실패하면 empty)
+    public OptionalLong plannedRows(SearchRequestDto requestDto) {
+        if (!isPostgres()) {
+            return OptionalLong.empty();
+        }
+
+        try {
+            MapSqlParameterSource params = new MapSqlParameterSource("status", PortfolioStatus.ACTIVE.name());
+            String sql = buildQuery(requestDto, params);
+            List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, params, String.class);
+
+            Matcher matcher = plan.isEmpty() ? null : ROWS_PATTERN.matcher(plan.get(0));
+            if (matcher != null && matcher.find()) {
+                return OptionalLong.of(Long.parseLong(matcher.group(1)));
+            }
+        } catch (Exception e) {
+            log.debug("검색 결과 건수 추정 실패: {}", e.getMessage());
+        }
+        return OptionalLong.empty();
+    }
+
+    // JpaPortfolioSearchEngine 의 검색 조건과 같은 조건의 ID 조회 쿼리
+    private String buildQuery(SearchRequestDto requestDto, MapSqlParameterSource params) {
+        boolean hasTechStacks = requestDto.getTechStacks() != null && !requestDto.getTechStacks().isEmpty();
+        boolean hasTags = requestDto.getTags() != null && !requestDto.getTags().isEmpty();
+
+        switch (requestDto.getSearchType() != null ? requestDto.getSearchType() : SearchType.KEYWORD) {
+            case TECH_STACK:
+                if (hasTechStacks) {
+                    params.addValue("techStacks", requestDto.getTechStacks());
+                    return "SELECT DISTINCT p.portfolio_id FROM portfolios p " +
+                            "JOIN portfolio_tech_stacks ts ON ts.portfolio_id = p.portfolio_id " +
+                            "WHERE p.status = :status AND ts.tech_stack IN (:techStacks)";
+                }
+                break;
+            case TAG:
+                if (hasTags) {
+                    params.addValue("tags", requestDto.getTags());
+                    return "SELECT DISTINCT p.portfolio_id FROM portfolios p " +
+                            "JOIN portfolio_tags t ON t.portfolio_id = p.portfolio_id " +
+                            "WHERE p.status = :status AND t.tag IN (:tags)";
+                }
+                break;
+            case CATEGORY:
+                if (requestDto.getCategory() != null) {
+                    params.addValue("category", requestDto.getCategory().name());
+                    return "SELECT p.portfolio_id FROM portfolios p WHERE p.status = :status AND p.category = :category";
+                }
+                break;
+            case COMPLEX:
+                StringBuilder sql = new StringBuilder("SELECT DISTINCT p.portfolio_id FROM portfolios p ");
+                StringBuilder where = new StringBuilder("WHERE p.status = :status");
+                if (hasTechStacks) {
+                    sql.append("JOIN portfolio_tech_stacks ts ON ts.portfolio_id = p.portfolio_id ");
+                    where.append(" AND ts.tech_stack = :techStack");
+                    params.addValue("techStack", requestDto.getTechStacks().get(0));
+                }
+                if (hasTags) {
+                    sql.append("JOIN portfolio_tags t ON t.portfolio_id = p.portfolio_id ");
+                    where.append(" AND t.tag = :tag");
+                    params.addValue("tag", requestDto.getTags().get(0));
+                }
+                if (requestDto.getCategory() != null) {
+                    where.append(" AND p.category = :category");
+                    params.addValue("category", requestDto.getCategory().name());
+                }
+                if (requestDto.getKeyword() != null) {
+                    where.append(" AND (p.title LIKE :pattern OR p.description LIKE :pattern)");
+                    params.addValue("pattern", "%" + requestDto.getKeyword() + "%");
+                }
+                return sql.append(where).toString();
+            default:
+                break;
+        }
+
+        params.addValue("pattern", "%" + requestDto.getKeyword() + "%");
+        return "SELECT p.portfolio_id FROM portfolios p " +
+                "WHERE p.status = :status AND (p.title LIKE :pattern OR p.description LIKE :pattern)";
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String product = jdbcTemplate.getJdbcTemplate().execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equalsIgnoreCase(product);
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.port_in_scan.domain.search.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/*
+ * popular_searches 에 아직 없는 키워드의 누적 검색 횟수 (신규 등록 후보)
+ * 여러 서버가 PopularSearchAggregator 의 flush 에서 같은 행에 증가분을 upsert 하고,
+ * 누적 횟수가 admission-threshold 이상이 되면 popular_searches 로 옮긴 뒤 삭제
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "popular_search_candidates",
+        indexes = @Index(name = "idx_popular_search_candidates_first_seen_at", columnList = "first_seen_at"))
+public class PopularSearchCandidate {
+
+    @Id
+    @Column(name = "keyword", nullable = false)
+    private String keyword;
+
+    @Column(name = "search_count", nullable = false)
+    private Long searchCount;
+
+    @Column(name = "first_seen_at", nullable = false)
+    private LocalDateTime firstSeenAt;
+}
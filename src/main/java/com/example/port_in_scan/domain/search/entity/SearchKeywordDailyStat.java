@@ -0,0 +1,42 @@
+package com.example.port_in_scan.domain.search.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/*
+ * 일별 (키워드, 검색 타입) 검색 횟수 집계
+ * search_histories 원본을 SearchHistoryBatchConfig 의 롤업 작업이 하루 단위로 누적
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "search_keyword_daily_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_search_keyword_daily_stats",
+                columnNames = {"stat_date", "keyword", "search_type"}))
+public class SearchKeywordDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "search_keyword_daily_stat_id")
+    private Long searchKeywordDailyStatId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "keyword", nullable = false)
+    private String keyword;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "search_type", nullable = false)
+    private SearchType searchType;
+
+    @Column(name = "search_count", nullable = false)
+    private Long searchCount;
+}
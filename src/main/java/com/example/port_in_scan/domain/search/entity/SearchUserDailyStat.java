@@ -0,0 +1,38 @@
+package com.example.port_in_scan.domain.search.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/*
+ * 일별 사용자 검색 횟수 집계 (비로그인 검색 제외)
+ * search_histories 원본을 SearchHistoryBatchConfig 의 롤업 작업이 하루 단위로 누적
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "search_user_daily_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_search_user_daily_stats",
+                columnNames = {"stat_date", "user_idx"}))
+public class SearchUserDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "search_user_daily_stat_id")
+    private Long searchUserDailyStatId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "user_idx", nullable = false)
+    private Long userIdx;
+
+    @Column(name = "search_count", nullable = false)
+    private Long searchCount;
+}
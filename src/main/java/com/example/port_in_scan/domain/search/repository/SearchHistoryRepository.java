@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -27,12 +28,12 @@ public interface SearchHistoryRepository extends JpaRepository<SearchHistory, Lo
                                                @Param("endDate") LocalDateTime endDate, 
                                                Pageable pageable);
     
-    // 인기 검색어 통계 (최근 7일)
-    @Query("SELECT sh.keyword, COUNT(sh) as searchCount FROM SearchHistory sh " +
-           "WHERE sh.searchedAt >= :startDate " +
-           "GROUP BY sh.keyword " +
+    // 인기 검색어 통계 (일별 집계 테이블 기준, 롤업 전인 오늘 검색은 제외)
+    @Query("SELECT s.keyword, SUM(s.searchCount) as searchCount FROM SearchKeywordDailyStat s " +
+           "WHERE s.statDate >= :startDate " +
+           "GROUP BY s.keyword " +
            "ORDER BY searchCount DESC")
-    List<Object[]> findPopularKeywords(@Param("startDate") LocalDateTime startDate, Pageable pageable);
+    List<Object[]> findPopularKeywords(@Param("startDate") LocalDate startDate, Pageable pageable);
     
     // 사용자별 최근 검색어 (중복 제거)
     @Query("SELECT DISTINCT sh.keyword FROM SearchHistory sh " +
@@ -40,9 +41,9 @@ public interface SearchHistoryRepository extends JpaRepository<SearchHistory, Lo
            "ORDER BY sh.searchedAt DESC")
     List<String> findRecentKeywordsByUser(@Param("userIdx") Long userIdx, Pageable pageable);
     
-    // 검색 타입별 통계
-    @Query("SELECT sh.searchType, COUNT(sh) FROM SearchHistory sh " +
-           "WHERE sh.searchedAt >= :startDate " +
-           "GROUP BY sh.searchType")
-    List<Object[]> findSearchTypeStatistics(@Param("startDate") LocalDateTime startDate);
+    // 검색 타입별 통계 (일별 집계 테이블 기준, 롤업 전인 오늘 검색은 제외)
+    @Query("SELECT s.searchType, SUM(s.searchCount) FROM SearchKeywordDailyStat s " +
+           "WHERE s.statDate >= :startDate " +
+           "GROUP BY s.searchType")
+    List<Object[]> findSearchTypeStatistics(@Param("startDate") LocalDate startDate);
 }
\ No newline at end of file
@@ -0,0 +1,276 @@
+package com.example.port_in_scan.domain.search.service;
+
+import com.example.port_in_scan.domain.search.engine.KeywordSuggestionTrie;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * 인기 검색어 검색 횟수 사전 집계
+ * - 검색 요청은 키워드별 LongAdder 만 증가시키고, flush-interval 마다 증가분을 모아 한 트랜잭션에서 배치 반영
+ * - 반영은 search_count = search_count + 증가분 형태라 여러 서버가 같은 DB 를 써도 갱신이 유실되지 않음
+ * - popular_searches 에 없는 키워드는 popular_search_candidates 에 증가분을 같은 방식으로 upsert 하고,
+ *   모든 서버의 누적 횟수가 admission-threshold 이상이 되면 popular_searches 로 옮김
+ *   (한 번만 검색된 오타 키워드가 테이블에 계속 쌓이지 않도록 함, 후보는 candidate-ttl 이 지나면 삭제)
+ * - 후보 반영/등록은 검색 횟수 반영과 같은 트랜잭션이라 실패하면 함께 롤백되고 증가분은 다음 flush 에서 재시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularSearchAggregator {
+
+    private static final int MAX_KEYWORD_LENGTH = 255;
+
+    private static final String UPDATE_SQL = "UPDATE popular_searches " +
+            "SET search_count = search_count + :delta, last_searched_at = :searchedAt " +
+            "WHERE keyword = :keyword";
+
+    private static final String POSTGRES_UPSERT_SQL = "INSERT INTO popular_searches (keyword, search_count, last_searched_at) " +
+            "VALUES (:keyword, :delta, :searchedAt) " +
+            "ON CONFLICT (keyword) DO UPDATE SET " +
+            "search_count = popular_searches.search_count + EXCLUDED.search_count, " +
+            "last_searched_at = EXCLUDED.last_searched_at";
+
+    // PostgreSQL 이외(H2 등)는 표준 MERGE 사용
+    private static final String MERGE_UPSERT_SQL = "MERGE INTO popular_searches p " +
+            "USING (VALUES (CAST(:keyword AS VARCHAR(255)), CAST(:delta AS BIGINT), CAST(:searchedAt AS TIMESTAMP))) " +
+            "AS s(keyword, delta, searched_at) ON p.keyword = s.keyword " +
+            "WHEN MATCHED THEN UPDATE SET search_count = p.search_count + s.delta, last_searched_at = s.searched_at " +
+            "WHEN NOT MATCHED THEN INSERT (keyword, search_count, last_searched_at) VALUES (s.keyword, s.delta, s.searched_at)";
+
+    private static final String POSTGRES_CANDIDATE_UPSERT_SQL = "INSERT INTO popular_search_candidates (keyword, search_count, first_seen_at) " +
+            "VALUES (:keyword, :delta, :searchedAt) " +
+            "ON CONFLICT (keyword) DO UPDATE SET " +
+            "search_count = popular_search_candidates.search_count + EXCLUDED.search_count";
+
+    private static final String MERGE_CANDIDATE_UPSERT_SQL = "MERGE INTO popular_search_candidates c " +
+            "USING (VALUES (CAST(:keyword AS VARCHAR(255)), CAST(:delta AS BIGINT), CAST(:searchedAt AS TIMESTAMP))) " +
+            "AS s(keyword, delta, searched_at) ON c.keyword = s.keyword " +
+            "WHEN MATCHED THEN UPDATE SET search_count = c.search_count + s.delta " +
+            "WHEN NOT MATCHED THEN INSERT (keyword, search_count, first_seen_at) VALUES (s.keyword, s.delta, s.searched_at)";
+
+    /*
+     * 등록할 후보: 누적 횟수가 임계값 이상이거나, 그 사이 다른 서버가 이미 등록한 키워드
+     * (다른 서버의 등록 커밋을 기다리는 동안 이 서버의 증가분이 새 후보 행으로 들어간 경우 함께 옮김)
+     */
+    private static final String SELECT_ADMITTED_SQL = "SELECT c.keyword, c.search_count FROM popular_search_candidates c " +
+            "WHERE c.keyword IN (:keywords) " +
+            "AND (c.search_count >= :threshold " +
+            "OR EXISTS (SELECT 1 FROM popular_searches p WHERE p.keyword = c.keyword))";
+
+    private static final String DELETE_CANDIDATES_SQL = "DELETE FROM popular_search_candidates WHERE keyword IN (:keywords)";
+
+    private static final String DELETE_EXPIRED_CANDIDATES_SQL =
+            "DELETE FROM popular_search_candidates WHERE first_seen_at < :expiredBefore";
+
+    // IN 절 하나에 넣는 최대 키워드 수
+    private static final int IN_CLAUSE_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final KeywordSuggestionTrie keywordSuggestionTrie;
+
+    @Value("${search.popular.admission-threshold:3}")
+    private long admissionThreshold;
+
+    @Value("${search.popular.candidate-ttl-ms:3600000}")
+    private long candidateTtlMs;
+
+    private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // 직전 flush 에서 맵에서 제거한 카운터 (제거 직전에 참조를 얻은 요청의 증가분을 다음 flush 에서 한 번 더 수거)
+    private List<Map.Entry<String, LongAdder>> retired = new ArrayList<>();
+
+    private volatile Boolean postgres;
+
+    // flush 직렬화 (DB 반영 중에도 가상 스레드가 캐리어 스레드에 고정되지 않는 ReentrantLock)
+    private final Lock flushLock = new ReentrantLock();
+
+    public void record(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return;
+        }
+        String trimmed = keyword.trim();
+        if (trimmed.length() > MAX_KEYWORD_LENGTH) {
+            return;
+        }
+        pending.computeIfAbsent(trimmed, key -> new LongAdder()).increment();
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${search.popular.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void doFlush() {
+        long now = System.currentTimeMillis();
+        expireCandidates(now);
+
+        Map<String, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Timestamp searchedAt = new Timestamp(now);
+        try {
+            FlushResult result = transactionTemplate.execute(status -> {
+                List<String> missed = update(deltas, searchedAt);
+                upsertCandidates(missed, deltas, searchedAt);
+                Map<String, Long> admitted = admit(missed, searchedAt);
+                return new FlushResult(missed, admitted);
+            });
+
+            // 커밋된 뒤에만 자동완성 트라이에 반영
+            Set<String> missed = new HashSet<>(result.missed());
+            deltas.forEach((keyword, delta) -> {
+                if (!missed.contains(keyword)) {
+                    keywordSuggestionTrie.increment(keyword, delta);
+                }
+            });
+            result.admitted().forEach(keywordSuggestionTrie::increment);
+
+            log.debug("인기 검색어 반영: {}건 (신규 {}건)", deltas.size(), result.admitted().size());
+        } catch (Exception e) {
+            // 반영 실패 시 증가분을 되돌려 다음 flush 에서 재시도
+            restore(deltas);
+            log.warn("인기 검색어 반영 실패 ({}건): {}", deltas.size(), e.getMessage());
+        }
+    }
+
+    private Map<String, Long> drain() {
+        // 정렬된 순서로 반영해 여러 서버가 같은 행을 갱신할 때 교착 상태를 피함
+        Map<String, Long> deltas = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : retired) {
+            addDelta(deltas, entry.getKey(), entry.getValue().sumThenReset());
+        }
+
+        List<Map.Entry<String, LongAdder>> nowRetired = new ArrayList<>();
+        for (Map.Entry<String, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta == 0 && pending.remove(entry.getKey(), entry.getValue())) {
+                // 한 주기 동안 검색되지 않은 키워드는 카운터를 제거
+                nowRetired.add(entry);
+            }
+            addDelta(deltas, entry.getKey(), delta);
+        }
+        retired = nowRetired;
+        return deltas;
+    }
+
+    private List<String> update(Map<String, Long> deltas, Timestamp searchedAt) {
+        List<String> keywords = new ArrayList<>(deltas.keySet());
+        SqlParameterSource[] params = keywords.stream()
+                .map(keyword -> params(keyword, deltas.get(keyword), searchedAt))
+                .toArray(SqlParameterSource[]::new);
+
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, params);
+
+        List<String> missed = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                missed.add(keywords.get(i));
+            }
+        }
+        return missed;
+    }
+
+    // popular_searches 에 없는 키워드의 증가분을 공유 후보 테이블에 누적
+    private void upsertCandidates(List<String> missed, Map<String, Long> deltas, Timestamp searchedAt) {
+        if (missed.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] params = missed.stream()
+                .map(keyword -> params(keyword, deltas.get(keyword), searchedAt))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(isPostgres() ? POSTGRES_CANDIDATE_UPSERT_SQL : MERGE_CANDIDATE_UPSERT_SQL, params);
+    }
+
+    // 등록 조건을 만족한 후보를 누적 횟수 그대로 popular_searches 에 upsert 하고 후보에서 삭제
+    private Map<String, Long> admit(List<String> missed, Timestamp searchedAt) {
+        Map<String, Long> admitted = new TreeMap<>();
+        for (int from = 0; from < missed.size(); from += IN_CLAUSE_SIZE) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("keywords", missed.subList(from, Math.min(from + IN_CLAUSE_SIZE, missed.size())))
+                    .addValue("threshold", admissionThreshold);
+            jdbcTemplate.query(SELECT_ADMITTED_SQL, params, rs -> {
+                admitted.put(rs.getString("keyword"), rs.getLong("search_count"));
+            });
+        }
+        if (admitted.isEmpty()) {
+            return admitted;
+        }
+
+        SqlParameterSource[] params = admitted.entrySet().stream()
+                .map(entry -> params(entry.getKey(), entry.getValue(), searchedAt))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(isPostgres() ? POSTGRES_UPSERT_SQL : MERGE_UPSERT_SQL, params);
+
+        List<String> keywords = new ArrayList<>(admitted.keySet());
+        for (int from = 0; from < keywords.size(); from += IN_CLAUSE_SIZE) {
+            jdbcTemplate.update(DELETE_CANDIDATES_SQL, new MapSqlParameterSource(
+                    "keywords", keywords.subList(from, Math.min(from + IN_CLAUSE_SIZE, keywords.size()))));
+        }
+        return admitted;
+    }
+
+    private void restore(Map<String, Long> deltas) {
+        deltas.forEach((keyword, delta) ->
+                pending.computeIfAbsent(keyword, key -> new LongAdder()).add(delta));
+    }
+
+    // candidate-ttl 안에 임계값에 도달하지 못한 후보 삭제 (검색 횟수 반영 트랜잭션과 별도로 실행)
+    private void expireCandidates(long now) {
+        try {
+            jdbcTemplate.update(DELETE_EXPIRED_CANDIDATES_SQL,
+                    new MapSqlParameterSource("expiredBefore", new Timestamp(now - candidateTtlMs)));
+        } catch (Exception e) {
+            log.warn("인기 검색어 후보 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String product = jdbcTemplate.getJdbcTemplate().execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equalsIgnoreCase(product);
+        }
+        return postgres;
+    }
+
+    private static void addDelta(Map<String, Long> deltas, String keyword, long delta) {
+        if (delta > 0) {
+            deltas.merge(keyword, delta, Long::sum);
+        }
+    }
+
+    private static SqlParameterSource params(String keyword, long delta, Timestamp searchedAt) {
+        return new MapSqlParameterSource()
+                .addValue("keyword", keyword)
+                .addValue("delta", delta)
+                .addValue("searchedAt", searchedAt);
+    }
+
+    private record FlushResult(List<String> missed, Map<String, Long> admitted) {
+    }
+}
@@ -0,0 +1,282 @@
+package com.example.port_in_scan.domain.search.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * 검색 히스토리 동시 출현 기반 연관 검색어
+ * - 같은 사용자(비로그인은 IP)가 session-window 안에 검색한 서로 다른 키워드 쌍을 동시 출현으로 집계
+ * - refresh-interval 마다 마지막으로 처리한 search_id 이후의 히스토리만 읽어 누적 (시작 시에는 warmup-days 만큼 재생)
+ * - search_id 는 커밋이 아닌 INSERT 시점에 정해지므로, 다른 서버의 배치나 행 단위 재시도가 더 작은 ID 를 늦게 커밋할 수 있음
+ *   읽는 중 건너뛴 ID 는 따로 기억해 두고 gap-timeout 동안 매 갱신마다 다시 조회 (그 안에 커밋되지 않으면 롤백된 ID 로 보고 버림)
+ * - 키워드별 후보는 max-candidates 개까지만 유지하고, 넘치면 가장 적게 출현한 후보를 버림
+ * - 검색 요청은 미리 계산된 키워드별 상위 top-k 목록을 맵에서 한 번 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RelatedKeywordService {
+
+    private static final String SELECT_START_ID_SQL =
+            "SELECT MIN(search_id) FROM search_histories WHERE searched_at >= :since";
+    private static final String SELECT_HISTORIES_SQL = "SELECT search_id, keyword, user_idx, ip_address, searched_at " +
+            "FROM search_histories WHERE search_id > :lastId ORDER BY search_id LIMIT :limit";
+    private static final String SELECT_HISTORIES_BY_IDS_SQL = "SELECT search_id, keyword, user_idx, ip_address, searched_at " +
+            "FROM search_histories WHERE search_id IN (:ids) ORDER BY search_id";
+    private static final int MAX_KEYWORD_LENGTH = 100;
+    // 다시 조회할 건너뛴 ID 최대 개수, IN 절 하나에 넣는 최대 ID 수
+    private static final int MAX_PENDING_GAPS = 10_000;
+    private static final int IN_CLAUSE_SIZE = 1000;
+    private static final int MAX_SESSION_SEARCHES = 20;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Value("${search.related.top-k:5}")
+    private int topK;
+
+    @Value("${search.related.max-candidates:50}")
+    private int maxCandidates;
+
+    @Value("${search.related.max-keywords:50000}")
+    private int maxKeywords;
+
+    @Value("${search.related.session-window-ms:1800000}")
+    private long sessionWindowMs;
+
+    @Value("${search.related.warmup-days:7}")
+    private int warmupDays;
+
+    @Value("${search.related.batch-size:5000}")
+    private int batchSize;
+
+    // 건너뛴 search_id 를 다시 조회하는 기간 (배치 INSERT 부터 커밋까지 걸릴 수 있는 최대 시간보다 길게)
+    @Value("${search.related.gap-timeout-ms:120000}")
+    private long gapTimeoutMs;
+
+    // 키워드 -> 연관 검색어 상위 top-k (검색 요청에서 조회)
+    private final Map<String, List<String>> related = new ConcurrentHashMap<>();
+
+    // 아래 상태는 refresh 스레드에서만 접근
+    private final Map<String, Map<String, Long>> cooccurrences = new HashMap<>();
+    private final Map<String, Deque<SessionSearch>> sessions = new HashMap<>();
+    private Long lastProcessedId;
+    // 건너뛴 search_id -> 처음 건너뛴 시각
+    private final Map<Long, Long> pendingGaps = new LinkedHashMap<>();
+
+    // 재계산은 한 번에 하나씩 (히스토리 조회가 길어 synchronized 대신 ReentrantLock)
+    private final Lock refreshLock = new ReentrantLock();
+
+    public List<String> getRelatedKeywords(String keyword) {
+        if (keyword == null) {
+            return List.of();
+        }
+        return related.getOrDefault(normalize(keyword), List.of());
+    }
+
+    @Scheduled(initialDelayString = "${search.related.initial-delay-ms:10000}",
+            fixedDelayString = "${search.related.refresh-interval-ms:300000}")
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            doRefresh();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void doRefresh() {
+        try {
+            if (lastProcessedId == null) {
+                lastProcessedId = findStartId();
+            }
+
+            Set<String> touched = new HashSet<>();
+            processGaps(touched);
+            int processed;
+            do {
+                processed = processBatch(touched);
+            } while (processed == batchSize);
+
+            touched.forEach(this::publish);
+            expireSessions();
+            if (!touched.isEmpty()) {
+                log.debug("연관 검색어 갱신: 키워드 {}개", touched.size());
+            }
+        } catch (Exception e) {
+            log.warn("연관 검색어 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private long findStartId() {
+        Timestamp since = Timestamp.valueOf(LocalDateTime.now().minusDays(warmupDays));
+        Long startId = jdbcTemplate.queryForObject(SELECT_START_ID_SQL,
+                new MapSqlParameterSource("since", since), Long.class);
+        return startId != null ? startId - 1 : 0L;
+    }
+
+    // 읽은 히스토리 수 반환
+    private int processBatch(Set<String> touched) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("lastId", lastProcessedId)
+                .addValue("limit", batchSize);
+
+        int[] processed = {0};
+        long now = System.currentTimeMillis();
+        jdbcTemplate.query(SELECT_HISTORIES_SQL, params, (RowCallbackHandler) rs -> {
+            processed[0]++;
+            long searchId = rs.getLong("search_id");
+            rememberGaps(lastProcessedId + 1, searchId, now);
+            lastProcessedId = searchId;
+            accept(rs, touched);
+        });
+        return processed[0];
+    }
+
+    // 이전 갱신에서 건너뛴 ID 중 그 사이 커밋된 히스토리를 반영하고, gap-timeout 이 지난 ID 는 버림
+    private void processGaps(Set<String> touched) {
+        if (pendingGaps.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(pendingGaps.keySet());
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_SIZE) {
+            MapSqlParameterSource params = new MapSqlParameterSource(
+                    "ids", ids.subList(from, Math.min(from + IN_CLAUSE_SIZE, ids.size())));
+            jdbcTemplate.query(SELECT_HISTORIES_BY_IDS_SQL, params, (RowCallbackHandler) rs -> {
+                pendingGaps.remove(rs.getLong("search_id"));
+                accept(rs, touched);
+            });
+        }
+
+        long expiredBefore = System.currentTimeMillis() - gapTimeoutMs;
+        pendingGaps.values().removeIf(firstSeenAt -> firstSeenAt <= expiredBefore);
+    }
+
+    private void rememberGaps(long fromId, long toIdExclusive, long now) {
+        long gap = toIdExclusive - fromId;
+        if (gap <= 0) {
+            return;
+        }
+        if (gap > MAX_PENDING_GAPS) {
+            // 한 번에 너무 많이 건너뛴 경우(시퀀스 점프 등)는 추적하지 않음
+            log.debug("연관 검색어: search_id {}~{} 구간은 다시 조회하지 않음", fromId, toIdExclusive - 1);
+            return;
+        }
+        for (long id = fromId; id < toIdExclusive; id++) {
+            pendingGaps.putIfAbsent(id, now);
+        }
+        // 상한을 넘으면 오래된 ID 부터 버림
+        Iterator<Long> oldest = pendingGaps.keySet().iterator();
+        while (pendingGaps.size() > MAX_PENDING_GAPS && oldest.hasNext()) {
+            oldest.next();
+            oldest.remove();
+        }
+    }
+
+    private void accept(ResultSet rs, Set<String> touched) throws SQLException {
+        long userIdx = rs.getLong("user_idx");
+        String sessionKey = rs.wasNull() ? ipSessionKey(rs.getString("ip_address")) : "u:" + userIdx;
+        String keyword = normalize(rs.getString("keyword"));
+        Timestamp searchedAt = rs.getTimestamp("searched_at");
+        if (sessionKey != null && !keyword.isEmpty() && keyword.length() <= MAX_KEYWORD_LENGTH && searchedAt != null) {
+            accept(sessionKey, keyword, searchedAt.getTime(), touched);
+        }
+    }
+
+    // 같은 세션에서 window 안에 검색된 다른 키워드들과 양방향으로 동시 출현 누적
+    private void accept(String sessionKey, String keyword, long searchedAt, Set<String> touched) {
+        Deque<SessionSearch> recent = sessions.computeIfAbsent(sessionKey, key -> new ArrayDeque<>());
+        while (!recent.isEmpty() && searchedAt - recent.peekFirst().searchedAt() > sessionWindowMs) {
+            recent.pollFirst();
+        }
+
+        // 늦게 커밋되어 순서가 뒤바뀐 히스토리도 실제 검색 시각 차이가 window 안인 경우만 짝지음
+        Set<String> paired = new HashSet<>();
+        for (SessionSearch previous : recent) {
+            if (Math.abs(searchedAt - previous.searchedAt()) > sessionWindowMs) {
+                continue;
+            }
+            if (!previous.keyword().equals(keyword) && paired.add(previous.keyword())) {
+                if (increment(keyword, previous.keyword())) {
+                    touched.add(keyword);
+                }
+                if (increment(previous.keyword(), keyword)) {
+                    touched.add(previous.keyword());
+                }
+            }
+        }
+
+        // 같은 키워드를 연속으로 검색한 경우는 하나만 유지
+        recent.removeIf(previous -> previous.keyword().equals(keyword));
+        recent.addLast(new SessionSearch(keyword, searchedAt));
+        if (recent.size() > MAX_SESSION_SEARCHES) {
+            recent.pollFirst();
+        }
+    }
+
+    private boolean increment(String keyword, String relatedKeyword) {
+        Map<String, Long> candidates = cooccurrences.get(keyword);
+        if (candidates == null) {
+            if (cooccurrences.size() >= maxKeywords) {
+                return false;
+            }
+            candidates = new HashMap<>();
+            cooccurrences.put(keyword, candidates);
+        }
+
+        if (!candidates.containsKey(relatedKeyword) && candidates.size() >= maxCandidates) {
+            // 가장 적게 출현한 후보를 버리고 그 횟수를 이어받음 (새 후보가 바로 밀려나지 않도록)
+            Map.Entry<String, Long> weakest = Collections.min(candidates.entrySet(), Map.Entry.comparingByValue());
+            candidates.remove(weakest.getKey());
+            candidates.put(relatedKeyword, weakest.getValue());
+        }
+        candidates.merge(relatedKeyword, 1L, Long::sum);
+        return true;
+    }
+
+    private void publish(String keyword) {
+        Map<String, Long> candidates = cooccurrences.get(keyword);
+        if (candidates == null || candidates.isEmpty()) {
+            related.remove(keyword);
+            return;
+        }
+        List<String> top = candidates.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(topK)
+                .map(Map.Entry::getKey)
+                .toList();
+        related.put(keyword, top);
+    }
+
+    // 마지막 검색이 window 를 지난 세션 정리 (DB 시각 기준이 아닌 현재 시각 기준)
+    private void expireSessions() {
+        long threshold = System.currentTimeMillis() - sessionWindowMs;
+        sessions.values().removeIf(recent -> recent.isEmpty() || recent.peekLast().searchedAt() < threshold);
+    }
+
+    private static String ipSessionKey(String ipAddress) {
+        return ipAddress != null && !ipAddress.isBlank() ? "ip:" + ipAddress : null;
+    }
+
+    private static String normalize(String keyword) {
+        return keyword == null ? "" : keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record SessionSearch(String keyword, long searchedAt) {
+    }
+}
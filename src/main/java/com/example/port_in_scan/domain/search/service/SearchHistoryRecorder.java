@@ -0,0 +1,260 @@
+package com.example.port_in_scan.domain.search.service;
+
+import com.example.port_in_scan.domain.search.entity.SearchType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 검색 히스토리 비동기 배치 저장
+ * - 검색 요청은 메모리 큐에 넣기만 하고, 백그라운드 스레드가 flush-size 개 또는 flush-interval 마다 모아서 JDBC 배치 INSERT
+ * - 작성자는 배치마다 이메일 IN 쿼리 한 번으로 조회
+ * - 큐가 가득 차면 overflow-policy 에 따라 새 항목 버림(DROP_NEWEST) / 오래된 항목 버림(DROP_OLDEST) / 잠시 대기(BLOCK)
+ * - 배치 저장이 실패하면 한 번 더 시도하고, 그래도 실패하면 한 건씩 저장해 문제가 있는 항목만 버림 (버린 건수는 droppedCount 에 포함)
+ * - 웹 서버가 요청 처리를 멈춘 뒤 종료되며, 종료 시 큐에 남은 항목을 모두 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchHistoryRecorder implements SmartLifecycle {
+
+    private static final String INSERT_SQL = "INSERT INTO search_histories " +
+            "(keyword, search_type, result_count, user_idx, searched_at, ip_address) " +
+            "VALUES (:keyword, :searchType, :resultCount, :userIdx, :searchedAt, :ipAddress)";
+    private static final String SELECT_USERS_SQL = "SELECT idx, email FROM users WHERE email IN (:emails)";
+    private static final long DROP_LOG_INTERVAL = 1000;
+    private static final long RETRY_DELAY_MS = 100;
+
+    public enum OverflowPolicy {
+        DROP_NEWEST, DROP_OLDEST, BLOCK
+    }
+
+    public record Entry(String keyword, SearchType searchType, Long resultCount,
+                        String userEmail, String ipAddress, LocalDateTime searchedAt) {
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${search.history.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${search.history.flush-size:500}")
+    private int flushSize;
+
+    @Value("${search.history.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${search.history.overflow-policy:DROP_NEWEST}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${search.history.block-timeout-ms:50}")
+    private long blockTimeoutMs;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private BlockingQueue<Entry> queue;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    public void record(String keyword, SearchType searchType, Long resultCount, String userEmail, String ipAddress) {
+        if (!running) {
+            drop();
+            return;
+        }
+
+        Entry entry = new Entry(keyword, searchType, resultCount, userEmail, ipAddress, LocalDateTime.now());
+        boolean accepted = switch (overflowPolicy) {
+            case DROP_NEWEST -> queue.offer(entry);
+            case DROP_OLDEST -> offerDroppingOldest(entry);
+            case BLOCK -> offerWithTimeout(entry);
+        };
+        if (!accepted) {
+            drop();
+        }
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public int getQueueSize() {
+        return queue != null ? queue.size() : 0;
+    }
+
+    @Override
+    public synchronized void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writerThread = new Thread(this::runWriter, "search-history-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("검색 히스토리 종료 시 미저장 항목: {}건", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버(graceful shutdown 포함)보다 늦게 종료되도록 낮은 phase 사용
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void runWriter() {
+        List<Entry> batch = new ArrayList<>(flushSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                queue.drainTo(batch);
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    // flush-size 만큼 모이거나 flush-interval 이 지날 때까지 수집
+    private void collectBatch(List<Entry> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < flushSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            Entry entry = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (entry == null) {
+                return;
+            }
+            batch.add(entry);
+            queue.drainTo(batch, flushSize - batch.size());
+        }
+    }
+
+    private void write(List<Entry> batch) {
+        try {
+            insert(batch);
+            return;
+        } catch (Exception e) {
+            log.debug("검색 히스토리 배치 저장 실패, 재시도 ({}건): {}", batch.size(), e.getMessage());
+        }
+
+        // 일시적인 DB 오류면 잠시 뒤 배치 전체를 한 번 더 저장
+        try {
+            Thread.sleep(RETRY_DELAY_MS);
+            insert(batch);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("검색 히스토리 배치 저장 재시도 실패, 한 건씩 저장 ({}건): {}", batch.size(), e.getMessage());
+        }
+
+        // 특정 항목 때문에 실패한 경우 나머지는 저장
+        long lost = 0;
+        for (Entry entry : batch) {
+            try {
+                insert(List.of(entry));
+            } catch (Exception e) {
+                lost++;
+            }
+        }
+        if (lost > 0) {
+            long dropped = droppedCount.addAndGet(lost);
+            log.warn("검색 히스토리 저장 실패로 버린 항목: {}건 (누적 {}건)", lost, dropped);
+        }
+    }
+
+    // 배치 단위로 모두 저장되거나 모두 롤백 (재시도 시 일부 행이 중복 저장되지 않도록)
+    private void insert(List<Entry> entries) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, Long> userIdxByEmail = findUserIdx(entries);
+
+            SqlParameterSource[] params = entries.stream()
+                    .map(entry -> new MapSqlParameterSource()
+                            .addValue("keyword", entry.keyword())
+                            .addValue("searchType", entry.searchType().name())
+                            .addValue("resultCount", entry.resultCount())
+                            .addValue("userIdx", entry.userEmail() != null ? userIdxByEmail.get(entry.userEmail()) : null)
+                            .addValue("searchedAt", Timestamp.valueOf(entry.searchedAt()))
+                            .addValue("ipAddress", entry.ipAddress()))
+                    .toArray(SqlParameterSource[]::new);
+
+            jdbcTemplate.batchUpdate(INSERT_SQL, params);
+        });
+    }
+
+    private Map<String, Long> findUserIdx(List<Entry> batch) {
+        Set<String> emails = new HashSet<>();
+        batch.forEach(entry -> {
+            if (entry.userEmail() != null) {
+                emails.add(entry.userEmail());
+            }
+        });
+        if (emails.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Long> userIdxByEmail = new HashMap<>();
+        jdbcTemplate.query(SELECT_USERS_SQL, Map.of("emails", emails),
+                (RowCallbackHandler) rs -> userIdxByEmail.put(rs.getString("email"), rs.getLong("idx")));
+        return userIdxByEmail;
+    }
+
+    private boolean offerDroppingOldest(Entry entry) {
+        while (!queue.offer(entry)) {
+            if (queue.poll() != null) {
+                drop();
+            }
+        }
+        return true;
+    }
+
+    private boolean offerWithTimeout(Entry entry) {
+        try {
+            return queue.offer(entry, blockTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drop() {
+        long dropped = droppedCount.incrementAndGet();
+        if (dropped == 1 || dropped % DROP_LOG_INTERVAL == 0) {
+            log.warn("검색 히스토리를 큐에 넣지 못해 버렸습니다. 누적 {}건", dropped);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.port_in_scan.domain.search.service;
+
+import com.example.port_in_scan.domain.search.entity.SearchType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+ * 검색 지표
+ * - search.phase: 검색 단계별 소요 시간 (phase, search_type 태그, 백분위 히스토그램 포함)
+ * - search.suggestion.requests: 자동완성 요청 수 (result=hit/empty)
+ * - search.popular-keyword.requests: 인기 검색어 조회 수
+ * 요청마다 태그 조회/등록을 하지 않도록 미터는 시작 시 미리 만들어 둠
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchMetrics {
+
+    @Getter
+    @AllArgsConstructor
+    public enum Phase {
+        QUERY("query"),
+        RELATED_KEYWORDS("related_keywords"),
+        HISTORY("history"),
+        POPULAR_SEARCH("popular_search"),
+        TRENDING("trending");
+
+        private final String tag;
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Phase, Map<SearchType, Timer>> phaseTimers = new EnumMap<>(Phase.class);
+    private Counter suggestionHits;
+    private Counter suggestionMisses;
+    private Counter popularKeywordRequests;
+
+    @PostConstruct
+    void init() {
+        for (Phase phase : Phase.values()) {
+            Map<SearchType, Timer> timers = new EnumMap<>(SearchType.class);
+            for (SearchType searchType : SearchType.values()) {
+                timers.put(searchType, Timer.builder("search.phase")
+                        .description("검색 단계별 소요 시간")
+                        .tag("phase", phase.getTag())
+                        .tag("search_type", searchType.name())
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+            }
+            phaseTimers.put(phase, timers);
+        }
+
+        suggestionHits = suggestionCounter("hit");
+        suggestionMisses = suggestionCounter("empty");
+        popularKeywordRequests = Counter.builder("search.popular-keyword.requests")
+                .description("인기 검색어 조회 수")
+                .register(meterRegistry);
+    }
+
+    public <T> T record(Phase phase, SearchType searchType, Supplier<T> supplier) {
+        return phaseTimers.get(phase).get(searchType).record(supplier);
+    }
+
+    public void record(Phase phase, SearchType searchType, Runnable runnable) {
+        phaseTimers.get(phase).get(searchType).record(runnable);
+    }
+
+    public void suggestionRequested(boolean found) {
+        (found ? suggestionHits : suggestionMisses).increment();
+    }
+
+    public void popularKeywordsRequested() {
+        popularKeywordRequests.increment();
+    }
+
+    private Counter suggestionCounter(String result) {
+        return Counter.builder("search.suggestion.requests")
+                .description("검색어 자동완성 요청 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.port_in_scan.domain.search.service;
+
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioResponseDto;
+import com.example.port_in_scan.domain.portfolio.event.PortfolioBatchChangedEvent;
+import com.example.port_in_scan.domain.portfolio.event.PortfolioChangedEvent;
+import com.example.port_in_scan.domain.search.dto.SearchFacetsDto;
+import com.example.port_in_scan.domain.search.dto.SearchRequestDto;
+import com.example.port_in_scan.global.util.Hashes;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/*
+ * 검색 결과 2단계 캐시 (로컬 LRU -> Redis)
+ * - 키는 정규화한 검색 조건 (키워드 공백 정리, 기술 스택/태그 정렬 등)
+ * - 포트폴리오 생성/수정/삭제/상태 변경이 커밋되면 전역 세대(generation)를 올려 이전 세대 항목을 모두 무효화
+ *   세대는 Redis 에서 공유하고 generation-sync-interval 마다 가져오므로 다른 서버의 변경은 그만큼 늦게 반영될 수 있음
+ * - 조회수/좋아요 수처럼 이벤트 없이 바뀌는 값은 ttl 동안 이전 값이 보일 수 있음
+ * - Redis 장애 시 로컬 캐시만 사용 (검색은 계속 동작)
+ * - 지표: search.cache.requests(result=local/redis/miss), search.cache.staleness(응답한 항목의 경과 시간, ms)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchResultCache {
+
+    private static final String GENERATION_KEY = "search:result:generation";
+    private static final String ENTRY_KEY_PREFIX = "search:result:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${search.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${search.cache.redis-enabled:true}")
+    private boolean redisEnabled;
+
+    @Value("${search.cache.local-size:1000}")
+    private int localSize;
+
+    @Value("${search.cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    /*
+     * 캐시되는 검색 결과
+     * totalResults 가 null 이면 전체 건수 미제공 (SearchCountMode.NONE)
+     */
+    public record Result(List<PortfolioResponseDto> portfolios, Long totalResults, boolean totalExact,
+                         boolean hasNext, SearchFacetsDto facets) {
+    }
+
+    // Redis 에 JSON 으로 저장되므로 Jackson 이 생성할 수 있도록 private 이 아닌 record 사용
+    record Entry(Result result, long generation, long cachedAt) {
+    }
+
+    private final AtomicLong generation = new AtomicLong();
+    private Map<String, Entry> localEntries;
+
+    private Counter localHits;
+    private Counter redisHits;
+    private Counter misses;
+    private DistributionSummary staleness;
+
+    @PostConstruct
+    void init() {
+        // 접근 순서 LinkedHashMap 으로 LRU 구성 (가장 오래 사용되지 않은 항목부터 제거)
+        localEntries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > localSize;
+            }
+        };
+
+        localHits = requestCounter("local");
+        redisHits = requestCounter("redis");
+        misses = requestCounter("miss");
+        staleness = DistributionSummary.builder("search.cache.staleness")
+                .description("캐시에서 응답한 검색 결과의 경과 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("search.cache.generation", generation, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("search.cache.local.size", this, SearchResultCache::localEntryCount).register(meterRegistry);
+
+        syncGeneration();
+    }
+
+    public Result getOrLoad(SearchRequestDto requestDto, Supplier<Result> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        String key = keyOf(requestDto);
+        long currentGeneration = generation.get();
+        long now = System.currentTimeMillis();
+
+        Entry entry = getLocal(key, currentGeneration, now);
+        if (entry != null) {
+            localHits.increment();
+            staleness.record(now - entry.cachedAt());
+            return entry.result();
+        }
+
+        entry = getRedis(key, currentGeneration);
+        if (entry != null) {
+            redisHits.increment();
+            staleness.record(now - entry.cachedAt());
+            putLocal(key, entry);
+            return entry.result();
+        }
+
+        misses.increment();
+        Result result = loader.get();
+        entry = new Entry(result, currentGeneration, now);
+        putLocal(key, entry);
+        putRedis(key, entry);
+        return result;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        nextGeneration();
+    }
+
+    // 묶음 변경은 포트폴리오 수와 관계없이 세대를 한 번만 올림
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPortfoliosChanged(PortfolioBatchChangedEvent event) {
+        nextGeneration();
+    }
+
+    private void nextGeneration() {
+        long next = generation.incrementAndGet();
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            Long shared = redisTemplate.opsForValue().increment(GENERATION_KEY);
+            if (shared != null) {
+                generation.accumulateAndGet(shared, Math::max);
+            }
+        } catch (Exception e) {
+            log.debug("검색 캐시 세대 증가 실패 (로컬 세대 {} 사용): {}", next, e.getMessage());
+        }
+    }
+
+    // 다른 서버에서 올린 세대 반영
+    @Scheduled(fixedDelayString = "${search.cache.generation-sync-interval-ms:1000}")
+    public void syncGeneration() {
+        if (!enabled || !redisEnabled) {
+            return;
+        }
+        try {
+            String shared = redisTemplate.opsForValue().get(GENERATION_KEY);
+            if (shared != null) {
+                generation.accumulateAndGet(Long.parseLong(shared), Math::max);
+            }
+        } catch (Exception e) {
+            log.debug("검색 캐시 세대 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    private synchronized Entry getLocal(String key, long currentGeneration, long now) {
+        Entry entry = localEntries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.generation() != currentGeneration || now - entry.cachedAt() > ttlMs) {
+            localEntries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private synchronized void putLocal(String key, Entry entry) {
+        localEntries.put(key, entry);
+    }
+
+    private synchronized int localEntryCount() {
+        return localEntries.size();
+    }
+
+    // Redis 키에 세대를 포함하므로 세대가 바뀌면 이전 항목은 조회되지 않고 ttl 후 만료
+    private Entry getRedis(String key, long currentGeneration) {
+        if (!redisEnabled) {
+            return null;
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(redisKey(key, currentGeneration));
+            return json != null ? objectMapper.readValue(json, Entry.class) : null;
+        } catch (Exception e) {
+            log.debug("검색 캐시 Redis 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRedis(String key, Entry entry) {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(redisKey(key, entry.generation()),
+                    objectMapper.writeValueAsString(entry), Duration.ofMillis(ttlMs));
+        } catch (Exception e) {
+            log.debug("검색 캐시 Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private Counter requestCounter(String result) {
+        return Counter.builder("search.cache.requests")
+                .description("검색 결과 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String redisKey(String key, long generation) {
+        return ENTRY_KEY_PREFIX + generation + ":" + Hashes.sha256(key);
+    }
+
+    // 결과에 영향을 주는 조건만 정규화해서 키로 사용 (목록 순서, 키워드 공백 차이는 같은 키)
+    static String keyOf(SearchRequestDto requestDto) {
+        StringJoiner key = new StringJoiner("|");
+        key.add(String.valueOf(requestDto.getSearchType()));
+        key.add(requestDto.getKeyword() != null ? requestDto.getKeyword().trim().replaceAll("\\s+", " ") : "");
+        key.add(String.valueOf(requestDto.getCategory()));
+        key.add(sorted(requestDto.getTechStacks()));
+        key.add(String.valueOf(requestDto.getTechStackMatch()));
+        key.add(sorted(requestDto.getTags()));
+        key.add(String.valueOf(requestDto.getTagMatch()));
+        key.add(sorted(requestDto.getExcludedTechStacks()));
+        key.add(sorted(requestDto.getExcludedTags()));
+        key.add(String.valueOf(requestDto.getPage()));
+        key.add(String.valueOf(requestDto.getSize()));
+        key.add(String.valueOf(requestDto.getSortBy()));
+        key.add(requestDto.getSortDir() != null ? requestDto.getSortDir().toLowerCase(Locale.ROOT) : "");
+        key.add(String.valueOf(requestDto.getCountMode()));
+        key.add(requestDto.isIncludeFacets() ? String.valueOf(requestDto.getFacetSize()) : "-");
+        return key.toString();
+    }
+
+    private static String sorted(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return "";
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+}
@@ -3,10 +3,15 @@ package com.example.port_in_scan.domain.search.service;
 import com.example.port_in_scan.domain.member.entity.User;
 import com.example.port_in_scan.domain.member.repository.UserRepository;
 import com.example.port_in_scan.domain.portfolio.dto.PortfolioResponseDto;
-import com.example.port_in_scan.domain.portfolio.entity.PortfolioStatus;
-import com.example.port_in_scan.domain.portfolio.repository.PortfolioRepository;
+import com.example.port_in_scan.domain.search.dto.SearchCountMode;
+import com.example.port_in_scan.domain.search.dto.SearchFacetsDto;
 import com.example.port_in_scan.domain.search.dto.SearchRequestDto;
 import com.example.port_in_scan.domain.search.dto.SearchResponseDto;
+import com.example.port_in_scan.domain.search.dto.TrendingKeywordDto;
+import com.example.port_in_scan.domain.search.dto.TrendingWindow;
+import com.example.port_in_scan.domain.search.engine.KeywordSuggestionTrie;
+import com.example.port_in_scan.domain.search.engine.PortfolioSearchEngine;
+import com.example.port_in_scan.domain.search.engine.SearchTotalEstimator;
 import com.example.port_in_scan.domain.search.entity.PopularSearch;
 import com.example.port_in_scan.domain.search.entity.SearchHistory;
 import com.example.port_in_scan.domain.search.entity.SearchType;
@@ -14,19 +19,23 @@ import com.example.port_in_scan.domain.search.repository.PopularSearchRepository
 import com.example.port_in_scan.domain.search.repository.SearchHistoryRepository;
 import com.example.port_in_scan.exception.AppException;
 import com.example.port_in_scan.exception.ErrorCode;
+import com.example.port_in_scan.global.concurrent.FanOutExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,141 +44,142 @@ import java.util.stream.Collectors;
 @Slf4j
 public class SearchService {
 
-    private final PortfolioRepository portfolioRepository;
+    private static final int MAX_FACET_SIZE = 50;
+
     private final SearchHistoryRepository searchHistoryRepository;
     private final PopularSearchRepository popularSearchRepository;
     private final UserRepository userRepository;
+    private final List<PortfolioSearchEngine> searchEngines;
+    private final KeywordSuggestionTrie keywordSuggestionTrie;
+    private final SearchHistoryRecorder searchHistoryRecorder;
+    private final PopularSearchAggregator popularSearchAggregator;
+    private final SearchTotalEstimator searchTotalEstimator;
+    private final RelatedKeywordService relatedKeywordService;
+    private final SearchResultCache searchResultCache;
+    private final TrendingKeywordService trendingKeywordService;
+    private final SearchMetrics searchMetrics;
+    private final FanOutExecutor fanOutExecutor;
 
     @Transactional
     public SearchResponseDto search(SearchRequestDto requestDto, String userEmail, String ipAddress) {
         long startTime = System.currentTimeMillis();
+        SearchType searchType = requestDto.getSearchType() != null ? requestDto.getSearchType() : SearchType.KEYWORD;
         
         // 페이징 설정
         Sort sort = requestDto.getSortDir().equalsIgnoreCase("desc") ? 
                    Sort.by(requestDto.getSortBy()).descending() : Sort.by(requestDto.getSortBy()).ascending();
         Pageable pageable = PageRequest.of(requestDto.getPage(), requestDto.getSize(), sort);
 
-        // 검색 실행
-        Page<PortfolioResponseDto> portfolioPage = executeSearch(requestDto, pageable);
-        
-        // 관련 키워드 생성
-        List<String> relatedKeywords = generateRelatedKeywords(requestDto.getKeyword());
+        // 검색 실행 (같은 조건의 결과가 캐시에 있으면 재사용)
+        SearchResultCache.Result result = searchMetrics.record(SearchMetrics.Phase.QUERY, searchType,
+                () -> searchResultCache.getOrLoad(requestDto, () -> executeSearch(requestDto, pageable)));
+        Slice<PortfolioResponseDto> portfolioSlice = new SliceImpl<>(result.portfolios(), pageable, result.hasNext());
+        Long totalResults = result.totalResults();
+
+        // 연관 검색어 (검색 히스토리 동시 출현으로 미리 계산된 목록)
+        List<String> relatedKeywords = searchMetrics.record(SearchMetrics.Phase.RELATED_KEYWORDS, searchType,
+                () -> relatedKeywordService.getRelatedKeywords(requestDto.getKeyword()));
         
         long searchTime = System.currentTimeMillis() - startTime;
         
-        // 검색 히스토리 저장 (비동기적으로 처리 가능)
-        saveSearchHistory(requestDto, userEmail, ipAddress, portfolioPage.getTotalElements());
+        // 검색 히스토리 저장 (큐에 넣고 백그라운드에서 배치 저장)
+        searchMetrics.record(SearchMetrics.Phase.HISTORY, searchType, () -> searchHistoryRecorder.record(
+                requestDto.getKeyword(),
+                searchType,
+                totalResults,
+                userEmail,
+                ipAddress));
         
-        // 인기 검색어 업데이트
-        updatePopularSearch(requestDto.getKeyword());
-        
-        return SearchResponseDto.from(requestDto.getKeyword(), portfolioPage, relatedKeywords, searchTime);
-    }
+        // 인기 검색어 검색 횟수 집계 (주기적으로 DB 에 배치 반영)
+        searchMetrics.record(SearchMetrics.Phase.POPULAR_SEARCH, searchType,
+                () -> popularSearchAggregator.record(requestDto.getKeyword()));
 
-    private Page<PortfolioResponseDto> executeSearch(SearchRequestDto requestDto, Pageable pageable) {
-        // 검색 타입에 따른 분기 처리
-        switch (requestDto.getSearchType() != null ? requestDto.getSearchType() : SearchType.KEYWORD) {
-            case TECH_STACK:
-                if (requestDto.getTechStacks() != null && !requestDto.getTechStacks().isEmpty()) {
-                    return portfolioRepository.findByTechStacksInAndStatus(
-                            requestDto.getTechStacks(), PortfolioStatus.ACTIVE, pageable)
-                            .map(PortfolioResponseDto::from);
-                }
-                break;
-            case TAG:
-                if (requestDto.getTags() != null && !requestDto.getTags().isEmpty()) {
-                    return portfolioRepository.findByTagsInAndStatus(
-                            requestDto.getTags(), PortfolioStatus.ACTIVE, pageable)
-                            .map(PortfolioResponseDto::from);
-                }
-                break;
-            case CATEGORY:
-                if (requestDto.getCategory() != null) {
-                    return portfolioRepository.findByStatusAndCategory(
-                            PortfolioStatus.ACTIVE, requestDto.getCategory(), pageable)
-                            .map(PortfolioResponseDto::from);
-                }
-                break;
-            case COMPLEX:
-                return portfolioRepository.findByComplexSearch(
-                        requestDto.getKeyword(),
-                        requestDto.getCategory(),
-                        requestDto.getTechStacks() != null && !requestDto.getTechStacks().isEmpty() ? 
-                                requestDto.getTechStacks().get(0) : null,
-                        requestDto.getTags() != null && !requestDto.getTags().isEmpty() ? 
-                                requestDto.getTags().get(0) : null,
-                        PortfolioStatus.ACTIVE,
-                        pageable)
-                        .map(PortfolioResponseDto::from);
-            default:
-                // 기본 키워드 검색
-                return portfolioRepository.findByTitleOrDescriptionContainingAndStatus(
-                        requestDto.getKeyword(), PortfolioStatus.ACTIVE, pageable)
-                        .map(PortfolioResponseDto::from);
-        }
+        // 급상승 검색어 집계 (메모리 스케치만 갱신)
+        searchMetrics.record(SearchMetrics.Phase.TRENDING, searchType,
+                () -> trendingKeywordService.record(requestDto.getKeyword()));
         
-        // 기본 키워드 검색으로 폴백
-        return portfolioRepository.findByTitleOrDescriptionContainingAndStatus(
-                requestDto.getKeyword(), PortfolioStatus.ACTIVE, pageable)
-                .map(PortfolioResponseDto::from);
+        return SearchResponseDto.from(requestDto.getKeyword(), portfolioSlice, totalResults, result.totalExact(),
+                relatedKeywords, searchTime, result.facets());
     }
 
-    @Transactional
-    private void saveSearchHistory(SearchRequestDto requestDto, String userEmail, 
-                                 String ipAddress, Long resultCount) {
-        try {
-            User user = null;
-            if (userEmail != null) {
-                user = userRepository.findByEmail(userEmail).orElse(null);
+    // 캐시를 거치지 않는 검색 실행 (벤치마크에서 직접 호출하므로 package-private)
+    SearchResultCache.Result executeSearch(SearchRequestDto requestDto, Pageable pageable) {
+        // EXACT 가 아니면 COUNT 쿼리 생략
+        SearchCountMode countMode = requestDto.getCountMode() != null ? requestDto.getCountMode() : SearchCountMode.EXACT;
+        PortfolioSearchEngine engine = selectEngine(requestDto);
+        // COUNT 가 별도 쿼리인 엔진은 결과 조회(Slice)와 COUNT/건수 추정을 나눠서 실행
+        boolean separateCount = engine.countsSeparately() && countMode != SearchCountMode.NONE;
+
+        /*
+         * 결과 조회, 전체 건수(COUNT 또는 플래너 추정), 패싯 집계를 동시에 실행해서 검색 시간을 합이 아닌 최댓값으로 줄임
+         * - 결과 조회는 호출 스레드(검색 트랜잭션)에서 실행 (DTO 조립이 영속성 컨텍스트를 사용)
+         * - COUNT/추정은 각자 별도 커넥션에서 실행하므로 결과 조회와 다른 시점의 스냅샷일 수 있음
+         * - 하나가 실패하면 나머지를 취소하고 그 예외를 던짐
+         */
+        try (FanOutExecutor.Scope scope = fanOutExecutor.open()) {
+            Supplier<Long> total = separateCount && countMode == SearchCountMode.EXACT
+                    ? scope.fork(() -> engine.count(requestDto))
+                    : () -> null;
+            Supplier<OptionalLong> plannedRows = separateCount && countMode == SearchCountMode.ESTIMATED
+                    ? scope.fork(() -> searchTotalEstimator.plannedRows(requestDto))
+                    : OptionalLong::empty;
+            Supplier<SearchFacetsDto> facets = requestDto.isIncludeFacets()
+                    ? scope.fork(() -> facets(engine, requestDto))
+                    : () -> null;
+
+            Slice<PortfolioResponseDto> portfolioSlice = countMode == SearchCountMode.EXACT && !separateCount
+                    ? engine.search(requestDto, pageable)
+                    : engine.searchSlice(requestDto, pageable);
+            scope.join();
+
+            if (total.get() != null) {
+                portfolioSlice = new PageImpl<>(portfolioSlice.getContent(), pageable, total.get());
             }
-            
-            SearchHistory searchHistory = SearchHistory.createSearchHistory(
-                    requestDto.getKeyword(),
-                    requestDto.getSearchType() != null ? requestDto.getSearchType() : SearchType.KEYWORD,
-                    resultCount,
-                    user,
-                    ipAddress
-            );
-            
-            searchHistoryRepository.save(searchHistory);
-        } catch (Exception e) {
-            log.warn("검색 히스토리 저장 실패: {}", e.getMessage());
+            return toResult(pageable, countMode, portfolioSlice, plannedRows.get(), facets.get());
         }
     }
 
-    @Transactional
-    private void updatePopularSearch(String keyword) {
-        try {
-            Optional<PopularSearch> existingPopularSearch = popularSearchRepository.findByKeyword(keyword);
-            
-            if (existingPopularSearch.isPresent()) {
-                existingPopularSearch.get().incrementSearchCount();
-                popularSearchRepository.save(existingPopularSearch.get());
-            } else {
-                PopularSearch newPopularSearch = PopularSearch.createPopularSearch(keyword);
-                popularSearchRepository.save(newPopularSearch);
-            }
-        } catch (Exception e) {
-            log.warn("인기 검색어 업데이트 실패: {}", e.getMessage());
+    private SearchResultCache.Result toResult(Pageable pageable, SearchCountMode countMode,
+                                              Slice<PortfolioResponseDto> portfolioSlice, OptionalLong plannedRows,
+                                              SearchFacetsDto facets) {
+        Long totalResults;
+        boolean totalExact;
+        if (portfolioSlice instanceof Page<PortfolioResponseDto> portfolioPage) {
+            // 엔진이 전체 건수를 이미 알고 있거나 COUNT 를 함께 실행한 경우
+            totalResults = portfolioPage.getTotalElements();
+            totalExact = true;
+        } else if (!portfolioSlice.hasNext()) {
+            // 마지막 페이지면 전체 건수를 정확히 알 수 있음
+            totalResults = pageable.getOffset() + portfolioSlice.getNumberOfElements();
+            totalExact = true;
+        } else if (countMode == SearchCountMode.ESTIMATED) {
+            totalResults = searchTotalEstimator.estimate(portfolioSlice, plannedRows);
+            totalExact = false;
+        } else {
+            totalResults = null;
+            totalExact = false;
         }
+
+        return new SearchResultCache.Result(portfolioSlice.getContent(), totalResults, totalExact,
+                portfolioSlice.hasNext(), facets);
     }
 
-    private List<String> generateRelatedKeywords(String keyword) {
-        // 간단한 관련 키워드 생성 로직 (실제로는 더 복잡한 알고리즘 사용)
-        List<String> commonTechKeywords = Arrays.asList(
-                "React", "Vue", "Angular", "Node.js", "Express", 
-                "Spring Boot", "Django", "Flask", "Java", "Python",
-                "JavaScript", "TypeScript", "Go", "Kotlin", "Swift"
-        );
-        
-        return commonTechKeywords.stream()
-                .filter(tech -> tech.toLowerCase().contains(keyword.toLowerCase()) || 
-                               keyword.toLowerCase().contains(tech.toLowerCase()))
-                .limit(5)
-                .collect(Collectors.toList());
+    // 패싯 크기는 0 ~ MAX_FACET_SIZE 로 제한
+    private SearchFacetsDto facets(PortfolioSearchEngine engine, SearchRequestDto requestDto) {
+        int facetSize = Math.min(Math.max(requestDto.getFacetSize(), 0), MAX_FACET_SIZE);
+        return engine.facets(requestDto, facetSize).orElse(null);
+    }
+
+    // 설정된 검색 엔진 중 요청을 지원하는 첫 번째 엔진 (JPA 엔진이 최종 폴백)
+    private PortfolioSearchEngine selectEngine(SearchRequestDto requestDto) {
+        return searchEngines.stream()
+                .filter(candidate -> candidate.supports(requestDto))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("검색 요청을 처리할 검색 엔진이 없습니다."));
     }
 
     public List<String> getPopularKeywords(int limit) {
+        searchMetrics.popularKeywordsRequested();
         Pageable pageable = PageRequest.of(0, limit);
         return popularSearchRepository.findAllByOrderBySearchCountDesc(pageable)
                 .getContent()
@@ -178,6 +188,10 @@ public class SearchService {
                 .collect(Collectors.toList());
     }
 
+    public List<TrendingKeywordDto> getTrendingKeywords(TrendingWindow window, int limit) {
+        return trendingKeywordService.getTrendingKeywords(window, limit);
+    }
+
     public List<String> getRecentSearchKeywords(int limit) {
         Pageable pageable = PageRequest.of(0, limit);
         return popularSearchRepository.findAllByOrderByLastSearchedAtDesc(pageable)
@@ -202,18 +216,16 @@ public class SearchService {
         return searchHistoryRepository.findRecentKeywordsByUser(user.getIdx(), pageable);
     }
 
+    // 메모리 트라이에서 조회 (DB 조회 없음)
     public List<String> getKeywordSuggestions(String query, int limit) {
-        Pageable pageable = PageRequest.of(0, limit);
-        return popularSearchRepository.findByKeywordContaining(query, pageable)
-                .getContent()
-                .stream()
-                .map(PopularSearch::getKeyword)
-                .collect(Collectors.toList());
+        List<String> suggestions = keywordSuggestionTrie.suggest(query, limit);
+        searchMetrics.suggestionRequested(!suggestions.isEmpty());
+        return suggestions;
     }
 
     // 검색 통계 조회
     public List<Object[]> getSearchStatistics(int days) {
-        LocalDateTime startDate = LocalDateTime.now().minusDays(days);
+        LocalDate startDate = LocalDate.now().minusDays(days);
         return searchHistoryRepository.findPopularKeywords(startDate, PageRequest.of(0, 10));
     }
 }
\ No newline at end of file
@@ -0,0 +1,205 @@
+package com.example.port_in_scan.domain.search.service;
+
+import com.example.port_in_scan.domain.search.dto.TrendingKeywordDto;
+import com.example.port_in_scan.domain.search.dto.TrendingWindow;
+import com.example.port_in_scan.domain.search.engine.CountMinSketch;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 슬라이딩 윈도우 급상승 검색어 (DB 쓰기 없음, 서버별 메모리 집계)
+ * - 검색마다 현재 분/시간 버킷과 구간(1시간/24시간/7일) 합계 Count-Min Sketch 에 1씩 더함
+ * - 분이 바뀌면 60분 전 분 버킷을, 시간이 바뀌면 24시간/7일 전 시간 버킷을 구간 합계에서 빼서 구간을 밀어냄
+ * - refresh-interval 마다 구간별 후보(최근 검색된 키워드 + 기존 후보)의 추정 횟수를 다시 계산해
+ *   상위 top-k 목록을 미리 만들어 두고, 조회는 만들어 둔 목록을 그대로 반환
+ * - 추정 횟수는 실제 값 이상일 수 있음 (sketch-width 가 클수록 오차 감소)
+ */
+@Slf4j
+@Component
+public class TrendingKeywordService {
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int MINUTE_BUCKETS = 60;
+    private static final int HOUR_BUCKETS = 24 * 7;
+    private static final int DAY_HOURS = 24;
+    private static final int MAX_KEYWORD_LENGTH = 255;
+
+    @Value("${search.trending.sketch-width:1024}")
+    private int sketchWidth;
+
+    @Value("${search.trending.top-k:50}")
+    private int topK;
+
+    @Value("${search.trending.candidate-capacity:1000}")
+    private int candidateCapacity;
+
+    @Value("${search.trending.recent-capacity:10000}")
+    private int recentCapacity;
+
+    private CountMinSketch[] minuteBuckets;
+    private CountMinSketch[] hourBuckets;
+    private final Map<TrendingWindow, CountMinSketch> windowSketches = new EnumMap<>(TrendingWindow.class);
+
+    // 검색 스레드가 기록할 현재 버킷 위치
+    private volatile int minuteIndex;
+    private volatile int hourIndex;
+
+    // 마지막 refresh 이후 검색된 키워드 (다음 refresh 에서 후보로 추가)
+    private volatile Set<String> recentKeywords = ConcurrentHashMap.newKeySet();
+
+    // 구간별 상위 목록 (조회용)
+    private final Map<TrendingWindow, List<TrendingKeywordDto>> trending = new ConcurrentHashMap<>();
+
+    // 아래 상태는 refresh 스레드에서만 접근
+    private final Map<TrendingWindow, Map<String, Long>> candidates = new EnumMap<>(TrendingWindow.class);
+    private long currentMinute;
+    private long currentHour;
+
+    @PostConstruct
+    void init() {
+        init(System.currentTimeMillis());
+    }
+
+    // now 시각을 현재 버킷으로 초기화 (테스트에서 시각을 지정하므로 package-private)
+    void init(long now) {
+        minuteBuckets = newSketches(MINUTE_BUCKETS);
+        hourBuckets = newSketches(HOUR_BUCKETS);
+        for (TrendingWindow window : TrendingWindow.values()) {
+            windowSketches.put(window, new CountMinSketch(SKETCH_DEPTH, sketchWidth));
+            candidates.put(window, new HashMap<>());
+            trending.put(window, List.of());
+        }
+
+        currentMinute = TimeUnit.MILLISECONDS.toMinutes(now);
+        currentHour = TimeUnit.MILLISECONDS.toHours(now);
+        minuteIndex = (int) (currentMinute % MINUTE_BUCKETS);
+        hourIndex = (int) (currentHour % HOUR_BUCKETS);
+    }
+
+    public void record(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return;
+        }
+        String normalized = keyword.trim().toLowerCase(Locale.ROOT);
+        if (normalized.length() > MAX_KEYWORD_LENGTH) {
+            return;
+        }
+
+        minuteBuckets[minuteIndex].add(normalized, 1);
+        hourBuckets[hourIndex].add(normalized, 1);
+        windowSketches.values().forEach(sketch -> sketch.add(normalized, 1));
+
+        Set<String> recent = recentKeywords;
+        if (recent.size() < recentCapacity) {
+            recent.add(normalized);
+        }
+    }
+
+    // 미리 만들어 둔 상위 목록 반환 (최대 top-k 개)
+    public List<TrendingKeywordDto> getTrendingKeywords(TrendingWindow window, int limit) {
+        List<TrendingKeywordDto> keywords = trending.getOrDefault(window, List.of());
+        return keywords.subList(0, Math.max(0, Math.min(limit, keywords.size())));
+    }
+
+    @Scheduled(fixedDelayString = "${search.trending.refresh-interval-ms:10000}")
+    public void refresh() {
+        refresh(System.currentTimeMillis());
+    }
+
+    synchronized void refresh(long now) {
+        advanceMinutes(TimeUnit.MILLISECONDS.toMinutes(now));
+        advanceHours(TimeUnit.MILLISECONDS.toHours(now));
+
+        Set<String> recent = recentKeywords;
+        recentKeywords = ConcurrentHashMap.newKeySet();
+
+        for (TrendingWindow window : TrendingWindow.values()) {
+            trending.put(window, rank(window, recent));
+        }
+    }
+
+    /*
+     * 새로 시작되는 분 버킷에는 60분 전 검색이 남아 있으므로 1시간 합계에서 빼고 비움
+     * 버킷을 비운 뒤 기록 위치를 옮기므로 검색 스레드는 비우는 중인 버킷에 기록하지 않음
+     */
+    private void advanceMinutes(long nowMinute) {
+        if (nowMinute <= currentMinute) {
+            return;
+        }
+        CountMinSketch hourSketch = windowSketches.get(TrendingWindow.HOUR);
+        if (nowMinute - currentMinute >= MINUTE_BUCKETS) {
+            Arrays.stream(minuteBuckets).forEach(CountMinSketch::clear);
+            hourSketch.clear();
+        } else {
+            for (long minute = currentMinute + 1; minute <= nowMinute; minute++) {
+                CountMinSketch expired = minuteBuckets[(int) (minute % MINUTE_BUCKETS)];
+                hourSketch.merge(expired, -1);
+                expired.clear();
+            }
+        }
+        currentMinute = nowMinute;
+        minuteIndex = (int) (nowMinute % MINUTE_BUCKETS);
+    }
+
+    // 새로 시작되는 시간마다 24시간 전 버킷은 24시간 합계에서, 7일 전 버킷은 7일 합계에서 뺌
+    private void advanceHours(long nowHour) {
+        if (nowHour <= currentHour) {
+            return;
+        }
+        CountMinSketch daySketch = windowSketches.get(TrendingWindow.DAY);
+        CountMinSketch weekSketch = windowSketches.get(TrendingWindow.WEEK);
+        if (nowHour - currentHour >= HOUR_BUCKETS) {
+            Arrays.stream(hourBuckets).forEach(CountMinSketch::clear);
+            daySketch.clear();
+            weekSketch.clear();
+        } else {
+            for (long hour = currentHour + 1; hour <= nowHour; hour++) {
+                daySketch.merge(hourBuckets[(int) ((hour - DAY_HOURS) % HOUR_BUCKETS)], -1);
+
+                CountMinSketch expired = hourBuckets[(int) (hour % HOUR_BUCKETS)];
+                weekSketch.merge(expired, -1);
+                expired.clear();
+            }
+        }
+        currentHour = nowHour;
+        hourIndex = (int) (nowHour % HOUR_BUCKETS);
+    }
+
+    // 후보의 추정 횟수를 갱신하고 candidate-capacity 개만 남긴 뒤 상위 top-k 반환
+    private List<TrendingKeywordDto> rank(TrendingWindow window, Set<String> recent) {
+        CountMinSketch sketch = windowSketches.get(window);
+        Map<String, Long> pool = candidates.get(window);
+        recent.forEach(keyword -> pool.putIfAbsent(keyword, 0L));
+        pool.replaceAll((keyword, count) -> sketch.estimate(keyword));
+        pool.values().removeIf(count -> count <= 0);
+
+        List<Map.Entry<String, Long>> ranked = new ArrayList<>(pool.entrySet());
+        ranked.sort(Map.Entry.<String, Long>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        if (ranked.size() > candidateCapacity) {
+            ranked.subList(candidateCapacity, ranked.size())
+                    .forEach(entry -> pool.remove(entry.getKey()));
+        }
+
+        return ranked.stream()
+                .limit(topK)
+                .map(entry -> new TrendingKeywordDto(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private CountMinSketch[] newSketches(int size) {
+        CountMinSketch[] sketches = new CountMinSketch[size];
+        for (int i = 0; i < size; i++) {
+            sketches[i] = new CountMinSketch(SKETCH_DEPTH, sketchWidth);
+        }
+        return sketches;
+    }
+}
@@ -20,7 +20,9 @@ public enum ErrorCode {
 
     INVALID_PASSWORD(HttpStatus.UNAUTHORIZED, "유효하지 않은 비밀번호 입니다."),
 
-    BINDING_RESULT_ERROR(HttpStatus.BAD_REQUEST, "데이터 유효성에 문제가 있습니다.")
+    BINDING_RESULT_ERROR(HttpStatus.BAD_REQUEST, "데이터 유효성에 문제가 있습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
+    SEARCH_SORT_NOT_SUPPORTED(HttpStatus.BAD_REQUEST, "요청한 검색 조건에서는 해당 정렬을 지원하지 않습니다. 조건을 좁히거나 최신순으로 정렬하세요.")
     ;
 
     private final HttpStatus httpStatus;
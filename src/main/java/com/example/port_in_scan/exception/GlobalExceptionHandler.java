@@ -0,0 +1,34 @@
+package com.example.port_in_scan.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * AppException 중 아래 에러 코드만 ErrorCode 의 HTTP 상태와 {code, message} 본문으로 응답
+ * 그 외 에러 코드는 다시 던져서 기존과 같은 기본 오류 응답(500)을 유지 (기존 API 응답 형식을 바꾸지 않음)
+ */
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    private static final Set<ErrorCode> HANDLED_ERROR_CODES = EnumSet.of(
+            ErrorCode.INVALID_CURSOR,
+            ErrorCode.SEARCH_SORT_NOT_SUPPORTED);
+
+    @ExceptionHandler(AppException.class)
+    public ResponseEntity<Map<String, String>> handleAppException(AppException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        if (!HANDLED_ERROR_CODES.contains(errorCode)) {
+            throw e;
+        }
+        log.debug("요청 처리 실패: {} {}", errorCode, e.getMessage());
+        return ResponseEntity.status(errorCode.getHttpStatus())
+                .body(Map.of("code", errorCode.name(), "message", e.getMessage()));
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.port_in_scan.global;
+
+import java.time.Instant;
+
+// 검증된 JWT 에서 꺼낸 클레임 (한 번의 검증으로 필요한 값을 모두 사용)
+public record JwtClaims(String subject, String email, String role, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
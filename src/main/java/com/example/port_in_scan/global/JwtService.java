@@ -1,20 +1,28 @@
 package com.example.port_in_scan.global;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
-import com.example.port_in_scan.domain.member.repository.UserRepository;
-import com.example.port_in_scan.exception.AppException;
-import com.example.port_in_scan.exception.ErrorCode;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.port_in_scan.domain.member.auth.token.RefreshTokenStore;
+import com.example.port_in_scan.global.util.Hashes;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @RequiredArgsConstructor
 @Getter
@@ -37,6 +45,10 @@ public class JwtService {
     @Value("${jwt.refresh.header}")
     private String refreshHeader;
 
+    // 검증된 AccessToken 캐시 최대 개수 (0 이면 캐시 사용 안 함)
+    @Value("${jwt.access.cache-size:10000}")
+    private int accessTokenCacheSize;
+
     /**
      * JWT의 Subject와 Claim으로 email 사용 -> 클레임의 name을 "id"으로 설정
      * JWT의 헤더에 들어오는 값 : 'Authorization(Key) = Bearer {토큰} (Value)' 형식
@@ -46,7 +58,24 @@ public class JwtService {
     private static final String EMAIL_CLAIM = "email";
     private static final String ROLE_CLAIM = "role";
     private static final String BEARER = "Bearer ";
-    private final UserRepository userRepository;
+    private final RefreshTokenStore refreshTokenStore;
+
+    /*
+     * Algorithm 과 JWTVerifier 는 스레드 안전하므로 시작 시 한 번만 생성해서 재사용
+     * 검증된 AccessToken 은 토큰의 SHA-256 해시를 키로 만료 시각까지 캐시 (같은 토큰 재요청 시 서명 검증/디코딩 생략)
+     */
+    @Getter(AccessLevel.NONE)
+    private Algorithm algorithm;
+    @Getter(AccessLevel.NONE)
+    private JWTVerifier verifier;
+    @Getter(AccessLevel.NONE)
+    private final Map<String, JwtClaims> verifiedAccessTokens = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void initVerifier() {
+        algorithm = Algorithm.HMAC512(secretKey);
+        verifier = JWT.require(algorithm).build();
+    }
 
     // AccessToken 생성
     public String createAccessToken(String id, String role) {
@@ -56,19 +85,21 @@ public class JwtService {
                 .withExpiresAt(new Date(now.getTime() + accessTokenExpirationPeriod))
                 .withClaim(EMAIL_CLAIM, id)
                 .withClaim(ROLE_CLAIM, role)
-                .sign(Algorithm.HMAC512(secretKey));
+                .sign(algorithm);
     }
 
     /*
      * RefreshToken 생성
      * RefreshToken은 Claim에 email도 넣지 않으므로 withClaim() X
+     * 저장소가 토큰 해시를 키로 쓰므로 같은 초에 발급된 토큰끼리 겹치지 않도록 무작위 jti 를 넣음
      */
     public String createRefreshToken() {
         Date now = new Date();
         return JWT.create()
                 .withSubject(REFRESH_TOKEN_SUBJECT)
+                .withJWTId(UUID.randomUUID().toString())
                 .withExpiresAt(new Date(now.getTime() + refreshTokenExpirationPeriod))
-                .sign(Algorithm.HMAC512(secretKey));
+                .sign(algorithm);
     }
 
     //AccessToken 헤더에 실어서 보내기
@@ -107,33 +138,56 @@ public class JwtService {
     }
 
     /*
-     * AccessToken에서 id 추출
-     * 추출 전에 JWT.require()로 검증기 생성
-     * verify로 AceessToken 검증 후
-     * 유효하다면 getClaim()으로 이메일 추출
+     * 토큰을 한 번 검증하고 클레임을 모두 꺼내서 반환
      * 유효하지 않다면 빈 Optional 객체 반환
      */
-    public Optional<String> extractId(String accessToken) {
+    public Optional<JwtClaims> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Instant now = Instant.now();
+        String cacheKey = accessTokenCacheSize > 0 ? Hashes.sha256(token) : null;
+        if (cacheKey != null) {
+            JwtClaims cached = verifiedAccessTokens.get(cacheKey);
+            if (cached != null) {
+                if (!cached.isExpired(now)) {
+                    return Optional.of(cached);
+                }
+                verifiedAccessTokens.remove(cacheKey, cached);
+            }
+        }
+
         try {
-            // 토큰 유효성 검사하는 데에 사용할 알고리즘이 있는 JWT verifier builder 반환
-            return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secretKey))
-                    .build() // 반환된 빌더로 JWT verifier 생성
-                    .verify(accessToken) // accessToken을 검증하고 유효하지 않다면 예외 발생
-                    .getClaim(EMAIL_CLAIM) // claim(id) 가져오기
-                    .asString());
+            DecodedJWT decoded = verifier.verify(token); // 서명/만료 검증, 유효하지 않다면 예외 발생
+            JwtClaims claims = new JwtClaims(
+                    decoded.getSubject(),
+                    decoded.getClaim(EMAIL_CLAIM).asString(),
+                    decoded.getClaim(ROLE_CLAIM).asString(),
+                    decoded.getExpiresAtAsInstant());
+
+            if (cacheKey != null && ACCESS_TOKEN_SUBJECT.equals(claims.subject()) && claims.expiresAt() != null) {
+                cacheVerifiedAccessToken(cacheKey, claims, now);
+            }
+            return Optional.of(claims);
         } catch (Exception e) {
-            log.error("id 액세스 토큰이 유효하지 않습니다.");
+            log.error("유효하지 않은 토큰입니다. {}", e.getMessage());
             return Optional.empty();
         }
     }
 
     /*
-     * AccessToken에서 id 추출
-     * 추출 전에 JWT.require()로 검증기 생성
-     * verify로 AceessToken 검증 후
-     * 유효하다면 getClaim()으로 role 추출
-     * 유효하지 않다면 빈 Optional 객체 반환
+     * AccessToken 으로 발급된 토큰만 검증 (subject 가 AccessToken 이 아니면 빈 Optional 객체 반환)
+     * RefreshToken 도 같은 키로 서명하므로 인증에 쓰는 토큰은 verify() 대신 이 메소드로 검증
      */
+    public Optional<JwtClaims> verifyAccessToken(String accessToken) {
+        return verify(accessToken).filter(claims -> ACCESS_TOKEN_SUBJECT.equals(claims.subject()));
+    }
+
+    // AccessToken에서 id(email) 추출, 유효하지 않다면 빈 Optional 객체 반환
+    public Optional<String> extractId(String accessToken) {
+        return verifyAccessToken(accessToken).map(JwtClaims::email);
+    }
 
     // AccessToken 헤더 설정
     public void setAccessTokenHeader(HttpServletResponse response, String accessToken) {
@@ -145,23 +199,34 @@ public class JwtService {
         response.setHeader(refreshHeader, refreshToken);
     }
 
-    //RefreshToken DB 저장(업데이트)
+    // RefreshToken 저장 (RefreshToken 만료 기간 동안 유지)
     public void updateRefreshToken(String userId, String refreshToken) {
-        com.example.port_in_scan.domain.member.entity.User user = userRepository.findByEmail(userId)
-                .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND.getMessage(), ErrorCode.USER_NOT_FOUND));
+        refreshTokenStore.save(refreshToken, userId, Duration.ofMillis(refreshTokenExpirationPeriod));
+    }
+
+    // RefreshToken 으로 저장된 사용자 email 조회, 없거나 만료/폐기되었다면 빈 Optional 객체 반환
+    public Optional<String> findEmailByRefreshToken(String refreshToken) {
+        return refreshTokenStore.findEmail(refreshToken);
+    }
 
-        user.initRefreshToken(refreshToken);
-        userRepository.save(user); // 중요: 변경사항 저장!
+    // RefreshToken 폐기
+    public void revokeRefreshToken(String refreshToken) {
+        refreshTokenStore.delete(refreshToken);
     }
 
     // 토큰 유효성 확인
     public boolean isTokenValid(String token) {
-        try {
-            JWT.require(Algorithm.HMAC512(secretKey)).build().verify(token);
-            return true;
-        } catch (Exception e) {
-            log.error("유효하지 않은 토큰입니다. {}", e.getMessage());
-            return false;
+        return verify(token).isPresent();
+    }
+
+    // 캐시가 가득 차면 만료된 항목을 정리하고, 그래도 가득 차 있으면 캐시하지 않음
+    private void cacheVerifiedAccessToken(String cacheKey, JwtClaims claims, Instant now) {
+        if (verifiedAccessTokens.size() >= accessTokenCacheSize) {
+            verifiedAccessTokens.values().removeIf(cached -> cached.isExpired(now));
+            if (verifiedAccessTokens.size() >= accessTokenCacheSize) {
+                return;
+            }
         }
+        verifiedAccessTokens.put(cacheKey, claims);
     }
 }
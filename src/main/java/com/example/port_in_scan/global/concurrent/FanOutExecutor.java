@@ -0,0 +1,152 @@
+package com.example.port_in_scan.global.concurrent;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/*
+ * 요청 안에서 서로 독립적인 하위 작업을 가상 스레드로 동시에 실행
+ * StructuredTaskScope(Java 21 에서는 preview) 의 ShutdownOnFailure 와 같은 방식으로 사용
+ *
+ * try (FanOutExecutor.Scope scope = fanOutExecutor.open()) {
+ *     Supplier<A> a = scope.fork(...);
+ *     B b = ...; // 호출 스레드에서 실행
+ *     scope.join();
+ *     a.get();
+ * }
+ *
+ * - 작업 하나가 실패하면 그 즉시 나머지 작업을 취소(인터럽트)하고, join 은 처음 실패한 작업의 예외를 던짐
+ * - 호출 스레드의 작업이 실패해서 스코프를 닫을 때도 끝나지 않은 작업은 취소
+ * - fork 한 작업은 호출자의 트랜잭션/영속성 컨텍스트 밖에서 실행되므로 DB 를 쓰면 자체 트랜잭션(별도 커넥션)으로 실행
+ * - 동시에 실행 중인 fork 작업 수는 max-concurrent-tasks 로 제한하고, 넘으면 호출 스레드에서 바로 실행
+ *   (fork 작업마다 커넥션을 하나 더 쓰므로 커넥션 풀이 fork 작업으로 고갈되지 않도록 제한)
+ * - 가상 스레드 모드가 꺼져 있으면(spring.threads.virtual.enabled=false) fork 는 항상 호출 스레드에서 바로 실행
+ */
+@Component
+public class FanOutExecutor {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+
+    public FanOutExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled,
+                          @Value("${search.fan-out.max-concurrent-tasks:4}") int maxConcurrentTasks) {
+        this.executor = virtualThreadsEnabled && maxConcurrentTasks > 0
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fan-out-", 0).factory())
+                : null;
+        this.permits = new Semaphore(Math.max(maxConcurrentTasks, 0));
+    }
+
+    public Scope open() {
+        return new Scope();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public final class Scope implements AutoCloseable {
+
+        private final List<Future<?>> futures = new CopyOnWriteArrayList<>();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        private Scope() {
+        }
+
+        public <T> Supplier<T> fork(Supplier<T> task) {
+            if (executor == null || !permits.tryAcquire()) {
+                T result = task.get();
+                return () -> result;
+            }
+            Future<T> future;
+            try {
+                future = executor.submit(() -> {
+                    try {
+                        return task.get();
+                    } catch (RuntimeException | Error e) {
+                        fail(e);
+                        throw e;
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+            futures.add(future);
+            // 등록 전에 다른 작업이 이미 실패했으면 바로 취소
+            if (failure.get() != null) {
+                future.cancel(true);
+            }
+            return () -> await(future);
+        }
+
+        // 모든 작업이 끝날 때까지 대기 (실패한 작업이 있으면 나머지는 이미 취소되어 있음)
+        public void join() {
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (CancellationException | ExecutionException e) {
+                    break;
+                } catch (InterruptedException e) {
+                    cancelAll();
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("병렬 작업 대기 중 인터럽트되었습니다.", e);
+                }
+            }
+            Throwable cause = failure.get();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+        }
+
+        @Override
+        public void close() {
+            cancelAll();
+        }
+
+        private void fail(Throwable cause) {
+            failure.compareAndSet(null, cause);
+            cancelAll();
+        }
+
+        private void cancelAll() {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("병렬 작업 대기 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("병렬 작업 실행 실패", cause);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.port_in_scan.global.config;
+
+import com.example.port_in_scan.global.metrics.StatementCountingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/*
+ * 요청별 JDBC 문장 수 집계를 위해 DataSource 를 StatementCountingDataSource 로 감쌈
+ */
+@Configuration
+@ConditionalOnProperty(name = "metrics.jdbc.statement-count.enabled", havingValue = "true", matchIfMissing = true)
+public class JdbcMetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
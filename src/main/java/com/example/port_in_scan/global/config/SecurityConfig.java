@@ -5,13 +5,15 @@ import com.example.port_in_scan.domain.member.auth.handler.LoginFailureHandler;
 import com.example.port_in_scan.domain.member.auth.handler.LoginSuccessHandler;
 import com.example.port_in_scan.domain.member.auth.handler.LogoutSuccessCustomHandler;
 import com.example.port_in_scan.domain.member.auth.service.CustomUserDetailService;
-import com.example.port_in_scan.domain.member.repository.UserRepository;
+import com.example.port_in_scan.domain.member.service.UserCache;
 import com.example.port_in_scan.global.JwtService;
 import com.example.port_in_scan.global.filter.CustomUsernamePasswordAuthenticationFilter;
 import com.example.port_in_scan.global.filter.JwtAuthenticationFilter;
 import com.example.port_in_scan.global.filter.LoginFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.Filter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
@@ -38,8 +40,12 @@ public class SecurityConfig {
     private final ObjectMapper objectMapper;
     private final CustomUserDetailService customUserDetailService;
     private final JwtService jwtService;
-    private final UserRepository userRepository;
     private final LogoutSuccessCustomHandler logoutSuccessHandler;
+    private final UserCache userCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jwt.authentication.mode:CLAIMS}")
+    private JwtAuthenticationFilter.AuthenticationMode authenticationMode;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -54,6 +60,9 @@ public class SecurityConfig {
                         .requestMatchers("/test/**").permitAll()
                         .requestMatchers("/v1/**").hasRole("USER")
                         .requestMatchers("/v3/**").hasRole("ADMIN")
+                        // 헬스 체크만 공개하고 지표 엔드포인트는 관리자만 조회
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().permitAll())
                 // 로그아웃 설정
                 .logout((logout) -> logout
@@ -95,12 +104,12 @@ public class SecurityConfig {
 
     @Bean
     public LoginSuccessHandler loginSuccessHandler() {
-        return new LoginSuccessHandler(jwtService, userRepository);
+        return new LoginSuccessHandler(jwtService, userCache, meterRegistry);
     }
 
     @Bean
     public LoginFailureHandler loginFailureHandler() {
-        return new LoginFailureHandler();
+        return new LoginFailureHandler(meterRegistry);
     }
 
 
@@ -111,6 +120,6 @@ public class SecurityConfig {
 
     @Bean
     public Filter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtService, userRepository);
+        return new JwtAuthenticationFilter(jwtService, userCache, authenticationMode);
     }
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package com.example.port_in_scan.global.filter;
 
 import com.example.port_in_scan.domain.member.auth.entity.CustomUserDetails;
+import com.example.port_in_scan.domain.member.entity.Role;
 import com.example.port_in_scan.domain.member.entity.User;
-import com.example.port_in_scan.domain.member.repository.UserRepository;
+import com.example.port_in_scan.domain.member.service.UserCache;
+import com.example.port_in_scan.global.JwtClaims;
 import com.example.port_in_scan.global.JwtService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -25,8 +27,19 @@ import java.util.Optional;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String NO_CHECK_URL = "/login"; // "/login"으로 들어오는 요청은 Filter 작동 X
+
+    /*
+    액세스 토큰 인증 방식
+    CLAIMS: 검증된 토큰의 email, role 클레임으로 인증 (DB 조회 없음, 권한 변경은 토큰 만료 후 반영)
+    DATABASE: 클레임의 email 로 사용자 캐시(UserCache)를 거쳐 조회한 사용자로 인증
+     */
+    public enum AuthenticationMode {
+        CLAIMS, DATABASE
+    }
+
     private final JwtService jwtService;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final AuthenticationMode authenticationMode;
     private final GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
 
     @Override
@@ -58,35 +71,37 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     /*
     [리프레시 토큰으로 유저 정보 찾기 & 액세스 토큰/리프레시 토큰 재발급 메소드]
-    파라미터로 들어온 헤더에서 추출한 리프레시 토큰으로 DB 에서 유저를 찾고, 해당 유저가 있다면
-    JwtService.createAccessToken()으로 AccessToken 생성,
-    reIssueRefreshToken()로 리프레시 토큰 재발급 & DB에 리프레시 토큰 업데이트 메소드 호출
+    파라미터로 들어온 헤더에서 추출한 리프레시 토큰으로 리프레시 토큰 저장소에서 email 을 찾고,
+    사용자 캐시에서 해당 유저가 있다면 JwtService.createAccessToken()으로 AccessToken 생성,
+    reIssueRefreshToken()로 리프레시 토큰 재발급 & 저장소 갱신 메소드 호출
     그 후 JwtService.sendAccessTokenAndRefreshToken()으로 응답 헤더에 보내기
     */
     public void checkRefreshTokenAndReIssueAccessToken(HttpServletResponse response, String refreshToken) {
-        userRepository.findByRefreshToken(refreshToken)
+        jwtService.findEmailByRefreshToken(refreshToken)
+                .flatMap(userCache::findByEmail)
                 .ifPresent(user -> {
-//                    String reIssuedRefreshToken = reIssueRefreshToken(user);
+//                    String reIssuedRefreshToken = reIssueRefreshToken(refreshToken, user);
                     jwtService.sendAccessAndRefreshToken(response, jwtService.createAccessToken(user.getEmail(), user.getRole().getRoleName()));
                 });
     }
 
     /*
-    [리프레시 토큰 재발급 & DB에 리프레시 토큰 업데이트 메소드]
+    [리프레시 토큰 재발급 & 리프레시 토큰 저장소 갱신 메소드]
     jwtService.createRefreshToken()으로 리프레시 토큰 재발급 후
-    DB에 재발급한 리프레시 토큰 업데이트 후 Flush
+    기존 리프레시 토큰은 폐기하고 재발급한 리프레시 토큰 저장 (users 테이블은 갱신하지 않음)
     */
-    private String reIssueRefreshToken(User user) {
+    private String reIssueRefreshToken(String refreshToken, User user) {
         String reIssuedRefreshToken = jwtService.createRefreshToken();
-        user.initRefreshToken(reIssuedRefreshToken);
-        userRepository.saveAndFlush(user);
+        jwtService.revokeRefreshToken(refreshToken);
+        jwtService.updateRefreshToken(user.getEmail(), reIssuedRefreshToken);
         return reIssuedRefreshToken;
     }
 
     /*
     [액세스 토큰 체크 & 인증 처리 메소드]
-    request -> extractAccessToken()으로 액세스 토큰 추출 후, isTokenValid()로 유효한 토큰인지 검증
-    유효한 토큰이면, 액세스 토큰에서 extractId로 Id을 추출한 후 findByUserId()로 해당 id를 사용하는 유저 객체 반환
+    request -> extractAccessToken()으로 액세스 토큰 추출 후, verifyAccessToken()으로 한 번만 검증하고 클레임 추출
+    (RefreshToken 을 Authorization 헤더로 보내도 인증되지 않음)
+    유효한 토큰이면, toUser()로 인증 방식에 맞는 유저 객체 반환
     그 유저 객체를 saveAuthentication()으로 인증 처리하여
     인증 허가 처리된 객체를 SecurityContextHolder  담기
     그 후 다음 인증 필터로 진행
@@ -95,15 +110,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                                   FilterChain filterChain) throws ServletException, IOException {
 
         Optional<User> user = jwtService.extractAccessToken(request)
-                .filter(jwtService::isTokenValid)
-                .flatMap(jwtService::extractId)
-                .flatMap(userRepository::findByEmail);
+                .flatMap(jwtService::verifyAccessToken)
+                .flatMap(this::toUser);
 
-        user.ifPresent(this::saveAuthentication);;
+        user.ifPresent(this::saveAuthentication);
 
         filterChain.doFilter(request, response);
     }
 
+    /*
+    CLAIMS 모드는 클레임으로 인증용 User 를 만들고(영속 엔티티 아님), role 클레임이 없거나 알 수 없는 값이면 캐시 조회로 대체
+    DATABASE 모드는 항상 캐시 조회
+    */
+    private Optional<User> toUser(JwtClaims claims) {
+        if (authenticationMode == AuthenticationMode.CLAIMS && claims.email() != null) {
+            Optional<Role> role = Role.fromRoleName(claims.role());
+            if (role.isPresent()) {
+                return Optional.of(User.builder()
+                        .email(claims.email())
+                        .role(role.get())
+                        .build());
+            }
+        }
+        return userCache.findByEmail(claims.email());
+    }
+
     /*
     UserDetails 의 User Builder 생성 후 해당 객체를 인증 처리하여
     해당 유저 객체를 SecurityContextHolder 에 담아 인증 처리를 진행
@@ -0,0 +1,33 @@
+package com.example.port_in_scan.global.metrics;
+
+/*
+ * 현재 스레드(요청)에서 만든 JDBC 문장 수
+ * JdbcStatementCountFilter 가 요청 시작 시 start, 종료 시 stop 하고,
+ * 그 사이 StatementCountingDataSource 의 커넥션이 문장을 만들 때마다 increment
+ * (비동기/배치 스레드와 검색 병렬 작업(FanOutExecutor) 스레드의 문장은 세지 않음)
+ */
+public final class JdbcStatementCounter {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    private JdbcStatementCounter() {
+    }
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    static void increment() {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+
+    // 시작 이후 문장 수를 반환하고 집계 종료
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+}
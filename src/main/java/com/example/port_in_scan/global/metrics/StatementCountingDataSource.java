@@ -0,0 +1,51 @@
+package com.example.port_in_scan.global.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+
+/*
+ * 커넥션에서 문장을 만들 때마다 JdbcStatementCounter 를 증가시키는 DataSource
+ * JPA(Hibernate) 와 JdbcTemplate 이 모두 같은 DataSource 를 쓰므로 두 경로의 문장을 함께 셈
+ * (배치 실행은 prepareStatement 한 번으로 셈)
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> STATEMENT_METHODS = Set.of("prepareStatement", "prepareCall", "createStatement");
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return counting(super.getConnection(username, password));
+    }
+
+    private static Connection counting(Connection target) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> invoke(target, method, args));
+    }
+
+    private static Object invoke(Connection target, Method method, Object[] args) throws Throwable {
+        if (STATEMENT_METHODS.contains(method.getName())) {
+            JdbcStatementCounter.increment();
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
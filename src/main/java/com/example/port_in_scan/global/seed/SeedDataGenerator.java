@@ -0,0 +1,290 @@
+package com.example.port_in_scan.global.seed;
+
+import com.example.port_in_scan.domain.member.entity.Role;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioCategory;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioStatus;
+import com.example.port_in_scan.domain.search.entity.SearchType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/*
+ * 로컬 부하 테스트용 시드 데이터 생성 (seed 프로파일)
+ * users, portfolios(+ portfolio_tech_stacks, portfolio_tags), search_histories, popular_searches 를 JDBC 배치로 채움
+ * - 검색어, 태그, 기술 스택, 조회 대상 도메인 단어는 Zipf 분포 (SeedVocabulary 순서가 인기 순위)
+ * - 조회수는 꼬리가 긴 파레토 분포, 좋아요 수는 조회수에 비례
+ * - 검색 히스토리는 사용자 세션 단위로 몇 초 간격의 연속 검색을 만들어 연관 검색어 동시 출현이 생기도록 함
+ * - 같은 seed.random-seed 면 같은 데이터가 생성됨
+ * 러너가 ApplicationReadyEvent 보다 먼저 실행되므로 역색인/자동완성/랭킹은 시작 시 생성된 데이터로 구성됨
+ * 포트폴리오가 이미 있으면 건너뜀 (생성 중에는 다른 쓰기가 없다고 가정하고 ID 를 삽입 순서로 조회)
+ */
+@Slf4j
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+public class SeedDataGenerator implements ApplicationRunner {
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (email, username, password, role) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_PORTFOLIO_SQL =
+            "INSERT INTO portfolios (title, description, github_url, category, status, view_count, like_count, " +
+                    "user_idx, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_TECH_STACK_SQL =
+            "INSERT INTO portfolio_tech_stacks (portfolio_id, tech_stack) VALUES (?, ?)";
+    private static final String INSERT_TAG_SQL =
+            "INSERT INTO portfolio_tags (portfolio_id, tag) VALUES (?, ?)";
+    private static final String INSERT_SEARCH_HISTORY_SQL =
+            "INSERT INTO search_histories (keyword, search_type, result_count, user_idx, searched_at, ip_address) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_POPULAR_SEARCH_SQL =
+            "INSERT INTO popular_searches (keyword, search_count, last_searched_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${seed.portfolios:10000}")
+    private int portfolioCount;
+
+    // 0 이면 포트폴리오 10개당 1명
+    @Value("${seed.users:0}")
+    private int userCount;
+
+    // 0 이면 포트폴리오 수의 2배
+    @Value("${seed.search-histories:0}")
+    private int searchHistoryCount;
+
+    @Value("${seed.portfolio-days:365}")
+    private int portfolioDays;
+
+    @Value("${seed.history-days:30}")
+    private int historyDays;
+
+    @Value("${seed.zipf-exponent:1.1}")
+    private double zipfExponent;
+
+    @Value("${seed.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${seed.random-seed:42}")
+    private long randomSeed;
+
+    // 모든 시드 사용자의 비밀번호 (부하 테스트 로그인에 사용)
+    @Value("${seed.password:seed-password}")
+    private String password;
+
+    private SplittableRandom random;
+    private ZipfSampler domainSampler;
+    private ZipfSampler techStackSampler;
+    private ZipfSampler tagSampler;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM portfolios", Long.class);
+        if (existing != null && existing > 0) {
+            log.info("포트폴리오 {}건이 이미 있어 시드 데이터 생성을 건너뜀", existing);
+            return;
+        }
+
+        random = new SplittableRandom(randomSeed);
+        domainSampler = new ZipfSampler(SeedVocabulary.DOMAIN_WORDS.size(), zipfExponent);
+        techStackSampler = new ZipfSampler(SeedVocabulary.TECH_STACKS.size(), zipfExponent);
+        tagSampler = new ZipfSampler(SeedVocabulary.TAGS.size(), zipfExponent);
+
+        int users = userCount > 0 ? userCount : Math.max(1, portfolioCount / 10);
+        int histories = searchHistoryCount > 0 ? searchHistoryCount : portfolioCount * 2;
+
+        long startTime = System.currentTimeMillis();
+        List<Long> userIds = insertUsers(users);
+        log.info("시드 사용자 {}명 생성", userIds.size());
+        insertPortfolios(userIds);
+        log.info("시드 포트폴리오 {}건 생성", portfolioCount);
+        Map<String, Long> keywordCounts = insertSearchHistories(userIds, histories);
+        insertPopularSearches(keywordCounts);
+        log.info("시드 검색 히스토리 {}건, 인기 검색어 {}건 생성 ({}ms)",
+                histories, keywordCounts.size(), System.currentTimeMillis() - startTime);
+    }
+
+    // 비밀번호는 한 번만 인코딩해서 모든 사용자가 공유 (사용자마다 BCrypt 를 돌리면 생성이 너무 느림)
+    private List<Long> insertUsers(int count) {
+        long lastId = maxId("users", "idx");
+        String encodedPassword = passwordEncoder.encode(password);
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{SeedVocabulary.email(i), "seed" + i, encodedPassword, Role.USER.name()});
+            if (rows.size() == batchSize) {
+                jdbcTemplate.batchUpdate(INSERT_USER_SQL, rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_USER_SQL, rows);
+        }
+        return jdbcTemplate.queryForList("SELECT idx FROM users WHERE idx > ? ORDER BY idx", Long.class, lastId);
+    }
+
+    // 생성일은 portfolio-days 기간에 고르게 분포 (ID 순서와 생성일 순서가 대체로 일치)
+    private void insertPortfolios(List<Long> userIds) {
+        PortfolioCategory[] categories = PortfolioCategory.values();
+        LocalDateTime start = LocalDateTime.now().minusDays(portfolioDays);
+        long stepMillis = Duration.ofDays(portfolioDays).toMillis() / Math.max(1, portfolioCount);
+
+        List<SeedPortfolio> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < portfolioCount; i++) {
+            String domainWord = SeedVocabulary.pick(SeedVocabulary.DOMAIN_WORDS, domainSampler, random);
+            List<String> techStacks = distinct(SeedVocabulary.TECH_STACKS, techStackSampler, 1 + random.nextInt(4));
+            List<String> tags = distinct(SeedVocabulary.TAGS, tagSampler, 1 + random.nextInt(3));
+            long viewCount = paretoCount();
+            LocalDateTime createdAt = start.plus(Duration.ofMillis(i * stepMillis + random.nextLong(Math.max(1, stepMillis))));
+            batch.add(new SeedPortfolio(
+                    domainWord + " 프로젝트 " + i,
+                    String.join(", ", techStacks) + " 로 구현한 " + domainWord + " 서비스",
+                    "https://github.com/seed" + i,
+                    categories[random.nextInt(categories.length)],
+                    status(),
+                    viewCount,
+                    (long) (viewCount * random.nextDouble(0.1)),
+                    userIds.get(random.nextInt(userIds.size())),
+                    createdAt,
+                    techStacks,
+                    tags));
+            if (batch.size() == batchSize) {
+                flushPortfolios(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            flushPortfolios(batch);
+        }
+    }
+
+    private void flushPortfolios(List<SeedPortfolio> batch) {
+        long lastId = maxId("portfolios", "portfolio_id");
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (SeedPortfolio portfolio : batch) {
+            Timestamp createdAt = Timestamp.valueOf(portfolio.createdAt());
+            rows.add(new Object[]{portfolio.title(), portfolio.description(), portfolio.githubUrl(),
+                    portfolio.category().name(), portfolio.status().name(), portfolio.viewCount(),
+                    portfolio.likeCount(), portfolio.userIdx(), createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate(INSERT_PORTFOLIO_SQL, rows);
+
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT portfolio_id FROM portfolios WHERE portfolio_id > ? ORDER BY portfolio_id", Long.class, lastId);
+        List<Object[]> techStackRows = new ArrayList<>();
+        List<Object[]> tagRows = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Long portfolioId = ids.get(i);
+            batch.get(i).techStacks().forEach(techStack -> techStackRows.add(new Object[]{portfolioId, techStack}));
+            batch.get(i).tags().forEach(tag -> tagRows.add(new Object[]{portfolioId, tag}));
+        }
+        jdbcTemplate.batchUpdate(INSERT_TECH_STACK_SQL, techStackRows);
+        jdbcTemplate.batchUpdate(INSERT_TAG_SQL, tagRows);
+    }
+
+    /*
+     * 세션 하나는 같은 사용자(비로그인 포함)가 몇 초 간격으로 1~4번 검색
+     * 첫 검색어는 Zipf 로 뽑고, 이어지는 검색은 같은 도메인 단어에 기술 스택을 붙이거나 태그/기술 스택으로 좁힘
+     */
+    private Map<String, Long> insertSearchHistories(List<Long> userIds, int count) {
+        List<String> keywords = SeedVocabulary.keywords(randomSeed);
+        ZipfSampler keywordSampler = new ZipfSampler(keywords.size(), zipfExponent);
+        LocalDateTime start = LocalDateTime.now().minusDays(historyDays);
+        long rangeSeconds = Duration.ofDays(historyDays).toSeconds();
+
+        Map<String, Long> keywordCounts = new HashMap<>();
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        int inserted = 0;
+        while (inserted < count) {
+            Long userIdx = random.nextInt(10) < 3 ? null : userIds.get(random.nextInt(userIds.size()));
+            String ipAddress = "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(1, 255);
+            LocalDateTime searchedAt = start.plusSeconds(random.nextLong(rangeSeconds));
+            String domainWord = SeedVocabulary.pick(SeedVocabulary.DOMAIN_WORDS, domainSampler, random);
+            int sessionLength = Math.min(1 + random.nextInt(4), count - inserted);
+
+            for (int step = 0; step < sessionLength; step++) {
+                SearchType searchType = SearchType.KEYWORD;
+                String keyword;
+                if (step == 0) {
+                    keyword = SeedVocabulary.pick(keywords, keywordSampler, random);
+                } else if (random.nextBoolean()) {
+                    keyword = domainWord + " " + SeedVocabulary.pick(SeedVocabulary.TECH_STACKS, techStackSampler, random);
+                } else if (random.nextBoolean()) {
+                    keyword = SeedVocabulary.pick(SeedVocabulary.TAGS, tagSampler, random);
+                    searchType = SearchType.TAG;
+                } else {
+                    keyword = SeedVocabulary.pick(SeedVocabulary.TECH_STACKS, techStackSampler, random);
+                    searchType = SearchType.TECH_STACK;
+                }
+                keywordCounts.merge(keyword, 1L, Long::sum);
+                rows.add(new Object[]{keyword, searchType.name(), (long) random.nextInt(200), userIdx,
+                        Timestamp.valueOf(searchedAt), ipAddress});
+                searchedAt = searchedAt.plusSeconds(2 + random.nextInt(30));
+                inserted++;
+            }
+            if (rows.size() >= batchSize) {
+                jdbcTemplate.batchUpdate(INSERT_SEARCH_HISTORY_SQL, rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SEARCH_HISTORY_SQL, rows);
+        }
+        return keywordCounts;
+    }
+
+    // 인기 검색어는 생성한 히스토리의 검색어별 횟수와 일치시킴
+    private void insertPopularSearches(Map<String, Long> keywordCounts) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(keywordCounts.size());
+        keywordCounts.forEach((keyword, searchCount) -> rows.add(new Object[]{keyword, searchCount, now}));
+        jdbcTemplate.batchUpdate(INSERT_POPULAR_SEARCH_SQL, rows);
+    }
+
+    private List<String> distinct(List<String> values, ZipfSampler sampler, int count) {
+        Set<String> picked = new LinkedHashSet<>();
+        for (int attempt = 0; picked.size() < count && attempt < count * 10; attempt++) {
+            picked.add(SeedVocabulary.pick(values, sampler, random));
+        }
+        return new ArrayList<>(picked);
+    }
+
+    // 파레토 분포(alpha 1.2) 조회수: 대부분 수십 이하, 일부가 수만 이상
+    private long paretoCount() {
+        return (long) (10 / Math.pow(1 - random.nextDouble(), 1 / 1.2)) - 10;
+    }
+
+    private PortfolioStatus status() {
+        int roll = random.nextInt(100);
+        if (roll < 95) {
+            return PortfolioStatus.ACTIVE;
+        }
+        return roll < 98 ? PortfolioStatus.DRAFT : PortfolioStatus.DELETED;
+    }
+
+    private long maxId(String table, String idColumn) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+
+    private record SeedPortfolio(String title, String description, String githubUrl, PortfolioCategory category,
+                                 PortfolioStatus status, long viewCount, long likeCount, Long userIdx,
+                                 LocalDateTime createdAt, List<String> techStacks, List<String> tags) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.port_in_scan.global.seed;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+/*
+ * 시드 데이터와 부하 테스트가 함께 쓰는 단어 목록
+ * 목록 순서가 곧 Zipf 순위이므로 앞쪽 단어일수록 자주 등장
+ */
+public final class SeedVocabulary {
+
+    public static final List<String> DOMAIN_WORDS = List.of(
+            "쇼핑몰", "블로그", "채팅", "게시판", "대시보드", "검색엔진", "포트폴리오", "커뮤니티", "예약", "스케줄러",
+            "날씨", "가계부", "메신저", "지도", "배달", "중고거래", "스트리밍", "뉴스", "레시피", "여행",
+            "헬스케어", "학습관리", "투두리스트", "설문조사", "음악", "사진", "주식", "부동산", "채용", "이력서");
+
+    public static final List<String> TECH_STACKS = List.of(
+            "Spring", "React", "Java", "TypeScript", "Python", "Node.js", "Redis", "PostgreSQL", "Docker", "AWS",
+            "Kotlin", "Vue", "Next.js", "MySQL", "Django", "Flutter", "Kubernetes", "Go", "Kafka", "Elasticsearch",
+            "Swift", "FastAPI", "MongoDB", "GraphQL", "NestJS", "Svelte", "Rust", "TensorFlow", "PyTorch", "Unity");
+
+    public static final List<String> TAGS = List.of(
+            "사이드프로젝트", "팀프로젝트", "토이프로젝트", "졸업작품", "해커톤", "오픈소스", "포트폴리오", "실시간", "성능개선",
+            "리팩토링", "MSA", "검색", "추천", "결제", "인증", "테스트", "CI/CD", "모니터링", "반응형", "접근성",
+            "크롤링", "챗봇", "데이터시각화", "웹소켓", "캐시");
+
+    private SeedVocabulary() {
+    }
+
+    /*
+     * 검색어 목록 (도메인 단어, 기술 스택, "도메인 기술" 조합)
+     * 같은 randomSeed 면 항상 같은 순서로 섞이므로 시드 데이터와 부하 테스트의 인기 검색어가 일치
+     */
+    public static List<String> keywords(long randomSeed) {
+        List<String> keywords = new ArrayList<>(DOMAIN_WORDS);
+        keywords.addAll(TECH_STACKS);
+        Collections.shuffle(keywords, new Random(randomSeed));
+
+        List<String> combinations = new ArrayList<>();
+        for (String domainWord : DOMAIN_WORDS) {
+            for (String techStack : TECH_STACKS) {
+                combinations.add(domainWord + " " + techStack);
+            }
+        }
+        Collections.shuffle(combinations, new Random(randomSeed + 1));
+        keywords.addAll(combinations);
+        return keywords;
+    }
+
+    // 시드 사용자 이메일 (부하 테스트 로그인에 사용)
+    public static String email(int index) {
+        return "seed" + index + "@example.com";
+    }
+
+    public static <T> T pick(List<T> values, ZipfSampler sampler, RandomGenerator random) {
+        return values.get(sampler.sample(random));
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.port_in_scan.global.seed;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/*
+ * Zipf 분포 표본 추출 (순위 k 의 확률이 1 / k^exponent 에 비례)
+ * 누적 분포를 미리 계산해 두고 이진 탐색으로 0 부터 size - 1 사이의 순위를 반환
+ */
+public final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    public ZipfSampler(int size, double exponent) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size 는 1 이상이어야 합니다: " + size);
+        }
+        cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= sum;
+        }
+    }
+
+    public int size() {
+        return cumulative.length;
+    }
+
+    public int sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return Math.min(index, cumulative.length - 1);
+    }
+}
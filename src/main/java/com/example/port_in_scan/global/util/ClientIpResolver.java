@@ -0,0 +1,31 @@
+package com.example.port_in_scan.global.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/*
+ * 요청한 클라이언트 IP 추출
+ * X-Forwarded-For 의 첫 번째 주소 -> X-Real-IP -> 접속 주소 순으로 사용
+ */
+public final class ClientIpResolver {
+
+    private ClientIpResolver() {
+    }
+
+    public static String resolve(HttpServletRequest request) {
+        return resolve(request.getHeader("X-Forwarded-For"), request.getHeader("X-Real-IP"), request.getRemoteAddr());
+    }
+
+    public static String resolve(String xForwardedFor, String xRealIp, String remoteAddr) {
+        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
+            // 전체 split 없이 첫 번째 쉼표 앞까지만 사용
+            int comma = xForwardedFor.indexOf(',');
+            return (comma >= 0 ? xForwardedFor.substring(0, comma) : xForwardedFor).trim();
+        }
+
+        if (xRealIp != null && !xRealIp.isEmpty()) {
+            return xRealIp;
+        }
+
+        return remoteAddr;
+    }
+}
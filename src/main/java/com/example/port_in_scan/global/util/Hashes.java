@@ -0,0 +1,26 @@
+package com.example.port_in_scan.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/*
+ * 토큰/캐시 키 해시 (SHA-256, URL-safe Base64 패딩 없음)
+ * 원본 토큰을 저장하지 않거나 긴 키를 고정 길이로 줄일 때 사용
+ * Redis 에 저장된 리프레시 토큰 키가 이 형식이므로 인코딩을 바꾸면 기존 토큰을 찾지 못함
+ */
+public final class Hashes {
+
+    private Hashes() {
+    }
+
+    public static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
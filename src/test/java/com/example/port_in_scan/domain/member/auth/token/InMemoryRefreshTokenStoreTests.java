@@ -0,0 +1,63 @@
+package com.example.port_in_scan.domain.member.auth.token;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRefreshTokenStoreTests {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore();
+
+    @Test
+    void tokensOfDifferentUsersResolveToTheirOwner() {
+        store.save("token-a", "a@test.com", TTL);
+        store.save("token-b", "b@test.com", TTL);
+
+        assertThat(store.findEmail("token-a")).contains("a@test.com");
+        assertThat(store.findEmail("token-b")).contains("b@test.com");
+
+        store.delete("token-b");
+
+        assertThat(store.findEmail("token-a")).contains("a@test.com");
+        assertThat(store.findEmail("token-b")).isEmpty();
+    }
+
+    @Test
+    void userCanHoldSeveralSessions() {
+        store.save("laptop", "a@test.com", TTL);
+        store.save("phone", "a@test.com", TTL);
+
+        store.delete("laptop");
+
+        assertThat(store.findEmail("laptop")).isEmpty();
+        assertThat(store.findEmail("phone")).contains("a@test.com");
+    }
+
+    @Test
+    void expiredTokenIsNotFound() throws InterruptedException {
+        store.save("short", "a@test.com", Duration.ofMillis(20));
+        store.save("long", "a@test.com", TTL);
+
+        Thread.sleep(50);
+
+        assertThat(store.findEmail("short")).isEmpty();
+        assertThat(store.findEmail("long")).contains("a@test.com");
+    }
+
+    @Test
+    void deleteAllRevokesOnlyThatUser() {
+        store.save("laptop", "a@test.com", TTL);
+        store.save("phone", "a@test.com", TTL);
+        store.save("other", "b@test.com", TTL);
+
+        store.deleteAll("a@test.com");
+
+        assertThat(store.findEmail("laptop")).isEmpty();
+        assertThat(store.findEmail("phone")).isEmpty();
+        assertThat(store.findEmail("other")).contains("b@test.com");
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.port_in_scan.domain.member.auth.token;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RedisRefreshTokenStoreTests {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7.4-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisRefreshTokenStore store;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+        store = new RedisRefreshTokenStore(redisTemplate);
+    }
+
+    @Test
+    void tokensOfDifferentUsersResolveToTheirOwner() {
+        store.save("token-a", "a@test.com", TTL);
+        store.save("token-b", "b@test.com", TTL);
+
+        assertThat(store.findEmail("token-a")).contains("a@test.com");
+        assertThat(store.findEmail("token-b")).contains("b@test.com");
+
+        store.delete("token-b");
+
+        assertThat(store.findEmail("token-a")).contains("a@test.com");
+        assertThat(store.findEmail("token-b")).isEmpty();
+    }
+
+    @Test
+    void userCanHoldSeveralSessions() {
+        store.save("laptop", "a@test.com", TTL);
+        store.save("phone", "a@test.com", TTL);
+
+        store.delete("laptop");
+
+        assertThat(store.findEmail("laptop")).isEmpty();
+        assertThat(store.findEmail("phone")).contains("a@test.com");
+        assertThat(redisTemplate.opsForSet().size("refresh-token:user:a@test.com")).isEqualTo(1L);
+    }
+
+    @Test
+    void expiredTokenIsNotFound() throws InterruptedException {
+        store.save("short", "a@test.com", Duration.ofMillis(200));
+        store.save("long", "b@test.com", TTL);
+
+        Thread.sleep(500);
+
+        assertThat(store.findEmail("short")).isEmpty();
+        assertThat(store.findEmail("long")).contains("b@test.com");
+    }
+
+    @Test
+    void deleteAllRevokesOnlyThatUser() {
+        store.save("laptop", "a@test.com", TTL);
+        store.save("phone", "a@test.com", TTL);
+        store.save("other", "b@test.com", TTL);
+
+        store.deleteAll("a@test.com");
+
+        assertThat(store.findEmail("laptop")).isEmpty();
+        assertThat(store.findEmail("phone")).isEmpty();
+        assertThat(store.findEmail("other")).contains("b@test.com");
+        assertThat(redisTemplate.hasKey("refresh-token:user:a@test.com")).isFalse();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.port_in_scan.domain.member.service;
+
+import com.example.port_in_scan.domain.member.entity.Role;
+import com.example.port_in_scan.domain.member.entity.User;
+import com.example.port_in_scan.domain.member.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UserCacheTests {
+
+    private static final String EMAIL = "cache-evict@test.com";
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+        userCache.evict(EMAIL);
+    }
+
+    @Test
+    void roleChangeEvictsCachedUserAfterCommit() {
+        userRepository.save(User.builder()
+                .email(EMAIL)
+                .username("cache-evict")
+                .password("password")
+                .role(Role.USER)
+                .build());
+        User cached = userCache.findByEmail(EMAIL).orElseThrow();
+        assertThat(userCache.findByEmail(EMAIL)).containsSame(cached);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findByEmail(EMAIL).orElseThrow();
+            ReflectionTestUtils.setField(user, "role", Role.ADMIN);
+        });
+
+        // @PostUpdate 리스너가 캐시를 비웠으므로 변경된 권한으로 다시 조회
+        User reloaded = userCache.findByEmail(EMAIL).orElseThrow();
+        assertThat(reloaded).isNotSameAs(cached);
+        assertThat(reloaded.getRole()).isEqualTo(Role.ADMIN);
+    }
+}
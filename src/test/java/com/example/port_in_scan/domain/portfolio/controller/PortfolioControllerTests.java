@@ -0,0 +1,50 @@
+package com.example.port_in_scan.domain.portfolio.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "USER")
+class PortfolioControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void firstCursorPageIsReturned() throws Exception {
+        mockMvc.perform(get("/v1/portfolios/cursor").param("sort", "POPULAR"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void tamperedCursorIsBadRequest() throws Exception {
+        mockMvc.perform(get("/v1/portfolios/popular/cursor").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_CURSOR"));
+    }
+
+    @Test
+    void cursorFromAnotherSortIsBadRequest() throws Exception {
+        // LATEST 커서를 MOST_LIKED 목록에 전달
+        String latestCursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("LATEST|2025-03-01T12:30:15|42".getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(get("/v1/portfolios/most-liked/cursor").param("cursor", latestCursor))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_CURSOR"));
+    }
+}
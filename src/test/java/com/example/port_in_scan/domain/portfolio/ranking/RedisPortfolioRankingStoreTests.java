@@ -0,0 +1,123 @@
+package com.example.port_in_scan.domain.portfolio.ranking;
+
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioCategory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RedisPortfolioRankingStoreTests {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7.4-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisPortfolioRankingStore store;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+        store = new RedisPortfolioRankingStore(redisTemplate);
+    }
+
+    @Test
+    void categoryChangeMovesPortfolioBetweenCategorySets() {
+        store.putAll(List.of(entry(1L, PortfolioCategory.WEB, 10), entry(2L, PortfolioCategory.WEB, 20)));
+        store.put(entry(1L, PortfolioCategory.BACKEND, 30));
+
+        assertThat(store.range(PortfolioRanking.VIEWS, null, 0, 10)).containsExactly(1L, 2L);
+        assertThat(store.range(PortfolioRanking.VIEWS, PortfolioCategory.WEB, 0, 10)).containsExactly(2L);
+        assertThat(store.range(PortfolioRanking.VIEWS, PortfolioCategory.BACKEND, 0, 10)).containsExactly(1L);
+    }
+
+    @Test
+    void incrementUpdatesOverallAndCategorySetsOfStoredPortfolios() {
+        store.putAll(List.of(entry(1L, PortfolioCategory.WEB, 10), entry(2L, PortfolioCategory.WEB, 20)));
+
+        store.increment(PortfolioRanking.VIEWS, Map.of(1L, 15L, 3L, 100L));
+
+        assertThat(store.range(PortfolioRanking.VIEWS, null, 0, 10)).containsExactly(1L, 2L);
+        assertThat(store.range(PortfolioRanking.VIEWS, PortfolioCategory.WEB, 0, 10)).containsExactly(1L, 2L);
+        // 저장소에 없는 포트폴리오는 증가분으로 추가되지 않음
+        assertThat(store.size(PortfolioRanking.VIEWS, null)).isEqualTo(2);
+    }
+
+    @Test
+    void removeDeletesFromEveryRankingAndCategory() {
+        store.putAll(List.of(entry(1L, PortfolioCategory.GAME, 10), entry(2L, null, 20)));
+
+        store.remove(1L);
+
+        for (PortfolioRanking ranking : PortfolioRanking.values()) {
+            assertThat(store.range(ranking, null, 0, 10)).containsExactly(2L);
+            assertThat(store.size(ranking, PortfolioCategory.GAME)).isZero();
+        }
+    }
+
+    @Test
+    void replaceAllSwapsInRebuiltSetsAndMarksBuilt() {
+        store.put(entry(9L, PortfolioCategory.WEB, 99));
+        assertThat(store.isBuilt()).isFalse();
+
+        store.replaceAll(consumer -> {
+            consumer.accept(List.of(entry(1L, PortfolioCategory.WEB, 10)));
+            consumer.accept(List.of(entry(2L, PortfolioCategory.MOBILE, 20)));
+        });
+
+        assertThat(store.isBuilt()).isTrue();
+        assertThat(store.range(PortfolioRanking.VIEWS, null, 0, 10)).containsExactly(2L, 1L);
+        assertThat(store.range(PortfolioRanking.VIEWS, PortfolioCategory.WEB, 0, 10)).containsExactly(1L);
+        assertThat(store.range(PortfolioRanking.VIEWS, PortfolioCategory.MOBILE, 0, 10)).containsExactly(2L);
+    }
+
+    @Test
+    void onlyOneNodeHoldsRebuildLease() {
+        RedisPortfolioRankingStore otherNode = new RedisPortfolioRankingStore(redisTemplate);
+
+        assertThat(store.tryAcquireRebuildLease(Duration.ofMinutes(1))).isTrue();
+        assertThat(otherNode.tryAcquireRebuildLease(Duration.ofMinutes(1))).isFalse();
+
+        // 다른 서버의 임대는 해제하지 못함
+        otherNode.releaseRebuildLease();
+        assertThat(otherNode.tryAcquireRebuildLease(Duration.ofMinutes(1))).isFalse();
+
+        store.releaseRebuildLease();
+        assertThat(otherNode.tryAcquireRebuildLease(Duration.ofMinutes(1))).isTrue();
+    }
+
+    private static PortfolioRankingStore.Entry entry(Long portfolioId, PortfolioCategory category, long viewCount) {
+        return new PortfolioRankingStore.Entry(portfolioId, category, viewCount, 0L, portfolioId);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.port_in_scan.domain.portfolio.service;
+
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioCursorSort;
+import com.example.port_in_scan.domain.portfolio.entity.Portfolio;
+import com.example.port_in_scan.exception.AppException;
+import com.example.port_in_scan.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PortfolioCursorTests {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_000_000);
+
+    private final Portfolio portfolio = Portfolio.builder()
+            .portfolioId(42L)
+            .viewCount(1_234L)
+            .likeCount(56L)
+            .createdAt(CREATED_AT)
+            .build();
+
+    @Test
+    void latestCursorRoundTrips() {
+        String encoded = PortfolioCursor.of(PortfolioCursorSort.LATEST, portfolio).encode();
+
+        PortfolioCursor decoded = PortfolioCursor.decode(encoded, PortfolioCursorSort.LATEST);
+
+        assertThat(decoded.createdAt()).isEqualTo(CREATED_AT);
+        assertThat(decoded.portfolioId()).isEqualTo(42L);
+    }
+
+    @Test
+    void countCursorsRoundTrip() {
+        PortfolioCursor popular = PortfolioCursor.decode(
+                PortfolioCursor.of(PortfolioCursorSort.POPULAR, portfolio).encode(), PortfolioCursorSort.POPULAR);
+        PortfolioCursor mostLiked = PortfolioCursor.decode(
+                PortfolioCursor.of(PortfolioCursorSort.MOST_LIKED, portfolio).encode(), PortfolioCursorSort.MOST_LIKED);
+
+        assertThat(popular.count()).isEqualTo(1_234L);
+        assertThat(mostLiked.count()).isEqualTo(56L);
+        assertThat(mostLiked.portfolioId()).isEqualTo(42L);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String encoded = PortfolioCursor.of(PortfolioCursorSort.LATEST, portfolio).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void missingCursorStartsBeforeEveryValue() {
+        PortfolioCursor first = PortfolioCursor.decode(null, PortfolioCursorSort.POPULAR);
+        PortfolioCursor blank = PortfolioCursor.decode(" ", PortfolioCursorSort.LATEST);
+
+        assertThat(first.count()).isEqualTo(Long.MAX_VALUE);
+        assertThat(first.portfolioId()).isEqualTo(Long.MAX_VALUE);
+        assertThat(blank.createdAt()).isAfter(LocalDateTime.of(9999, 1, 1, 0, 0));
+    }
+
+    @Test
+    void cursorFromAnotherSortIsRejected() {
+        String encoded = PortfolioCursor.of(PortfolioCursorSort.POPULAR, portfolio).encode();
+
+        assertInvalid(() -> PortfolioCursor.decode(encoded, PortfolioCursorSort.MOST_LIKED));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "TEFURVNU", "POPULAR|abc|1", "POPULAR|1|abc", "LATEST|yesterday|1", "POPULAR|1|2|3"})
+    void malformedCursorIsRejected(String raw) {
+        String cursor = raw.contains("|") ? encode(raw) : raw;
+
+        assertInvalid(() -> PortfolioCursor.decode(cursor, raw.startsWith("LATEST") ? PortfolioCursorSort.LATEST
+                : PortfolioCursorSort.POPULAR));
+    }
+
+    private static void assertInvalid(Runnable decode) {
+        assertThatThrownBy(decode::run)
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.port_in_scan.domain.portfolio.service;
+
+import com.example.port_in_scan.domain.member.entity.Role;
+import com.example.port_in_scan.domain.member.entity.User;
+import com.example.port_in_scan.domain.member.repository.UserRepository;
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioImportResponseDto;
+import com.example.port_in_scan.domain.search.engine.PortfolioInvertedIndex;
+import com.example.port_in_scan.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PortfolioImportServiceTests {
+
+    private static final String IMPORTER = "import@test.com";
+    private static final String OTHER = "import-other@test.com";
+
+    @Autowired
+    private PortfolioImportService importService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PortfolioInvertedIndex invertedIndex;
+
+    @BeforeEach
+    void setUp() {
+        // 청크 경계를 넘나들도록 작은 청크로 실행
+        ReflectionTestUtils.setField(importService, "chunkSize", 2);
+        createUser(IMPORTER, "importer");
+        createUser(OTHER, "import-other");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(importService, "chunkSize", 500);
+    }
+
+    @Test
+    void invalidLinesAreReportedAndSkipped() throws IOException {
+        PortfolioImportResponseDto response = importLines(false,
+                "{\"title\":\"임포트일반 스프링\",\"category\":\"BACKEND\",\"techStacks\":[\"Spring Boot\"],\"tags\":[\"임포트\"]}",
+                "",
+                "{not json",
+                "{\"title\":\"\",\"category\":\"BACKEND\"}",
+                "{\"authorEmail\":\"" + OTHER + "\",\"title\":\"임포트일반 대리\",\"category\":\"FRONTEND\"}",
+                "{\"title\":\"임포트일반 리액트\",\"category\":\"FRONTEND\",\"techStacks\":[\"React\"]}");
+
+        assertThat(response.getTotalLines()).isEqualTo(5L);
+        assertThat(response.getImportedCount()).isEqualTo(2L);
+        assertThat(response.getFailedCount()).isEqualTo(3L);
+        assertThat(response.getErrors())
+                .extracting(PortfolioImportResponseDto.LineError::getLineNumber)
+                .containsExactly(3L, 4L, 5L);
+        assertThat(response.isErrorsTruncated()).isFalse();
+
+        // 청크 커밋 후 묶음 이벤트로 검색 색인에 반영
+        assertThat(invertedIndex.search("임포트일반").getCardinality()).isEqualTo(2);
+    }
+
+    @Test
+    void adminCanImportForOtherAuthors() throws IOException {
+        PortfolioImportResponseDto response = importLines(true,
+                "{\"authorEmail\":\"" + OTHER + "\",\"title\":\"임포트관리자 대리\",\"category\":\"FRONTEND\"}",
+                "{\"authorEmail\":\"nobody@test.com\",\"title\":\"임포트관리자 없음\",\"category\":\"BACKEND\"}",
+                "{\"authorEmail\":\"not-an-email\",\"title\":\"임포트관리자 형식\",\"category\":\"BACKEND\"}");
+
+        assertThat(response.getImportedCount()).isEqualTo(1L);
+        assertThat(response.getErrors())
+                .extracting(PortfolioImportResponseDto.LineError::getLineNumber, PortfolioImportResponseDto.LineError::getMessage)
+                .first()
+                .isEqualTo(tuple(2L, ErrorCode.USER_NOT_FOUND.getMessage()));
+        assertThat(response.getErrors()).hasSize(2);
+        assertThat(invertedIndex.search("임포트관리자").getCardinality()).isEqualTo(1);
+    }
+
+    @Test
+    void failedChunkIsRetriedLineByLine() throws IOException {
+        String tooLongUrl = "https://github.com/" + "a".repeat(300);
+
+        PortfolioImportResponseDto response = importLines(false,
+                "{\"title\":\"임포트재시도 하나\",\"category\":\"BACKEND\"}",
+                "{\"title\":\"임포트재시도 둘\",\"category\":\"BACKEND\",\"githubUrl\":\"" + tooLongUrl + "\"}",
+                "{\"title\":\"임포트재시도 셋\",\"category\":\"BACKEND\"}");
+
+        assertThat(response.getImportedCount()).isEqualTo(2L);
+        assertThat(response.getErrors())
+                .extracting(PortfolioImportResponseDto.LineError::getLineNumber)
+                .containsExactly(2L);
+        assertThat(invertedIndex.search("임포트재시도").getCardinality()).isEqualTo(2);
+    }
+
+    @Test
+    void reportedErrorsAreTruncated() throws IOException {
+        ReflectionTestUtils.setField(importService, "maxReportedErrors", 1);
+        try {
+            PortfolioImportResponseDto response = importLines(false, "{", "{", "{");
+
+            assertThat(response.getFailedCount()).isEqualTo(3L);
+            assertThat(response.getErrors()).hasSize(1);
+            assertThat(response.isErrorsTruncated()).isTrue();
+        } finally {
+            ReflectionTestUtils.setField(importService, "maxReportedErrors", 1000);
+        }
+    }
+
+    private PortfolioImportResponseDto importLines(boolean admin, String... lines) throws IOException {
+        byte[] body = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+        return importService.importPortfolios(new ByteArrayInputStream(body), IMPORTER, admin);
+    }
+
+    private void createUser(String email, String username) {
+        if (userRepository.existsByEmail(email)) {
+            return;
+        }
+        userRepository.save(User.builder()
+                .email(email)
+                .username(username)
+                .password("password")
+                .role(Role.USER)
+                .build());
+    }
+}
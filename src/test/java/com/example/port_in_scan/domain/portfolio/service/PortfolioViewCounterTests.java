@@ -0,0 +1,124 @@
+package com.example.port_in_scan.domain.portfolio.service;
+
+import com.example.port_in_scan.domain.portfolio.ranking.PortfolioRankingService;
+import com.example.port_in_scan.domain.portfolio.repository.PortfolioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class PortfolioViewCounterTests {
+
+    private PortfolioRepository portfolioRepository;
+    private PortfolioViewCounter counter;
+
+    // DB 에 반영된 조회수 (포트폴리오 ID -> 누적 증가분)
+    private final Map<Long, AtomicLong> committed = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        portfolioRepository = mock(PortfolioRepository.class);
+        doAnswer(invocation -> {
+            committed.computeIfAbsent(invocation.getArgument(0), key -> new AtomicLong())
+                    .addAndGet(invocation.<Long>getArgument(1));
+            return 1;
+        }).when(portfolioRepository).addViewCount(anyLong(), anyLong());
+
+        counter = new PortfolioViewCounter(portfolioRepository, mock(PortfolioRankingService.class),
+                new ResourcelessTransactionManager());
+        ReflectionTestUtils.setField(counter, "mode", PortfolioViewCounter.Mode.BUFFERED);
+    }
+
+    @Test
+    void concurrentIncrementsDuringFlushesAreAllCommitted() throws Exception {
+        int threads = 8;
+        int incrementsPerThread = 20_000;
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            Future<?> flusher = executor.submit(() -> {
+                while (!done.get()) {
+                    counter.flush();
+                }
+            });
+            List<Future<?>> viewers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                viewers.add(executor.submit(() -> {
+                    for (int i = 0; i < incrementsPerThread; i++) {
+                        counter.increment((long) (i % 3) + 1);
+                    }
+                }));
+            }
+            for (Future<?> viewer : viewers) {
+                viewer.get();
+            }
+            done.set(true);
+            flusher.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        counter.flush();
+
+        long total = committed.values().stream().mapToLong(AtomicLong::get).sum();
+        assertThat(total).isEqualTo((long) threads * incrementsPerThread);
+    }
+
+    @Test
+    void pendingViewsStayVisibleUntilCommit() {
+        for (int i = 0; i < 5; i++) {
+            counter.increment(1L);
+        }
+        long[] seenDuringFlush = new long[1];
+        doAnswer(invocation -> {
+            // 반영 중인 트랜잭션이 커밋되기 전 조회한 요청
+            seenDuringFlush[0] = counter.increment(1L);
+            committed.computeIfAbsent(1L, key -> new AtomicLong()).addAndGet(invocation.<Long>getArgument(1));
+            return 1;
+        }).when(portfolioRepository).addViewCount(anyLong(), anyLong());
+
+        counter.flush();
+
+        assertThat(seenDuringFlush[0]).isEqualTo(6);
+        assertThat(committed.get(1L).get()).isEqualTo(5);
+        // 반영 중에 들어온 1건만 미반영으로 남음
+        assertThat(counter.increment(1L)).isEqualTo(2);
+    }
+
+    @Test
+    void failedFlushKeepsCountsForNextFlush() {
+        counter.increment(1L);
+        counter.increment(1L);
+        doAnswer(invocation -> {
+            throw new QueryTimeoutException("timeout");
+        }).when(portfolioRepository).addViewCount(anyLong(), anyLong());
+
+        counter.flush();
+        assertThat(committed).isEmpty();
+
+        doAnswer(invocation -> {
+            committed.computeIfAbsent(invocation.getArgument(0), key -> new AtomicLong())
+                    .addAndGet(invocation.<Long>getArgument(1));
+            return 1;
+        }).when(portfolioRepository).addViewCount(anyLong(), anyLong());
+        counter.flush();
+
+        assertThat(committed.get(1L).get()).isEqualTo(2);
+    }
+}
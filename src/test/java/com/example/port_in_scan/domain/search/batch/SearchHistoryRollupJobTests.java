@@ -0,0 +1,133 @@
+package com.example.port_in_scan.domain.search.batch;
+
+import com.example.port_in_scan.domain.member.entity.Role;
+import com.example.port_in_scan.domain.member.entity.User;
+import com.example.port_in_scan.domain.member.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest(properties = "search.history.batch.chunk-size=2")
+@ActiveProfiles("test")
+class SearchHistoryRollupJobTests {
+
+    private static final LocalDate TARGET_DATE = LocalDate.of(2020, 1, 15);
+    private static final String EMAIL = "rollup-restart@test.com";
+
+    @MockitoSpyBean
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    @Qualifier("searchHistoryRollupJob")
+    private Job rollupJob;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userIdx;
+
+    @BeforeEach
+    void setUp() {
+        userIdx = userRepository.save(User.builder()
+                .email(EMAIL)
+                .username("rollup-restart")
+                .password("password")
+                .role(Role.USER)
+                .build()).getIdx();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MapSqlParameterSource params = new MapSqlParameterSource("statDate", TARGET_DATE);
+        jdbcTemplate.update("DELETE FROM search_keyword_daily_stats WHERE stat_date = :statDate", params);
+        jdbcTemplate.update("DELETE FROM search_user_daily_stats WHERE stat_date = :statDate", params);
+        jdbcTemplate.update("DELETE FROM search_histories WHERE user_idx = :userIdx OR keyword LIKE 'rollup-%'",
+                new MapSqlParameterSource("userIdx", userIdx));
+        userRepository.deleteById(userIdx);
+    }
+
+    @Test
+    void restartAfterWriterFailureDoesNotDoubleCount() throws Exception {
+        // chunk-size 2: [a, a] [b, a] [b]
+        insertHistory("rollup-a", userIdx);
+        insertHistory("rollup-a", userIdx);
+        insertHistory("rollup-b", null);
+        insertHistory("rollup-a", userIdx);
+        insertHistory("rollup-b", null);
+
+        // 두 번째 chunk 의 키워드 집계 반영에서 한 번 실패
+        AtomicInteger keywordUpdates = new AtomicInteger();
+        doAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            if (sql.startsWith("UPDATE search_keyword_daily_stats") && keywordUpdates.incrementAndGet() == 2) {
+                throw new QueryTimeoutException("writer failed");
+            }
+            return invocation.callRealMethod();
+        }).when(jdbcTemplate).batchUpdate(anyString(), any(SqlParameterSource[].class));
+
+        JobParameters parameters = new JobParametersBuilder()
+                .addString(SearchHistoryBatchConfig.TARGET_DATE_PARAM, TARGET_DATE.toString())
+                .toJobParameters();
+
+        JobExecution failed = jobLauncher.run(rollupJob, parameters);
+        assertThat(failed.getStatus()).isEqualTo(BatchStatus.FAILED);
+        // 첫 chunk 는 커밋됨
+        assertThat(keywordCounts()).containsExactlyInAnyOrderEntriesOf(Map.of("rollup-a", 2L));
+
+        JobExecution restarted = jobLauncher.run(rollupJob, parameters);
+        assertThat(restarted.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        assertThat(keywordCounts()).containsExactlyInAnyOrderEntriesOf(Map.of("rollup-a", 3L, "rollup-b", 2L));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT search_count FROM search_user_daily_stats WHERE stat_date = :statDate AND user_idx = :userIdx",
+                new MapSqlParameterSource().addValue("statDate", TARGET_DATE).addValue("userIdx", userIdx),
+                Long.class)).isEqualTo(3L);
+    }
+
+    private void insertHistory(String keyword, Long userIdx) {
+        jdbcTemplate.update("INSERT INTO search_histories (keyword, search_type, user_idx, searched_at) " +
+                        "VALUES (:keyword, 'KEYWORD', :userIdx, :searchedAt)",
+                new MapSqlParameterSource()
+                        .addValue("keyword", keyword)
+                        .addValue("userIdx", userIdx)
+                        .addValue("searchedAt", Timestamp.valueOf(TARGET_DATE.atTime(12, 0))));
+    }
+
+    private Map<String, Long> keywordCounts() {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT keyword, search_count FROM search_keyword_daily_stats WHERE stat_date = :statDate",
+                new MapSqlParameterSource("statDate", TARGET_DATE));
+        return rows.stream().collect(Collectors.toMap(
+                row -> (String) row.get("keyword"), row -> ((Number) row.get("search_count")).longValue()));
+    }
+}
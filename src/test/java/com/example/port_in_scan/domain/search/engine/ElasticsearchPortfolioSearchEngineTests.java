@@ -0,0 +1,190 @@
+package com.example.port_in_scan.domain.search.engine;
+
+import com.example.port_in_scan.domain.member.entity.Role;
+import com.example.port_in_scan.domain.member.entity.User;
+import com.example.port_in_scan.domain.member.repository.UserRepository;
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioCreateRequestDto;
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioResponseDto;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioCategory;
+import com.example.port_in_scan.domain.portfolio.service.PortfolioService;
+import com.example.port_in_scan.domain.search.document.PortfolioDocument;
+import com.example.port_in_scan.domain.search.dto.SearchMatchMode;
+import com.example.port_in_scan.domain.search.dto.SearchRequestDto;
+import com.example.port_in_scan.domain.search.dto.SearchResponseDto;
+import com.example.port_in_scan.domain.search.entity.SearchType;
+import com.example.port_in_scan.domain.search.service.SearchService;
+import com.example.port_in_scan.exception.AppException;
+import com.example.port_in_scan.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.elasticsearch.ElasticsearchContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "search.engine=elasticsearch")
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class ElasticsearchPortfolioSearchEngineTests {
+
+    private static final String EMAIL = "es@test.com";
+
+    // 로컬 단일 노드 Elasticsearch
+    @Container
+    @ServiceConnection
+    static ElasticsearchContainer elasticsearch =
+            new ElasticsearchContainer("docker.elastic.co/elasticsearch/elasticsearch:8.18.1")
+                    .withEnv("xpack.security.enabled", "false");
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private PortfolioService portfolioService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @BeforeEach
+    void setUp() {
+        if (userRepository.existsByEmail(EMAIL)) {
+            return;
+        }
+
+        userRepository.save(User.builder()
+                .email(EMAIL)
+                .username("es-tester")
+                .password("password")
+                .role(Role.USER)
+                .build());
+
+        createPortfolio("스프링 부트 쇼핑몰", PortfolioCategory.BACKEND, List.of("Spring Boot", "Java"), List.of("커머스"));
+        createPortfolio("리액트 대시보드", PortfolioCategory.FRONTEND, List.of("React", "TypeScript"), List.of("대시보드"));
+        createPortfolio("풀스택 커뮤니티", PortfolioCategory.FULLSTACK, List.of("React", "Spring Boot"), List.of("커뮤니티"));
+
+        elasticsearchOperations.indexOps(PortfolioDocument.class).refresh();
+    }
+
+    @Test
+    void keywordSearch() {
+        SearchResponseDto response = search(SearchRequestDto.builder().keyword("쇼핑몰").build());
+
+        assertThat(titles(response)).containsExactly("스프링 부트 쇼핑몰");
+    }
+
+    @Test
+    void techStackSearch() {
+        SearchResponseDto response = search(SearchRequestDto.builder()
+                .keyword("react")
+                .searchType(SearchType.TECH_STACK)
+                .techStacks(List.of("React"))
+                .build());
+
+        // 같은 밀리초에 생성되어 createdAt 이 같을 수 있으므로 순서는 비교하지 않음
+        assertThat(titles(response)).containsExactlyInAnyOrder("풀스택 커뮤니티", "리액트 대시보드");
+    }
+
+    @Test
+    void tagSearch() {
+        SearchResponseDto response = search(SearchRequestDto.builder()
+                .keyword("커뮤니티")
+                .searchType(SearchType.TAG)
+                .tags(List.of("커뮤니티"))
+                .build());
+
+        assertThat(titles(response)).containsExactly("풀스택 커뮤니티");
+    }
+
+    @Test
+    void categorySearch() {
+        SearchResponseDto response = search(SearchRequestDto.builder()
+                .keyword("frontend")
+                .searchType(SearchType.CATEGORY)
+                .category(PortfolioCategory.FRONTEND)
+                .build());
+
+        assertThat(titles(response)).containsExactly("리액트 대시보드");
+    }
+
+    @Test
+    void complexSearchUsesEveryTechStack() {
+        SearchResponseDto response = search(SearchRequestDto.builder()
+                .keyword("커뮤니티")
+                .searchType(SearchType.COMPLEX)
+                .techStacks(List.of("Java", "Spring Boot"))
+                .build());
+
+        assertThat(titles(response)).containsExactly("풀스택 커뮤니티");
+        assertThat(response.getTotalResults()).isEqualTo(1L);
+    }
+
+    @Test
+    void techStackSearchMatchesAll() {
+        SearchResponseDto response = search(SearchRequestDto.builder()
+                .keyword("react")
+                .searchType(SearchType.TECH_STACK)
+                .techStacks(List.of("React", "Spring Boot"))
+                .techStackMatch(SearchMatchMode.ALL)
+                .build());
+
+        assertThat(titles(response)).containsExactly("풀스택 커뮤니티");
+    }
+
+    @Test
+    void excludedTechStacksAreFiltered() {
+        SearchResponseDto response = search(SearchRequestDto.builder()
+                .keyword("react")
+                .searchType(SearchType.TECH_STACK)
+                .techStacks(List.of("React"))
+                .excludedTechStacks(List.of("TypeScript"))
+                .build());
+
+        assertThat(titles(response)).containsExactly("풀스택 커뮤니티");
+    }
+
+    @Test
+    void unsupportedSortWithEngineOnlyFiltersIsRejected() {
+        SearchRequestDto requestDto = SearchRequestDto.builder()
+                .keyword("react")
+                .searchType(SearchType.TECH_STACK)
+                .techStacks(List.of("React"))
+                .excludedTechStacks(List.of("TypeScript"))
+                .sortBy("viewCount")
+                .build();
+
+        assertThatThrownBy(() -> search(requestDto))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.SEARCH_SORT_NOT_SUPPORTED);
+    }
+
+    private void createPortfolio(String title, PortfolioCategory category, List<String> techStacks, List<String> tags) {
+        portfolioService.createPortfolio(EMAIL, PortfolioCreateRequestDto.builder()
+                .title(title)
+                .description(title + " 프로젝트")
+                .category(category)
+                .techStacks(techStacks)
+                .tags(tags)
+                .build());
+    }
+
+    private SearchResponseDto search(SearchRequestDto requestDto) {
+        return searchService.search(requestDto, null, "127.0.0.1");
+    }
+
+    private static List<String> titles(SearchResponseDto response) {
+        return response.getPortfolios().stream().map(PortfolioResponseDto::getTitle).toList();
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.port_in_scan.domain.search.engine;
+
+import com.example.port_in_scan.domain.portfolio.dto.PortfolioResponseDto;
+import com.example.port_in_scan.domain.portfolio.entity.Portfolio;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioCategory;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioStatus;
+import com.example.port_in_scan.domain.portfolio.event.PortfolioChangedEvent;
+import com.example.port_in_scan.domain.portfolio.repository.PortfolioRepository;
+import com.example.port_in_scan.domain.portfolio.service.PortfolioResponseAssembler;
+import com.example.port_in_scan.domain.search.dto.SearchFacetsDto;
+import com.example.port_in_scan.domain.search.dto.SearchMatchMode;
+import com.example.port_in_scan.domain.search.dto.SearchRequestDto;
+import com.example.port_in_scan.domain.search.entity.SearchType;
+import com.example.port_in_scan.exception.AppException;
+import com.example.port_in_scan.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class InvertedIndexSearchEngineTests {
+
+    private final PortfolioRepository portfolioRepository = mock(PortfolioRepository.class);
+    private final PortfolioIdHydrator idHydrator = mock(PortfolioIdHydrator.class);
+    private final PortfolioResponseAssembler responseAssembler = mock(PortfolioResponseAssembler.class);
+    private final JpaPortfolioSearchEngine fallbackEngine = mock(JpaPortfolioSearchEngine.class);
+
+    private InvertedIndexSearchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        PortfolioIndexLoader indexLoader = mock(PortfolioIndexLoader.class);
+        PortfolioInvertedIndex invertedIndex = new PortfolioInvertedIndex(indexLoader);
+        PortfolioBitmapIndex bitmapIndex = new PortfolioBitmapIndex(indexLoader);
+
+        // 1~5: 모두 Spring Boot, 홀수는 Java / 짝수는 React
+        for (long id = 1; id <= 5; id++) {
+            PortfolioChangedEvent event = event(id, List.of("Spring Boot", id % 2 == 1 ? "Java" : "React"));
+            invertedIndex.index(event);
+            bitmapIndex.index(event);
+        }
+
+        engine = new InvertedIndexSearchEngine(invertedIndex, bitmapIndex, portfolioRepository, idHydrator,
+                responseAssembler, fallbackEngine);
+        ReflectionTestUtils.setField(engine, "maxHydrateIds", 10);
+        when(idHydrator.hydrate(anyList())).thenReturn(List.of());
+    }
+
+    @Test
+    void idOrderedSearchPagesNewestFirst() {
+        Page<PortfolioResponseDto> page = engine.search(keyword("project"),
+                PageRequest.of(0, 2, Sort.by("createdAt").descending()));
+
+        verify(idHydrator).hydrate(List.of(5L, 4L));
+        assertThat(page.getTotalElements()).isEqualTo(5L);
+    }
+
+    @Test
+    void idOrderedSearchPagesAscending() {
+        Page<PortfolioResponseDto> page = engine.search(keyword("project"),
+                PageRequest.of(1, 2, Sort.by("portfolioId").ascending()));
+
+        verify(idHydrator).hydrate(List.of(3L, 4L));
+        assertThat(page.getTotalElements()).isEqualTo(5L);
+    }
+
+    @Test
+    void pageBeyondResultsSkipsHydration() {
+        Page<PortfolioResponseDto> page = engine.search(keyword("project"),
+                PageRequest.of(3, 2, Sort.by("createdAt").descending()));
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(5L);
+        verifyNoInteractions(idHydrator);
+    }
+
+    @Test
+    void otherSortsHydrateMatchedIdsWithinCap() {
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("viewCount").descending());
+
+        engine.search(keyword("project"), pageable);
+
+        verify(portfolioRepository).findByPortfolioIdInAndStatus(List.of(1L, 2L, 3L, 4L, 5L), PortfolioStatus.ACTIVE, pageable);
+        verifyNoInteractions(fallbackEngine);
+    }
+
+    @Test
+    void otherSortsOverCapFallBackToJpa() {
+        ReflectionTestUtils.setField(engine, "maxHydrateIds", 2);
+        SearchRequestDto requestDto = keyword("project");
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("viewCount").descending());
+
+        engine.search(requestDto, pageable);
+
+        verify(fallbackEngine).search(requestDto, pageable);
+        verifyNoInteractions(portfolioRepository);
+    }
+
+    @Test
+    void otherSortsOverCapWithIndexOnlyConditionsAreRejected() {
+        ReflectionTestUtils.setField(engine, "maxHydrateIds", 2);
+        SearchRequestDto requestDto = SearchRequestDto.builder()
+                .keyword("project")
+                .searchType(SearchType.TECH_STACK)
+                .techStacks(List.of("Spring Boot", "Java"))
+                .techStackMatch(SearchMatchMode.ALL)
+                .build();
+
+        assertThatThrownBy(() -> engine.search(requestDto, PageRequest.of(0, 2, Sort.by("likeCount").descending())))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.SEARCH_SORT_NOT_SUPPORTED);
+        verifyNoInteractions(portfolioRepository, fallbackEngine);
+    }
+
+    @Test
+    void allMatchingAndExclusionsNarrowResults() {
+        SearchRequestDto requestDto = SearchRequestDto.builder()
+                .keyword("project")
+                .searchType(SearchType.COMPLEX)
+                .techStacks(List.of("Spring Boot", "React"))
+                .techStackMatch(SearchMatchMode.ALL)
+                .build();
+
+        engine.search(requestDto, PageRequest.of(0, 10, Sort.by("createdAt").descending()));
+        engine.search(SearchRequestDto.builder()
+                .keyword("project")
+                .excludedTechStacks(List.of("React"))
+                .build(), PageRequest.of(0, 10, Sort.by("createdAt").descending()));
+
+        verify(idHydrator).hydrate(List.of(4L, 2L));
+        verify(idHydrator).hydrate(List.of(5L, 3L, 1L));
+    }
+
+    @Test
+    void facetsFollowSearchConditions() {
+        SearchFacetsDto facets = engine.facets(SearchRequestDto.builder()
+                .keyword("project")
+                .searchType(SearchType.TECH_STACK)
+                .techStacks(List.of("Java"))
+                .build(), 10).orElseThrow();
+
+        assertThat(facets.getCategories()).containsEntry(PortfolioCategory.BACKEND, 3L);
+        assertThat(facets.getTechStacks())
+                .extracting(SearchFacetsDto.FacetCount::getValue)
+                .containsExactly("java", "spring boot");
+    }
+
+    @Test
+    void supportsRequestsWithIndexableConditions() {
+        assertThat(engine.supports(keyword("project"))).isTrue();
+        assertThat(engine.supports(SearchRequestDto.builder().keyword(" ").build())).isFalse();
+        assertThat(engine.supports(SearchRequestDto.builder()
+                .searchType(SearchType.TECH_STACK)
+                .build())).isFalse();
+        assertThat(engine.supports(SearchRequestDto.builder()
+                .searchType(SearchType.TECH_STACK)
+                .techStacks(List.of("Java"))
+                .build())).isTrue();
+        assertThat(engine.supports(SearchRequestDto.builder()
+                .searchType(SearchType.CATEGORY)
+                .build())).isFalse();
+        assertThat(engine.supports(SearchRequestDto.builder()
+                .searchType(SearchType.COMPLEX)
+                .build())).isTrue();
+    }
+
+    private static SearchRequestDto keyword(String keyword) {
+        return SearchRequestDto.builder().keyword(keyword).build();
+    }
+
+    private static PortfolioChangedEvent event(Long id, List<String> techStacks) {
+        Portfolio portfolio = Portfolio.builder()
+                .portfolioId(id)
+                .title("project " + id)
+                .description("portfolio")
+                .category(PortfolioCategory.BACKEND)
+                .build();
+        return PortfolioChangedEvent.of(portfolio, techStacks, List.of());
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.port_in_scan.domain.search.engine;
+
+import com.example.port_in_scan.domain.search.entity.PopularSearch;
+import com.example.port_in_scan.domain.search.repository.PopularSearchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KeywordSuggestionTrieTests {
+
+    private PopularSearchRepository popularSearchRepository;
+    private KeywordSuggestionTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        popularSearchRepository = mock(PopularSearchRepository.class);
+        trie = new KeywordSuggestionTrie(popularSearchRepository);
+        ReflectionTestUtils.setField(trie, "topK", 10);
+        ReflectionTestUtils.setField(trie, "maxKeywords", 100000);
+    }
+
+    @Test
+    void keywordsDifferingOnlyInCaseAreMerged() {
+        // 검색 횟수 내림차순: React(10) > redux(8) > react(3)
+        givenPopularSearches(popularSearch("React", 10L), popularSearch("redux", 8L), popularSearch("react", 3L));
+        trie.rebuild();
+
+        assertThat(trie.suggest("re", 10)).containsExactly("React", "redux");
+
+        // 소문자 형태로 들어온 증가분도 같은 항목에 합쳐짐
+        trie.increment("REACT", 2L);
+        assertThat(trie.suggest("RE", 10)).containsExactly("React", "redux");
+    }
+
+    @Test
+    void incrementDuringRebuildIsKeptAfterSwap() {
+        when(popularSearchRepository.findAllByOrderBySearchCountDesc(any(Pageable.class))).thenAnswer(invocation -> {
+            // 재구성이 DB 를 읽는 동안 인기 검색어 집계가 커밋되어 증가분이 들어온 경우
+            trie.increment("spring boot", 5L);
+            trie.increment("spring batch", 20L);
+            return new PageImpl<>(List.of(popularSearch("spring data", 12L), popularSearch("spring boot", 10L)),
+                    invocation.getArgument(0), 2);
+        });
+
+        trie.rebuild();
+
+        assertThat(trie.suggest("spring", 10)).containsExactly("spring batch", "spring boot", "spring data");
+        assertThat(trie.suggest("boot", 10)).containsExactly("spring boot");
+    }
+
+    @Test
+    void incrementAfterRebuildIsNotReplayedAgain() {
+        givenPopularSearches(popularSearch("spring data", 12L), popularSearch("spring boot", 10L));
+        trie.rebuild();
+        trie.increment("spring boot", 5L);
+
+        givenPopularSearches(popularSearch("spring boot", 15L), popularSearch("spring data", 14L));
+        trie.rebuild();
+
+        assertThat(trie.suggest("spring", 10)).containsExactly("spring boot", "spring data");
+        trie.increment("spring data", 2L);
+        assertThat(trie.suggest("spring", 10)).containsExactly("spring data", "spring boot");
+    }
+
+    private void givenPopularSearches(PopularSearch... popularSearches) {
+        when(popularSearchRepository.findAllByOrderBySearchCountDesc(any(Pageable.class))).thenAnswer(invocation ->
+                new PageImpl<>(List.of(popularSearches), invocation.getArgument(0), popularSearches.length));
+    }
+
+    private static PopularSearch popularSearch(String keyword, Long searchCount) {
+        return PopularSearch.builder()
+                .keyword(keyword)
+                .searchCount(searchCount)
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.port_in_scan.domain.search.engine;
+
+import com.example.port_in_scan.domain.portfolio.entity.Portfolio;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioCategory;
+import com.example.port_in_scan.domain.portfolio.entity.PortfolioStatus;
+import com.example.port_in_scan.domain.portfolio.event.PortfolioChangedEvent;
+import com.example.port_in_scan.domain.search.dto.SearchFacetsDto;
+import com.example.port_in_scan.domain.search.dto.SearchMatchMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+class PortfolioBitmapIndexTests {
+
+    private PortfolioBitmapIndex bitmapIndex;
+
+    @BeforeEach
+    void setUp() {
+        bitmapIndex = new PortfolioBitmapIndex(mock(PortfolioIndexLoader.class));
+
+        bitmapIndex.index(event(1L, PortfolioCategory.BACKEND, PortfolioStatus.ACTIVE, List.of("Spring Boot", "Java"), List.of("커머스")));
+        bitmapIndex.index(event(2L, PortfolioCategory.FRONTEND, PortfolioStatus.ACTIVE, List.of("React", "TypeScript"), List.of("대시보드")));
+        bitmapIndex.index(event(3L, PortfolioCategory.FULLSTACK, PortfolioStatus.ACTIVE, List.of("React", "Spring Boot"), List.of("커뮤니티")));
+        bitmapIndex.index(event(4L, PortfolioCategory.BACKEND, PortfolioStatus.DELETED, List.of("Java"), List.of("커머스")));
+    }
+
+    @Test
+    void techStacksMatchAnyByDefault() {
+        RoaringBitmap matched = bitmapIndex.match(activeQuery()
+                .techStacks(List.of("react", "JAVA"))
+                .build());
+
+        assertThat(matched.toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void techStacksMatchAll() {
+        RoaringBitmap matched = bitmapIndex.match(activeQuery()
+                .techStacks(List.of("React", "Spring Boot"))
+                .techStackMatch(SearchMatchMode.ALL)
+                .build());
+
+        assertThat(matched.toArray()).containsExactly(3);
+    }
+
+    @Test
+    void unknownValueMatchesNothingWithAll() {
+        RoaringBitmap matched = bitmapIndex.match(activeQuery()
+                .techStacks(List.of("React", "Kotlin"))
+                .techStackMatch(SearchMatchMode.ALL)
+                .build());
+
+        assertThat(matched.isEmpty()).isTrue();
+    }
+
+    @Test
+    void excludedValuesRemoveAnyMatch() {
+        RoaringBitmap matched = bitmapIndex.match(activeQuery()
+                .techStacks(List.of("React", "Java"))
+                .excludedTechStacks(List.of("TypeScript"))
+                .excludedTags(List.of("커머스"))
+                .build());
+
+        assertThat(matched.toArray()).containsExactly(3);
+    }
+
+    @Test
+    void statusAndCategoryAreCombined() {
+        RoaringBitmap matched = bitmapIndex.match(PortfolioBitmapIndex.Query.builder()
+                .category(PortfolioCategory.BACKEND)
+                .build());
+        RoaringBitmap active = bitmapIndex.match(activeQuery()
+                .category(PortfolioCategory.BACKEND)
+                .build());
+
+        assertThat(matched.toArray()).containsExactly(1, 4);
+        assertThat(active.toArray()).containsExactly(1);
+    }
+
+    @Test
+    void reindexReplacesPreviousValues() {
+        bitmapIndex.index(event(2L, PortfolioCategory.FRONTEND, PortfolioStatus.DRAFT, List.of("Vue"), List.of()));
+
+        assertThat(bitmapIndex.match(activeQuery().techStacks(List.of("React")).build()).toArray()).containsExactly(3);
+        assertThat(bitmapIndex.match(PortfolioBitmapIndex.Query.builder().techStacks(List.of("vue")).build()).toArray())
+                .containsExactly(2);
+    }
+
+    @Test
+    void facetsCountMatchedIds() {
+        RoaringBitmap matched = bitmapIndex.match(activeQuery().build());
+
+        SearchFacetsDto facets = bitmapIndex.facets(matched, 2);
+
+        assertThat(facets.getCategories()).containsOnlyKeys(
+                PortfolioCategory.BACKEND, PortfolioCategory.FRONTEND, PortfolioCategory.FULLSTACK);
+        assertThat(facets.getCategories().get(PortfolioCategory.BACKEND)).isEqualTo(1L);
+        assertThat(facets.getTechStacks())
+                .extracting(SearchFacetsDto.FacetCount::getValue, SearchFacetsDto.FacetCount::getCount)
+                .containsExactly(tuple("react", 2L), tuple("spring boot", 2L));
+        assertThat(facets.getTags()).hasSize(2);
+    }
+
+    @Test
+    void facetsUseBitmapIntersectionForLargeResults() {
+        for (long id = 10; id < 30; id++) {
+            bitmapIndex.index(event(id, PortfolioCategory.BACKEND, PortfolioStatus.ACTIVE, List.of("Java"), List.of()));
+        }
+        RoaringBitmap matched = bitmapIndex.match(activeQuery().build());
+
+        SearchFacetsDto facets = bitmapIndex.facets(matched, 1);
+
+        assertThat(facets.getCategories().get(PortfolioCategory.BACKEND)).isEqualTo(21L);
+        assertThat(facets.getTechStacks())
+                .extracting(SearchFacetsDto.FacetCount::getValue, SearchFacetsDto.FacetCount::getCount)
+                .containsExactly(tuple("java", 21L));
+    }
+
+    private static PortfolioBitmapIndex.Query.QueryBuilder activeQuery() {
+        return PortfolioBitmapIndex.Query.builder().status(PortfolioStatus.ACTIVE);
+    }
+
+    private static PortfolioChangedEvent event(Long id, PortfolioCategory category, PortfolioStatus status,
+                                               List<String> techStacks, List<String> tags) {
+        Portfolio portfolio = Portfolio.builder()
+                .portfolioId(id)
+                .title("portfolio " + id)
+                .category(category)
+                .status(status)
+                .build();
+        return PortfolioChangedEvent.of(portfolio, techStacks, tags);
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.port_in_scan.domain.search.service;
+
+import com.example.port_in_scan.domain.search.engine.KeywordSuggestionTrie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PopularSearchAggregatorTests {
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private KeywordSuggestionTrie keywordSuggestionTrie;
+
+    @Test
+    void keywordIsAdmittedWhenCountAcrossNodesReachesThreshold() {
+        // 같은 DB 를 쓰는 서버 세 대에서 각각 임계값(3) 미만인 2번씩 검색
+        List<PopularSearchAggregator> nodes = List.of(node(jdbcTemplate), node(jdbcTemplate), node(jdbcTemplate));
+        for (PopularSearchAggregator node : nodes) {
+            node.record("공유후보");
+            node.record("공유후보");
+        }
+
+        nodes.get(0).flush();
+        assertThat(searchCount("공유후보")).isNull();
+        assertThat(candidateCount("공유후보")).isEqualTo(2L);
+
+        nodes.get(1).flush();
+        assertThat(searchCount("공유후보")).isEqualTo(4L);
+        assertThat(candidateCount("공유후보")).isNull();
+
+        nodes.get(2).flush();
+        assertThat(searchCount("공유후보")).isEqualTo(6L);
+    }
+
+    @Test
+    void keywordBelowThresholdStaysCandidate() {
+        PopularSearchAggregator node = node(jdbcTemplate);
+        node.record("한번검색");
+        node.flush();
+
+        assertThat(searchCount("한번검색")).isNull();
+        assertThat(candidateCount("한번검색")).isEqualTo(1L);
+    }
+
+    @Test
+    void concurrentRecordsDuringFlushesAreNotLost() throws Exception {
+        insertPopularSearch("동시집계");
+        PopularSearchAggregator node = node(jdbcTemplate);
+        int threads = 8;
+        int recordsPerThread = 2_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean recording = new AtomicBoolean(true);
+        try {
+            List<Future<?>> recorders = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                recorders.add(executor.submit(() -> {
+                    start.await();
+                    for (int n = 0; n < recordsPerThread; n++) {
+                        node.record("동시집계");
+                    }
+                    return null;
+                }));
+            }
+            Future<?> flusher = executor.submit(() -> {
+                start.await();
+                while (recording.get()) {
+                    node.flush();
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> recorder : recorders) {
+                recorder.get(30, TimeUnit.SECONDS);
+            }
+            recording.set(false);
+            flusher.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 마지막 flush 직전에 제거된 카운터의 증가분까지 수거하도록 두 번 반영
+        node.flush();
+        node.flush();
+
+        assertThat(searchCount("동시집계")).isEqualTo((long) threads * recordsPerThread);
+    }
+
+    @Test
+    void failedFlushRestoresDeltasForNextFlush() {
+        insertPopularSearch("반영실패");
+        NamedParameterJdbcTemplate failingOnce = spy(jdbcTemplate);
+        doThrow(new DataAccessResourceFailureException("connection lost"))
+                .doCallRealMethod()
+                .when(failingOnce).batchUpdate(anyString(), any(SqlParameterSource[].class));
+        PopularSearchAggregator node = node(failingOnce);
+
+        for (int i = 0; i < 5; i++) {
+            node.record("반영실패");
+        }
+        node.flush();
+        assertThat(searchCount("반영실패")).isZero();
+
+        node.flush();
+        assertThat(searchCount("반영실패")).isEqualTo(5L);
+    }
+
+    private PopularSearchAggregator node(NamedParameterJdbcTemplate template) {
+        PopularSearchAggregator aggregator = new PopularSearchAggregator(template, transactionTemplate, keywordSuggestionTrie);
+        ReflectionTestUtils.setField(aggregator, "admissionThreshold", 3L);
+        ReflectionTestUtils.setField(aggregator, "candidateTtlMs", 3_600_000L);
+        return aggregator;
+    }
+
+    private void insertPopularSearch(String keyword) {
+        jdbcTemplate.update("INSERT INTO popular_searches (keyword, search_count, last_searched_at) " +
+                "VALUES (:keyword, 0, CURRENT_TIMESTAMP)", new MapSqlParameterSource("keyword", keyword));
+    }
+
+    private Long searchCount(String keyword) {
+        return jdbcTemplate.query("SELECT search_count FROM popular_searches WHERE keyword = :keyword",
+                new MapSqlParameterSource("keyword", keyword),
+                (rs, rowNum) -> rs.getLong(1)).stream().findFirst().orElse(null);
+    }
+
+    private Long candidateCount(String keyword) {
+        return jdbcTemplate.query("SELECT search_count FROM popular_search_candidates WHERE keyword = :keyword",
+                new MapSqlParameterSource("keyword", keyword),
+                (rs, rowNum) -> rs.getLong(1)).stream().findFirst().orElse(null);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.port_in_scan.domain.search.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RelatedKeywordServiceTests {
+
+    // 다른 테스트가 만든 히스토리와 겹치지 않는 ID 구간
+    private static final long BASE_ID = 900_000L;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private RelatedKeywordService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new RelatedKeywordService(jdbcTemplate);
+        ReflectionTestUtils.setField(service, "topK", 5);
+        ReflectionTestUtils.setField(service, "maxCandidates", 50);
+        ReflectionTestUtils.setField(service, "maxKeywords", 50000);
+        ReflectionTestUtils.setField(service, "sessionWindowMs", 1_800_000L);
+        ReflectionTestUtils.setField(service, "warmupDays", 7);
+        ReflectionTestUtils.setField(service, "batchSize", 5000);
+        ReflectionTestUtils.setField(service, "gapTimeoutMs", 120_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM search_histories WHERE search_id > :id",
+                new MapSqlParameterSource("id", BASE_ID));
+    }
+
+    @Test
+    void lateCommittedHistoryWithLowerIdIsNotSkipped() {
+        LocalDateTime now = LocalDateTime.now();
+        insert(BASE_ID + 1, "늦은커밋a", "10.0.0.1", now.minusSeconds(3));
+        // BASE_ID + 2 는 다른 트랜잭션에서 먼저 ID 를 받았지만 아직 커밋되지 않은 상태
+        insert(BASE_ID + 3, "늦은커밋b", "10.0.0.1", now.minusSeconds(1));
+        service.refresh();
+
+        assertThat(service.getRelatedKeywords("늦은커밋a")).containsExactly("늦은커밋b");
+
+        insert(BASE_ID + 2, "늦은커밋c", "10.0.0.1", now.minusSeconds(2));
+        service.refresh();
+
+        assertThat(service.getRelatedKeywords("늦은커밋c")).containsExactlyInAnyOrder("늦은커밋a", "늦은커밋b");
+        assertThat(service.getRelatedKeywords("늦은커밋a")).containsExactlyInAnyOrder("늦은커밋b", "늦은커밋c");
+    }
+
+    @Test
+    void expiredGapIsNotReadAgain() {
+        ReflectionTestUtils.setField(service, "gapTimeoutMs", 0L);
+        LocalDateTime now = LocalDateTime.now();
+        insert(BASE_ID + 1, "롤백a", "10.0.0.2", now.minusSeconds(3));
+        insert(BASE_ID + 3, "롤백b", "10.0.0.2", now.minusSeconds(1));
+        service.refresh();
+        // 첫 갱신 뒤 gap-timeout 이 지나 BASE_ID + 2 는 롤백된 ID 로 보고 버림
+        service.refresh();
+
+        insert(BASE_ID + 2, "롤백c", "10.0.0.2", now.minusSeconds(2));
+        service.refresh();
+
+        assertThat(service.getRelatedKeywords("롤백c")).isEmpty();
+    }
+
+    private void insert(long id, String keyword, String ipAddress, LocalDateTime searchedAt) {
+        jdbcTemplate.update("INSERT INTO search_histories (search_id, keyword, search_type, ip_address, searched_at) " +
+                        "VALUES (:id, :keyword, 'KEYWORD', :ipAddress, :searchedAt)",
+                new MapSqlParameterSource()
+                        .addValue("id", id)
+                        .addValue("keyword", keyword)
+                        .addValue("ipAddress", ipAddress)
+                        .addValue("searchedAt", Timestamp.valueOf(searchedAt)));
+    }
+}
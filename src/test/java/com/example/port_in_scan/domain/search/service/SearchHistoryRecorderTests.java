@@ -0,0 +1,142 @@
+package com.example.port_in_scan.domain.search.service;
+
+import com.example.port_in_scan.domain.search.entity.SearchType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SearchHistoryRecorderTests {
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM search_histories WHERE keyword LIKE 'recorder-%'", new MapSqlParameterSource());
+    }
+
+    @Test
+    void dropNewestKeepsQueuedEntriesWhenFull() throws InterruptedException {
+        List<String> saved = fillPastCapacity(SearchHistoryRecorder.OverflowPolicy.DROP_NEWEST, "recorder-newest-");
+
+        assertThat(saved).containsExactlyInAnyOrder(
+                "recorder-newest-0", "recorder-newest-1", "recorder-newest-2", "recorder-newest-3");
+    }
+
+    @Test
+    void dropOldestKeepsNewestEntriesWhenFull() throws InterruptedException {
+        List<String> saved = fillPastCapacity(SearchHistoryRecorder.OverflowPolicy.DROP_OLDEST, "recorder-oldest-");
+
+        assertThat(saved).containsExactlyInAnyOrder(
+                "recorder-oldest-0", "recorder-oldest-3", "recorder-oldest-4", "recorder-oldest-5");
+    }
+
+    @Test
+    void blockDropsEntriesAfterTimeoutWhenFull() throws InterruptedException {
+        List<String> saved = fillPastCapacity(SearchHistoryRecorder.OverflowPolicy.BLOCK, "recorder-block-");
+
+        assertThat(saved).containsExactlyInAnyOrder(
+                "recorder-block-0", "recorder-block-1", "recorder-block-2", "recorder-block-3");
+    }
+
+    @Test
+    void stopWritesEveryAcceptedEntry() {
+        SearchHistoryRecorder recorder = recorder(jdbcTemplate, SearchHistoryRecorder.OverflowPolicy.DROP_NEWEST, 1000);
+        ReflectionTestUtils.setField(recorder, "flushSize", 7);
+        ReflectionTestUtils.setField(recorder, "flushIntervalMs", 10_000L);
+        recorder.start();
+        for (int i = 0; i < 50; i++) {
+            recorder.record("recorder-stop-" + i, SearchType.KEYWORD, 1L, null, "127.0.0.1");
+        }
+
+        recorder.stop();
+
+        assertThat(recorder.getDroppedCount()).isZero();
+        assertThat(recorder.getQueueSize()).isZero();
+        assertThat(savedKeywords("recorder-stop-")).hasSize(50);
+    }
+
+    @Test
+    void failedBatchFallsBackToRowByRowInsert() {
+        SearchHistoryRecorder recorder = recorder(jdbcTemplate, SearchHistoryRecorder.OverflowPolicy.DROP_NEWEST, 100);
+        ReflectionTestUtils.setField(recorder, "flushSize", 10);
+        ReflectionTestUtils.setField(recorder, "flushIntervalMs", 500L);
+        recorder.start();
+        recorder.record("recorder-fallback-1", SearchType.KEYWORD, 1L, null, "127.0.0.1");
+        // keyword NOT NULL 위반으로 이 항목이 들어간 배치 전체가 실패
+        recorder.record(null, SearchType.KEYWORD, 1L, null, "127.0.0.1");
+        recorder.record("recorder-fallback-2", SearchType.KEYWORD, 1L, null, "127.0.0.1");
+
+        recorder.stop();
+
+        assertThat(savedKeywords("recorder-fallback-"))
+                .containsExactlyInAnyOrder("recorder-fallback-1", "recorder-fallback-2");
+        assertThat(recorder.getDroppedCount()).isEqualTo(1);
+    }
+
+    // 작성 스레드가 첫 항목을 저장하는 동안 용량(3)보다 많은 5건을 추가
+    private List<String> fillPastCapacity(SearchHistoryRecorder.OverflowPolicy policy, String prefix)
+            throws InterruptedException {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        NamedParameterJdbcTemplate blockingTemplate = spy(jdbcTemplate);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(blockingTemplate).batchUpdate(anyString(), any(SqlParameterSource[].class));
+
+        SearchHistoryRecorder recorder = recorder(blockingTemplate, policy, 3);
+        recorder.start();
+        recorder.record(prefix + 0, SearchType.KEYWORD, 1L, null, "127.0.0.1");
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i <= 5; i++) {
+            recorder.record(prefix + i, SearchType.KEYWORD, 1L, null, "127.0.0.1");
+        }
+
+        assertThat(recorder.getQueueSize()).isEqualTo(3);
+        assertThat(recorder.getDroppedCount()).isEqualTo(2);
+
+        release.countDown();
+        recorder.stop();
+        return savedKeywords(prefix);
+    }
+
+    private SearchHistoryRecorder recorder(NamedParameterJdbcTemplate template,
+                                           SearchHistoryRecorder.OverflowPolicy policy, int capacity) {
+        SearchHistoryRecorder recorder = new SearchHistoryRecorder(template, transactionTemplate);
+        ReflectionTestUtils.setField(recorder, "queueCapacity", capacity);
+        ReflectionTestUtils.setField(recorder, "flushSize", 1);
+        ReflectionTestUtils.setField(recorder, "flushIntervalMs", 10L);
+        ReflectionTestUtils.setField(recorder, "overflowPolicy", policy);
+        ReflectionTestUtils.setField(recorder, "blockTimeoutMs", 10L);
+        return recorder;
+    }
+
+    private List<String> savedKeywords(String prefix) {
+        return jdbcTemplate.queryForList("SELECT keyword FROM search_histories WHERE keyword LIKE :prefix",
+                new MapSqlParameterSource("prefix", prefix + "%"), String.class);
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.port_in_scan.domain.search.service;
+
+import com.example.port_in_scan.domain.search.dto.TrendingKeywordDto;
+import com.example.port_in_scan.domain.search.dto.TrendingWindow;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class TrendingKeywordServiceTests {
+
+    // 정시(분/시간 버킷 0번)에서 시작
+    private static final long START = TimeUnit.HOURS.toMillis(24 * 7 * 3000L);
+
+    private TrendingKeywordService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TrendingKeywordService();
+        ReflectionTestUtils.setField(service, "sketchWidth", 1024);
+        ReflectionTestUtils.setField(service, "topK", 50);
+        ReflectionTestUtils.setField(service, "candidateCapacity", 1000);
+        ReflectionTestUtils.setField(service, "recentCapacity", 10000);
+        service.init(START);
+    }
+
+    @Test
+    void minuteBucketLeavesHourWindowAfterSixtyMinutes() {
+        record("spring", 3);
+        service.refresh(START);
+        assertCounts(TrendingWindow.HOUR, tuple("spring", 3L));
+
+        service.refresh(minutes(59));
+        record("react", 1);
+        service.refresh(minutes(59));
+        assertCounts(TrendingWindow.HOUR, tuple("spring", 3L), tuple("react", 1L));
+
+        // 0분 버킷이 다시 쓰이기 시작하면 1시간 합계에서 빠짐
+        service.refresh(minutes(60));
+        assertCounts(TrendingWindow.HOUR, tuple("react", 1L));
+        assertCounts(TrendingWindow.DAY, tuple("spring", 3L), tuple("react", 1L));
+
+        service.refresh(minutes(119));
+        assertThat(service.getTrendingKeywords(TrendingWindow.HOUR, 10)).isEmpty();
+    }
+
+    @Test
+    void minuteGapLongerThanHourClearsHourWindow() {
+        record("spring", 2);
+        service.refresh(minutes(30));
+        record("spring", 1);
+        service.refresh(minutes(30));
+        assertCounts(TrendingWindow.HOUR, tuple("spring", 3L));
+
+        service.refresh(minutes(30 + 60));
+        assertThat(service.getTrendingKeywords(TrendingWindow.HOUR, 10)).isEmpty();
+    }
+
+    @Test
+    void hourBucketLeavesDayWindowAfterTwentyFourHours() {
+        record("spring", 2);
+        service.refresh(hours(23));
+        record("react", 1);
+        service.refresh(hours(23));
+        assertCounts(TrendingWindow.DAY, tuple("spring", 2L), tuple("react", 1L));
+
+        // 24시간째에 hourBuckets[(24 - 24) % 168] (0시 버킷) 을 24시간 합계에서 뺌
+        service.refresh(hours(24));
+        assertCounts(TrendingWindow.DAY, tuple("react", 1L));
+        assertCounts(TrendingWindow.WEEK, tuple("spring", 2L), tuple("react", 1L));
+
+        service.refresh(hours(46));
+        assertCounts(TrendingWindow.DAY, tuple("react", 1L));
+        service.refresh(hours(47));
+        assertThat(service.getTrendingKeywords(TrendingWindow.DAY, 10)).isEmpty();
+    }
+
+    @Test
+    void hourBucketLeavesWeekWindowAfterSevenDays() {
+        record("spring", 2);
+        service.refresh(hours(23));
+        record("react", 1);
+        service.refresh(hours(167));
+        assertCounts(TrendingWindow.WEEK, tuple("spring", 2L), tuple("react", 1L));
+
+        // 168시간째에 0시 버킷이 다시 쓰이면서 7일 합계에서 빠지고, 그 버킷에 새로 기록
+        service.refresh(hours(168));
+        record("java", 1);
+        service.refresh(hours(168));
+        assertCounts(TrendingWindow.WEEK, tuple("java", 1L), tuple("react", 1L));
+
+        // 다시 쓰인 0시 버킷은 24시간 뒤 (hour - 24) % 168 로 24시간 합계에서 한 번만 빠짐
+        service.refresh(hours(191));
+        assertCounts(TrendingWindow.DAY, tuple("java", 1L));
+        assertCounts(TrendingWindow.WEEK, tuple("java", 1L));
+        service.refresh(hours(192));
+        assertThat(service.getTrendingKeywords(TrendingWindow.DAY, 10)).isEmpty();
+        assertCounts(TrendingWindow.WEEK, tuple("java", 1L));
+    }
+
+    @Test
+    void hourGapLongerThanWeekClearsEveryWindow() {
+        record("spring", 5);
+        service.refresh(hours(1));
+
+        service.refresh(hours(1 + 24 * 7));
+
+        for (TrendingWindow window : TrendingWindow.values()) {
+            assertThat(service.getTrendingKeywords(window, 10)).isEmpty();
+        }
+    }
+
+    private void record(String keyword, int times) {
+        for (int i = 0; i < times; i++) {
+            service.record(keyword);
+        }
+    }
+
+    private void assertCounts(TrendingWindow window, Tuple... expected) {
+        assertThat(service.getTrendingKeywords(window, 10))
+                .extracting(TrendingKeywordDto::getKeyword, TrendingKeywordDto::getCount)
+                .containsExactly(expected);
+    }
+
+    private static long minutes(long minutes) {
+        return START + TimeUnit.MINUTES.toMillis(minutes);
+    }
+
+    private static long hours(long hours) {
+        return START + TimeUnit.HOURS.toMillis(hours);
+    }
+}
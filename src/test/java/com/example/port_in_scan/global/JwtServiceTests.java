@@ -0,0 +1,126 @@
+package com.example.port_in_scan.global;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.example.port_in_scan.domain.member.auth.token.InMemoryRefreshTokenStore;
+import com.example.port_in_scan.global.util.Hashes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtServiceTests {
+
+    private static final String SECRET_KEY = "testsecretkeytestsecretkeytestsecretkey";
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(new InMemoryRefreshTokenStore());
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpirationPeriod", 1_800_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpirationPeriod", 1_209_600_000L);
+        ReflectionTestUtils.setField(jwtService, "accessTokenCacheSize", 10);
+        jwtService.initVerifier();
+    }
+
+    @Test
+    void refreshTokensIssuedInTheSameSecondAreUnique() {
+        Set<String> tokens = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            tokens.add(jwtService.createRefreshToken());
+        }
+
+        assertThat(tokens).hasSize(100);
+    }
+
+    @Test
+    void sameSecondLoginsKeepSeparateRefreshTokens() {
+        String tokenA = jwtService.createRefreshToken();
+        String tokenB = jwtService.createRefreshToken();
+        jwtService.updateRefreshToken("a@test.com", tokenA);
+        jwtService.updateRefreshToken("b@test.com", tokenB);
+
+        assertThat(jwtService.findEmailByRefreshToken(tokenA)).contains("a@test.com");
+        assertThat(jwtService.findEmailByRefreshToken(tokenB)).contains("b@test.com");
+
+        // 한 사용자의 로그아웃이 다른 사용자의 토큰을 폐기하지 않음
+        jwtService.revokeRefreshToken(tokenB);
+
+        assertThat(jwtService.findEmailByRefreshToken(tokenA)).contains("a@test.com");
+        assertThat(jwtService.findEmailByRefreshToken(tokenB)).isEmpty();
+    }
+
+    @Test
+    void verifiedAccessTokenIsCachedUntilItExpires() {
+        String token = jwtService.createAccessToken("a@test.com", "ROLE_USER");
+        assertThat(jwtService.verifyAccessToken(token)).map(JwtClaims::email).contains("a@test.com");
+        assertThat(cache()).containsKey(Hashes.sha256(token));
+
+        // 만료 시각이 지난 캐시 항목은 사용하지 않고 토큰을 다시 검증
+        cache().put(Hashes.sha256(token), new JwtClaims("AccessToken", "stale@test.com", "ROLE_USER",
+                Instant.now().minusSeconds(1)));
+
+        assertThat(jwtService.verifyAccessToken(token)).map(JwtClaims::email).contains("a@test.com");
+        assertThat(cache().get(Hashes.sha256(token)).email()).isEqualTo("a@test.com");
+    }
+
+    @Test
+    void expiredAccessTokenIsRejectedAndNotCached() {
+        String expired = JWT.create()
+                .withSubject("AccessToken")
+                .withExpiresAt(new Date(System.currentTimeMillis() - 60_000))
+                .withClaim("email", "a@test.com")
+                .withClaim("role", "ROLE_USER")
+                .sign(Algorithm.HMAC512(SECRET_KEY));
+
+        assertThat(jwtService.verifyAccessToken(expired)).isEmpty();
+        assertThat(cache()).isEmpty();
+    }
+
+    @Test
+    void cacheIsBoundedByCacheSize() {
+        ReflectionTestUtils.setField(jwtService, "accessTokenCacheSize", 2);
+
+        for (int i = 0; i < 5; i++) {
+            String token = jwtService.createAccessToken("user" + i + "@test.com", "ROLE_USER");
+            // 캐시가 가득 차도 검증은 그대로 성공
+            assertThat(jwtService.verifyAccessToken(token)).isPresent();
+        }
+
+        assertThat(cache()).hasSize(2);
+    }
+
+    @Test
+    void zeroCacheSizeDisablesCache() {
+        ReflectionTestUtils.setField(jwtService, "accessTokenCacheSize", 0);
+        String token = jwtService.createAccessToken("a@test.com", "ROLE_USER");
+
+        assertThat(jwtService.verifyAccessToken(token)).isPresent();
+        assertThat(jwtService.verifyAccessToken(token)).isPresent();
+        assertThat(cache()).isEmpty();
+    }
+
+    @Test
+    void refreshTokenIsNotAcceptedAsAccessToken() {
+        String refreshToken = jwtService.createRefreshToken();
+
+        assertThat(jwtService.verify(refreshToken)).isPresent();
+        assertThat(jwtService.verifyAccessToken(refreshToken)).isEmpty();
+        assertThat(jwtService.extractId(refreshToken)).isEmpty();
+        assertThat(cache()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, JwtClaims> cache() {
+        return (Map<String, JwtClaims>) ReflectionTestUtils.getField(jwtService, "verifiedAccessTokens");
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.port_in_scan.global.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FanOutExecutorTests {
+
+    private FanOutExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void forksRunConcurrentlyWithCaller() throws InterruptedException {
+        executor = new FanOutExecutor(true, 4);
+        CountDownLatch forkStarted = new CountDownLatch(1);
+        CountDownLatch callerDone = new CountDownLatch(1);
+
+        try (FanOutExecutor.Scope scope = executor.open()) {
+            // 호출 스레드의 작업이 끝나야 fork 가 끝나므로 순서대로 실행하면 교착
+            Supplier<String> forked = scope.fork(() -> {
+                forkStarted.countDown();
+                await(callerDone);
+                return Thread.currentThread().isVirtual() ? "virtual" : "platform";
+            });
+
+            assertThat(forkStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            callerDone.countDown();
+            scope.join();
+
+            assertThat(forked.get()).isEqualTo("virtual");
+        }
+    }
+
+    @Test
+    void failureCancelsSiblingsAndIsRethrown() throws InterruptedException {
+        executor = new FanOutExecutor(true, 4);
+        CountDownLatch siblingStarted = new CountDownLatch(1);
+        AtomicBoolean siblingInterrupted = new AtomicBoolean();
+
+        try (FanOutExecutor.Scope scope = executor.open()) {
+            scope.fork(() -> {
+                siblingStarted.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    siblingInterrupted.set(true);
+                }
+                return null;
+            });
+            assertThat(siblingStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            scope.fork(() -> {
+                throw new IllegalArgumentException("count failed");
+            });
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("count failed");
+        }
+        assertThat(siblingInterrupted.get()).isTrue();
+    }
+
+    @Test
+    void closingScopeCancelsUnfinishedForks() throws InterruptedException {
+        executor = new FanOutExecutor(true, 4);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        try (FanOutExecutor.Scope scope = executor.open()) {
+            scope.fork(() -> {
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return null;
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            // 호출 스레드의 작업 실패로 join 없이 스코프를 닫는 경우
+        }
+
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void forksRunInlineWhenVirtualThreadsAreDisabled() {
+        executor = new FanOutExecutor(false, 4);
+        Thread caller = Thread.currentThread();
+
+        try (FanOutExecutor.Scope scope = executor.open()) {
+            Supplier<Thread> forked = scope.fork(Thread::currentThread);
+            scope.join();
+
+            assertThat(forked.get()).isSameAs(caller);
+        }
+    }
+
+    @Test
+    void forksBeyondLimitRunInline() throws InterruptedException {
+        executor = new FanOutExecutor(true, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> second = new AtomicReference<>();
+
+        try (FanOutExecutor.Scope scope = executor.open()) {
+            scope.fork(() -> {
+                await(release);
+                return null;
+            });
+            scope.fork(() -> {
+                second.set(Thread.currentThread());
+                return null;
+            });
+            release.countDown();
+            scope.join();
+        }
+
+        assertThat(second.get()).isSameAs(Thread.currentThread());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("timeout");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
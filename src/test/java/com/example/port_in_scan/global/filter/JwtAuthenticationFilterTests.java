@@ -0,0 +1,125 @@
+package com.example.port_in_scan.global.filter;
+
+import com.example.port_in_scan.domain.member.auth.token.InMemoryRefreshTokenStore;
+import com.example.port_in_scan.domain.member.entity.Role;
+import com.example.port_in_scan.domain.member.entity.User;
+import com.example.port_in_scan.domain.member.service.UserCache;
+import com.example.port_in_scan.global.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTests {
+
+    private JwtService jwtService;
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(new InMemoryRefreshTokenStore());
+        ReflectionTestUtils.setField(jwtService, "secretKey", "testsecretkeytestsecretkeytestsecretkey");
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpirationPeriod", 1_800_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpirationPeriod", 1_209_600_000L);
+        ReflectionTestUtils.setField(jwtService, "accessHeader", "Authorization");
+        ReflectionTestUtils.setField(jwtService, "refreshHeader", "Authorization-refresh");
+        ReflectionTestUtils.setField(jwtService, "accessTokenCacheSize", 10);
+        jwtService.initVerifier();
+        userCache = mock(UserCache.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void claimsModeAuthenticatesFromTokenWithoutLookup() throws Exception {
+        authenticate(JwtAuthenticationFilter.AuthenticationMode.CLAIMS,
+                jwtService.createAccessToken("a@test.com", "ROLE_ADMIN"));
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getName()).isEqualTo("a@test.com");
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_ADMIN");
+        verify(userCache, never()).findByEmail(any());
+    }
+
+    @Test
+    void claimsModeFallsBackToCacheForUnknownRole() throws Exception {
+        when(userCache.findByEmail("a@test.com")).thenReturn(Optional.of(user("a@test.com", Role.USER)));
+
+        authenticate(JwtAuthenticationFilter.AuthenticationMode.CLAIMS,
+                jwtService.createAccessToken("a@test.com", "ROLE_UNKNOWN"));
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void databaseModeUsesCachedUserRoleOverClaim() throws Exception {
+        // 토큰 발급 후 권한이 USER 로 바뀐 경우 DATABASE 모드는 바뀐 권한으로 인증
+        when(userCache.findByEmail("a@test.com")).thenReturn(Optional.of(user("a@test.com", Role.USER)));
+
+        authenticate(JwtAuthenticationFilter.AuthenticationMode.DATABASE,
+                jwtService.createAccessToken("a@test.com", "ROLE_ADMIN"));
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void databaseModeDoesNotAuthenticateUnknownUser() throws Exception {
+        when(userCache.findByEmail("gone@test.com")).thenReturn(Optional.empty());
+
+        authenticate(JwtAuthenticationFilter.AuthenticationMode.DATABASE,
+                jwtService.createAccessToken("gone@test.com", "ROLE_USER"));
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void refreshTokenInAccessHeaderIsNotAuthenticated() throws Exception {
+        authenticate(JwtAuthenticationFilter.AuthenticationMode.DATABASE, jwtService.createRefreshToken());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(userCache, never()).findByEmail(any());
+    }
+
+    private void authenticate(JwtAuthenticationFilter.AuthenticationMode mode, String accessToken) throws Exception {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, userCache, mode);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/portfolios");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        MockFilterChain filterChain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        assertThat(filterChain.getRequest()).isSameAs(request);
+    }
+
+    private static User user(String email, Role role) {
+        return User.builder()
+                .email(email)
+                .username(email)
+                .password("password")
+                .role(role)
+                .build();
+    }
+}